@@ -1,4 +1,4 @@
-package com.example.usertemplate.auth.dto;
+package com.example.usertemplate.common.auth;
 
 /** 로그인 응답을 하는 LoginResponse accessToken, refreshToken, tokenType을 반환함. */
 public record LoginResponse(String accessToken, String refreshToken, String tokenType) {
@@ -0,0 +1,22 @@
+package com.example.usertemplate.common.auth;
+
+/**
+ * Refresh Token 회전(compare-and-swap) 결과임.
+ *
+ * @param status 회전 결과
+ * @param id 세션 id(NOT_FOUND이면 null)
+ * @param previousRefreshToken 회전 전 Refresh Token(ROTATED일 때만 존재)
+ */
+public record RefreshTokenRotation(Status status, String id, String previousRefreshToken) {
+
+  public enum Status {
+    // 기존 토큰 쌍이 새 토큰 쌍으로 교체됨
+    ROTATED,
+    // 세션이 없거나 이미 다른 토큰으로 교체됨
+    NOT_FOUND,
+    // 유예 시간 안에 이미 회전된 토큰이 다시 사용됨(동시 갱신)
+    CONCURRENT,
+    // 유예 시간이 지난 뒤 이미 회전된 토큰이 다시 사용됨(세션은 삭제됨)
+    REUSED
+  }
+}
@@ -1,4 +1,4 @@
-package com.example.usertemplate.auth.dto;
+package com.example.usertemplate.common.auth;
 
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
@@ -0,0 +1,7 @@
+package com.example.usertemplate.common.auth;
+
+import java.time.Instant;
+
+/** 로그인 세션 목록 응답인 SessionResponse, current는 요청한 토큰의 세션인지 여부임. */
+public record SessionResponse(
+    String id, Instant createdAt, Instant lastUsedAt, Instant expiresAt, boolean current) {}
@@ -1,4 +1,4 @@
-package com.example.usertemplate.global.exception;
+package com.example.usertemplate.common.exception;
 
 import java.time.LocalDateTime;
 import java.util.List;
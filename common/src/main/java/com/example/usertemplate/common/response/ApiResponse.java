@@ -1,4 +1,4 @@
-package com.example.usertemplate.global.common;
+package com.example.usertemplate.common.response;
 
 import java.time.LocalDateTime;
 
@@ -1,4 +1,4 @@
-package com.example.usertemplate.user.entity;
+package com.example.usertemplate.common.user;
 
 /** user는 USER, ADMIN 권한만 가질 수 있음. */
 public enum Role {
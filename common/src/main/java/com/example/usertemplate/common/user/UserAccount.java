@@ -0,0 +1,26 @@
+package com.example.usertemplate.common.user;
+
+import java.time.LocalDateTime;
+
+/**
+ * 서블릿 앱의 User 엔터티와 게이트웨이의 GatewayUser가 공통으로 제공하는 사용자 정보임.
+ *
+ * <p>- 두 앱은 같은 users 테이블을 JPA와 R2DBC로 각각 매핑하므로 엔터티는 공유하지 않고, 응답 변환(UserResponse.from())에 필요한 값만 이
+ * 인터페이스로 맞춤.
+ */
+public interface UserAccount {
+
+  Long getId();
+
+  String getUsername();
+
+  String getEmail();
+
+  Role getRole();
+
+  boolean isEnabled();
+
+  LocalDateTime getCreatedAt();
+
+  LocalDateTime getUpdatedAt();
+}
@@ -1,10 +1,7 @@
-package com.example.usertemplate.user.dto;
+package com.example.usertemplate.common.user;
 
 import java.time.LocalDateTime;
 
-import com.example.usertemplate.user.entity.Role;
-import com.example.usertemplate.user.entity.User;
-
 public record UserResponse(
     Long id,
     String username,
@@ -13,7 +10,7 @@ public record UserResponse(
     boolean enabled,
     LocalDateTime createdAt,
     LocalDateTime updatedAt) {
-  public static UserResponse from(User user) {
+  public static UserResponse from(UserAccount user) {
     return new UserResponse(
         user.getId(),
         user.getUsername(),
@@ -1,4 +1,4 @@
-package com.example.usertemplate.user.dto;
+package com.example.usertemplate.common.user;
 
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.Size;
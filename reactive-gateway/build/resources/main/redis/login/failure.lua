@@ -0,0 +1,46 @@
+local time = redis.call('TIME')
+local now = time[1] * 1000 + math.floor(time[2] / 1000)
+local window = tonumber(ARGV[2])
+
+local function record(key)
+  redis.call('ZREMRANGEBYSCORE', key, '-inf', now - window)
+  redis.call('ZADD', key, now, ARGV[1])
+  redis.call('PEXPIRE', key, window)
+  return redis.call('ZCARD', key)
+end
+
+local function lock(key, duration)
+  if duration <= 0 or redis.call('PTTL', key) >= duration then
+    return 0
+  end
+  redis.call('SET', key, '1', 'PX', duration)
+  return duration
+end
+
+local ipFailures = record(KEYS[1])
+local userFailures = record(KEYS[2])
+
+local ipLock = 0
+if ipFailures >= tonumber(ARGV[3]) then
+  ipLock = lock(KEYS[3], tonumber(ARGV[4]))
+end
+
+local userLockDuration = 0
+for i = 8, #ARGV, 2 do
+  if userFailures >= tonumber(ARGV[i]) then
+    userLockDuration = tonumber(ARGV[i + 1])
+  end
+end
+
+local accountLocks = 0
+local accountThreshold = tonumber(ARGV[5])
+if accountThreshold > 0 and userFailures >= accountThreshold then
+  accountLocks = redis.call('INCR', KEYS[5])
+  local maxDuration = tonumber(ARGV[7])
+  userLockDuration = math.floor(math.min(tonumber(ARGV[6]) * 2 ^ (accountLocks - 1), maxDuration))
+  redis.call('PEXPIRE', KEYS[5], userLockDuration + maxDuration)
+  redis.call('DEL', KEYS[2])
+end
+local userLock = lock(KEYS[4], userLockDuration)
+
+return {ipFailures, userFailures, ipLock, userLock, accountLocks}
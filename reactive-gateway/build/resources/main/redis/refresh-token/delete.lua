@@ -0,0 +1,5 @@
+local data = redis.call('HGET', KEYS[2], ARGV[1])
+if not data then return 0 end
+redis.call('HDEL', KEYS[3], cjson.decode(data).accessTokenHash)
+redis.call('ZREM', KEYS[1], ARGV[1])
+return redis.call('HDEL', KEYS[2], ARGV[1])
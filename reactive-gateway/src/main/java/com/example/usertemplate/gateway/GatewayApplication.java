@@ -0,0 +1,18 @@
+package com.example.usertemplate.gateway;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+
+/**
+ * WebFlux 기반 인증 게이트웨이임.
+ *
+ * <p>- 서블릿 앱과 같은 인증/관리자 API를 논블로킹으로 제공함. - 같은 DB(R2DBC)와 Redis(Lettuce reactive), 같은 JWT 설정을 사용하므로
+ * 어느 쪽에서 발급한 토큰이든 서로 사용할 수 있음.
+ */
+@SpringBootApplication
+public class GatewayApplication {
+
+  public static void main(String[] args) {
+    SpringApplication.run(GatewayApplication.class, args);
+  }
+}
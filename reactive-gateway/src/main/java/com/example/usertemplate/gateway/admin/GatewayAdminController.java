@@ -0,0 +1,108 @@
+package com.example.usertemplate.gateway.admin;
+
+import jakarta.validation.Valid;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.usertemplate.common.response.ApiResponse;
+import com.example.usertemplate.common.response.PageResponse;
+import com.example.usertemplate.common.user.UserResponse;
+import com.example.usertemplate.common.user.UserUpdateRequest;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+/** 관리자의 로직을 매핑하는 컨트롤러임(서블릿 앱의 AdminController와 같은 경로). */
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/admin")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('ADMIN')")
+public class GatewayAdminController {
+
+  private final GatewayAdminService adminService;
+
+  // 모든 유저를 가져오기 위한 매핑
+  @GetMapping("/users")
+  public Mono<ResponseEntity<ApiResponse<PageResponse<UserResponse>>>> getAllUsers(
+      @RequestParam(defaultValue = "0") int page,
+      @RequestParam(defaultValue = "10") int size,
+      @RequestParam(defaultValue = "id") String sortBy,
+      @RequestParam(defaultValue = "asc") String sortDir) {
+    log.info("Admin: Getting all users - page: {}, size: {}", page, size);
+
+    Sort sort =
+        sortDir.equalsIgnoreCase("desc")
+            ? Sort.by(sortBy).descending()
+            : Sort.by(sortBy).ascending();
+    Pageable pageable = PageRequest.of(page, size, sort);
+
+    return adminService
+        .getAllUsers(pageable)
+        .map(users -> ResponseEntity.ok(ApiResponse.success("Users retrieved successfully", users)))
+        .doOnError(ex -> log.error("Admin: Failed to get all users: ", ex));
+  }
+
+  // 해당 유저 한 명에대한 정보를 가져오기 위한 매핑
+  @GetMapping("/users/{id}")
+  public Mono<ResponseEntity<ApiResponse<UserResponse>>> getUserById(@PathVariable Long id) {
+    log.info("Admin: Getting user by ID: {}", id);
+    return adminService
+        .getUserById(id)
+        .map(user -> ResponseEntity.ok(ApiResponse.success("User retrieved successfully", user)))
+        .doOnError(ex -> log.error("Admin: Failed to get user by ID: ", ex));
+  }
+
+  // 해당 유저 한 명을 바꾸기 위한 매핑
+  @PutMapping("/users/{id}")
+  public Mono<ResponseEntity<ApiResponse<UserResponse>>> updateUser(
+      @PathVariable Long id, @Valid @RequestBody UserUpdateRequest request) {
+    log.info("Admin: Updating user ID: {}", id);
+    return adminService
+        .updateUser(id, request)
+        .map(user -> ResponseEntity.ok(ApiResponse.success("User updated successfully", user)))
+        .doOnError(ex -> log.error("Admin: Failed to update user: ", ex));
+  }
+
+  // 해당 유저 한 명을 삭제하기 위한 매핑
+  @DeleteMapping("/users/{id}")
+  public Mono<ResponseEntity<ApiResponse<Void>>> deleteUser(@PathVariable Long id) {
+    log.info("Admin: Deleting user ID: {}", id);
+    return adminService
+        .deleteUser(id)
+        .then(
+            Mono.fromSupplier(
+                () ->
+                    ResponseEntity.ok(
+                        ApiResponse.<Void>success("User deleted successfully", null))))
+        .doOnError(ex -> log.error("Admin: Failed to delete user: ", ex));
+  }
+
+  // 해당 유저 한 명에게 발급된 모든 토큰을 폐기하기 위한 매핑
+  @PostMapping("/users/{id}/revoke-tokens")
+  public Mono<ResponseEntity<ApiResponse<Void>>> revokeUserTokens(@PathVariable Long id) {
+    log.info("Admin: Revoking tokens for user ID: {}", id);
+    return adminService
+        .revokeUserTokens(id)
+        .then(
+            Mono.fromSupplier(
+                () ->
+                    ResponseEntity.ok(
+                        ApiResponse.<Void>success("User tokens revoked successfully", null))))
+        .doOnError(ex -> log.error("Admin: Failed to revoke user tokens: ", ex));
+  }
+}
@@ -0,0 +1,156 @@
+package com.example.usertemplate.gateway.admin;
+
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import com.example.usertemplate.common.exception.BusinessException;
+import com.example.usertemplate.common.response.PageResponse;
+import com.example.usertemplate.common.user.UserResponse;
+import com.example.usertemplate.common.user.UserUpdateRequest;
+import com.example.usertemplate.gateway.token.ReactiveRevocationService;
+import com.example.usertemplate.gateway.user.GatewayUser;
+import com.example.usertemplate.gateway.user.GatewayUserRepository;
+import com.example.usertemplate.gateway.user.ReactiveUserCache;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/** 관리자 관련 로직을 담당하는 서비스임. 처리 순서와 오류 코드는 서블릿 앱의 AdminServiceImpl과 같음. */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class GatewayAdminService {
+
+  private final GatewayUserRepository userRepository;
+  private final PasswordEncoder passwordEncoder;
+  private final ReactiveUserCache userCache;
+  private final ReactiveRevocationService revocationService;
+
+  public Mono<PageResponse<UserResponse>> getAllUsers(Pageable pageable) {
+    log.info("Admin: Getting all users");
+    return Mono.zip(
+            userRepository.findAllBy(pageable).map(UserResponse::from).collectList(),
+            userRepository.count())
+        .map(
+            page ->
+                PageResponse.of(
+                    page.getT1(), pageable.getPageNumber(), pageable.getPageSize(), page.getT2()));
+  }
+
+  public Mono<UserResponse> getUserById(Long id) {
+    log.info("Admin: Getting user by ID: {}", id);
+    return findUser(id).map(UserResponse::from);
+  }
+
+  public Mono<UserResponse> updateUser(Long id, UserUpdateRequest request) {
+    log.info("Admin: Updating user ID: {}", id);
+
+    return findUser(id)
+        .flatMap(
+            user -> {
+              // 캐시 무효화를 위해 변경 전 값을 보관
+              String previousEmail = user.getEmail();
+              boolean passwordChanged = request.password() != null;
+
+              return applyUsername(user, request.username())
+                  .then(applyEmail(user, request.email()))
+                  .then(passwordChanged ? encode(user, request.password()) : Mono.<Void>empty())
+                  .then(
+                      Mono.defer(
+                          () -> {
+                            // 토큰에 담긴 사용자 정보가 더 이상 최신이 아니므로 보안 버전을 올림
+                            user.bumpSecurityVersion();
+                            return userRepository.save(user);
+                          }))
+                  .flatMap(
+                      updated ->
+                          userCache
+                              .evict(updated, List.of(previousEmail, updated.getEmail()), false)
+                              // 비밀번호가 바뀌면 기존에 발급된 모든 토큰을 폐기
+                              .then(
+                                  passwordChanged
+                                      ? revocationService.revokeAllTokens(id)
+                                      : Mono.<Void>empty())
+                              .thenReturn(updated));
+            })
+        .doOnNext(updated -> log.info("Admin: User updated successfully {}", id))
+        .map(UserResponse::from);
+  }
+
+  public Mono<Void> deleteUser(Long id) {
+    log.info("Admin: Deleting User ID: {}", id);
+
+    return findUser(id)
+        .flatMap(
+            user ->
+                userRepository
+                    .delete(user)
+                    .then(userCache.evict(user, List.of(user.getEmail()), true)))
+        .doOnSuccess(ignored -> log.info("Admin: User deleted successfully: {}", id));
+  }
+
+  public Mono<Void> revokeUserTokens(Long id) {
+    log.info("Admin: Revoking all tokens for user ID: {}", id);
+
+    return userRepository
+        .existsById(id)
+        .flatMap(
+            exists ->
+                exists
+                    ? revocationService.revokeAllTokens(id)
+                    : Mono.error(new BusinessException("User not found", 404, "USER_NOT_FOUND")));
+  }
+
+  private Mono<GatewayUser> findUser(Long id) {
+    return userRepository
+        .findById(id)
+        .switchIfEmpty(
+            Mono.error(() -> new BusinessException("User not found", 404, "USER_NOT_FOUND")));
+  }
+
+  private Mono<Void> applyUsername(GatewayUser user, String username) {
+    if (username == null || username.equals(user.getUsername())) {
+      return Mono.empty();
+    }
+    return userRepository
+        .existsByUsername(username)
+        .flatMap(
+            exists -> {
+              if (exists) {
+                return Mono.error(
+                    new BusinessException("Username already exists", 404, "DUPLICATE_USERNAME"));
+              }
+              user.setUsername(username);
+              return Mono.empty();
+            });
+  }
+
+  private Mono<Void> applyEmail(GatewayUser user, String email) {
+    if (email == null || email.equals(user.getEmail())) {
+      return Mono.empty();
+    }
+    return userRepository
+        .existsByEmail(email)
+        .flatMap(
+            exists -> {
+              if (exists) {
+                return Mono.error(
+                    new BusinessException("Email already exists", 409, "DUPLICATE_EMAIL"));
+              }
+              user.setEmail(email);
+              return Mono.empty();
+            });
+  }
+
+  // BCrypt 해싱은 이벤트 루프를 막지 않도록 boundedElastic에서 실행
+  private Mono<Void> encode(GatewayUser user, String rawPassword) {
+    return Mono.fromRunnable(() -> user.setPassword(passwordEncoder.encode(rawPassword)))
+        .subscribeOn(Schedulers.boundedElastic())
+        .then();
+  }
+}
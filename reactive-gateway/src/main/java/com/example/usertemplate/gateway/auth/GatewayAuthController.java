@@ -0,0 +1,155 @@
+package com.example.usertemplate.gateway.auth;
+
+import java.net.InetSocketAddress;
+import java.util.List;
+
+import jakarta.validation.Valid;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.usertemplate.common.auth.LoginRequest;
+import com.example.usertemplate.common.auth.LoginResponse;
+import com.example.usertemplate.common.auth.RegisterRequest;
+import com.example.usertemplate.common.auth.SessionResponse;
+import com.example.usertemplate.common.exception.BusinessException;
+import com.example.usertemplate.common.response.ApiResponse;
+import com.example.usertemplate.common.user.UserResponse;
+import com.example.usertemplate.gateway.security.BearerTokenConverter;
+import com.example.usertemplate.gateway.user.GatewayUser;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+/** 로그인, 회원가입, 토큰 갱신, 세션 관리를 매핑하는 컨트롤러임(서블릿 앱의 AuthController와 같은 경로). */
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/auth")
+@RequiredArgsConstructor
+public class GatewayAuthController {
+
+  private final GatewayAuthService authService;
+
+  // 회원가입을 처리하는 매핑임.
+  @PostMapping("/register")
+  public Mono<ResponseEntity<ApiResponse<UserResponse>>> register(
+      @Valid @RequestBody RegisterRequest request) {
+    return authService
+        .register(request)
+        .map(
+            userResponse ->
+                ResponseEntity.status(HttpStatus.CREATED)
+                    .body(ApiResponse.success("User registered successfully", userResponse)))
+        .doOnError(e -> log.error("Registration failed: ", e));
+  }
+
+  // 로그인을 처리하는 매핑임.
+  @PostMapping("/login")
+  public Mono<ResponseEntity<ApiResponse<LoginResponse>>> login(
+      @Valid @RequestBody LoginRequest request, ServerHttpRequest httpRequest) {
+    return authService
+        .login(request, clientIp(httpRequest))
+        .map(response -> ResponseEntity.ok(ApiResponse.success("Login successful", response)))
+        .doOnError(e -> log.error("Login failed: ", e));
+  }
+
+  @PostMapping("/logout")
+  public Mono<ResponseEntity<ApiResponse<Void>>> logout(
+      @RequestHeader("Authorization") final String accessToken) {
+    String token = BearerTokenConverter.extractToken(accessToken);
+    if (token == null) {
+      return Mono.error(invalidToken());
+    }
+    return authService.logout(token).then(Mono.fromSupplier(() -> ok("logout successful")));
+  }
+
+  @PostMapping("/logout-all")
+  public Mono<ResponseEntity<ApiResponse<Void>>> logoutAll(
+      @AuthenticationPrincipal GatewayUser user) {
+    if (user == null) {
+      return Mono.error(authenticationRequired());
+    }
+    // 사용자 단위 폐기 시각을 갱신하여 지금까지 발급된 모든 토큰을 무효화
+    return authService
+        .logoutAll(user.getId())
+        .then(Mono.fromSupplier(() -> ok("logout from all devices successful")));
+  }
+
+  @GetMapping("/sessions")
+  public Mono<ResponseEntity<ApiResponse<List<SessionResponse>>>> getSessions(
+      @AuthenticationPrincipal GatewayUser user,
+      @RequestHeader(value = "Authorization", required = false) final String accessToken) {
+    if (user == null) {
+      return Mono.error(authenticationRequired());
+    }
+    return authService
+        .getSessions(user.getId(), BearerTokenConverter.extractToken(accessToken))
+        .map(
+            sessions ->
+                ResponseEntity.ok(
+                    ApiResponse.success("Sessions retrieved successfully", sessions)));
+  }
+
+  @DeleteMapping("/sessions/{sessionId}")
+  public Mono<ResponseEntity<ApiResponse<Void>>> revokeSession(
+      @AuthenticationPrincipal GatewayUser user, @PathVariable String sessionId) {
+    if (user == null) {
+      return Mono.error(authenticationRequired());
+    }
+    // 해당 세션의 Refresh Token으로는 더 이상 토큰을 갱신할 수 없음
+    return authService
+        .revokeSession(user.getId(), sessionId)
+        .then(Mono.fromSupplier(() -> ok("Session revoked successfully")));
+  }
+
+  @PostMapping("/refresh")
+  public Mono<ResponseEntity<ApiResponse<LoginResponse>>> refresh(
+      @RequestHeader("Authorization") final String accessToken) {
+    String token = BearerTokenConverter.extractToken(accessToken);
+    if (token == null) {
+      return Mono.error(invalidToken());
+    }
+    return authService
+        .refresh(token)
+        .map(
+            response ->
+                ResponseEntity.ok(ApiResponse.success("Token refreshed successfully", response)))
+        .defaultIfEmpty(
+            ResponseEntity.badRequest()
+                .body(ApiResponse.error("Invalid or expired refresh token")));
+  }
+
+  // 서블릿 앱의 HttpServletRequest.getRemoteAddr()와 같은 형식의 IP 문자열
+  private static String clientIp(ServerHttpRequest request) {
+    InetSocketAddress remoteAddress = request.getRemoteAddress();
+    if (remoteAddress == null) {
+      return "unknown";
+    }
+    return remoteAddress.getAddress() != null
+        ? remoteAddress.getAddress().getHostAddress()
+        : remoteAddress.getHostString();
+  }
+
+  private static ResponseEntity<ApiResponse<Void>> ok(String message) {
+    return ResponseEntity.ok(ApiResponse.success(message, null));
+  }
+
+  private static BusinessException invalidToken() {
+    return new BusinessException("Invalid token", 401, "INVALID_TOKEN");
+  }
+
+  private static BusinessException authenticationRequired() {
+    return new BusinessException("Authentication required", 401, "AUTHENTICATION_REQUIRED");
+  }
+}
@@ -0,0 +1,269 @@
+package com.example.usertemplate.gateway.auth;
+
+import java.util.List;
+
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.ReactiveAuthenticationManager;
+import org.springframework.security.authentication.UserDetailsRepositoryReactiveAuthenticationManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import com.example.usertemplate.common.auth.LoginRequest;
+import com.example.usertemplate.common.auth.LoginResponse;
+import com.example.usertemplate.common.auth.RefreshTokenRotation;
+import com.example.usertemplate.common.auth.RegisterRequest;
+import com.example.usertemplate.common.auth.SessionResponse;
+import com.example.usertemplate.common.exception.BusinessException;
+import com.example.usertemplate.common.user.Role;
+import com.example.usertemplate.common.user.UserResponse;
+import com.example.usertemplate.gateway.security.GatewayJwtProvider;
+import com.example.usertemplate.gateway.security.VerifiedToken;
+import com.example.usertemplate.gateway.token.ReactiveBlacklistService;
+import com.example.usertemplate.gateway.token.ReactiveRefreshTokenStore;
+import com.example.usertemplate.gateway.token.ReactiveRevocationService;
+import com.example.usertemplate.gateway.user.GatewayUser;
+import com.example.usertemplate.gateway.user.GatewayUserDetailsService;
+import com.example.usertemplate.gateway.user.GatewayUserRepository;
+import com.example.usertemplate.gateway.user.ReactiveUserCache;
+
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * 회원가입, 로그인, 로그아웃, 토큰 갱신, 세션 관리를 처리하는 서비스임.
+ *
+ * <p>- 처리 순서와 오류 코드는 서블릿 앱의 AuthController, AuthServiceImpl과 같음. - BCrypt 해싱은 CPU를 오래 쓰므로 이벤트 루프가
+ * 아닌 boundedElastic 스케줄러에서 실행함(로그인 검증은 UserDetailsRepositoryReactiveAuthenticationManager가 같은 스케줄러를
+ * 사용함). - 로그인은 인증 전에 ReactiveLoginRateLimiter로 잠금을 확인하고, 비밀번호가 틀리면 서블릿 앱과 같은 Redis 실패 기록에 남김.
+ */
+@Slf4j
+@Service
+public class GatewayAuthService {
+
+  private final GatewayUserRepository userRepository;
+  private final ReactiveUserCache userCache;
+  private final PasswordEncoder passwordEncoder;
+  private final GatewayJwtProvider jwtProvider;
+  private final ReactiveRefreshTokenStore refreshTokenStore;
+  private final ReactiveBlacklistService blacklistService;
+  private final ReactiveRevocationService revocationService;
+  private final ReactiveLoginRateLimiter loginRateLimiter;
+  private final ReactiveAuthenticationManager loginAuthenticationManager;
+
+  public GatewayAuthService(
+      GatewayUserRepository userRepository,
+      ReactiveUserCache userCache,
+      PasswordEncoder passwordEncoder,
+      GatewayJwtProvider jwtProvider,
+      ReactiveRefreshTokenStore refreshTokenStore,
+      ReactiveBlacklistService blacklistService,
+      ReactiveRevocationService revocationService,
+      ReactiveLoginRateLimiter loginRateLimiter,
+      GatewayUserDetailsService userDetailsService) {
+    this.userRepository = userRepository;
+    this.userCache = userCache;
+    this.passwordEncoder = passwordEncoder;
+    this.jwtProvider = jwtProvider;
+    this.refreshTokenStore = refreshTokenStore;
+    this.blacklistService = blacklistService;
+    this.revocationService = revocationService;
+    this.loginRateLimiter = loginRateLimiter;
+
+    UserDetailsRepositoryReactiveAuthenticationManager manager =
+        new UserDetailsRepositoryReactiveAuthenticationManager(userDetailsService);
+    manager.setPasswordEncoder(passwordEncoder);
+    manager.setUserDetailsPasswordService(userDetailsService);
+    this.loginAuthenticationManager = manager;
+  }
+
+  public Mono<UserResponse> register(RegisterRequest request) {
+    log.info("Registering new user with username: {}", request.username());
+
+    return userRepository
+        .existsByUsername(request.username())
+        .flatMap(
+            exists ->
+                exists
+                    ? Mono.error(
+                        new BusinessException("Username already exists", 409, "DUPLICATE_USERNAME"))
+                    : userRepository.existsByEmail(request.email()))
+        .flatMap(
+            exists ->
+                exists
+                    ? Mono.error(
+                        new BusinessException("Email already exists", 409, "DUPLICATE_EMAIL"))
+                    : encode(request.password()))
+        .flatMap(
+            encodedPassword ->
+                userRepository.save(
+                    GatewayUser.builder()
+                        .username(request.username())
+                        .email(request.email())
+                        .password(encodedPassword)
+                        .role(Role.USER)
+                        .build()))
+        .doOnNext(user -> log.info("User registered successfully with ID: {}", user.getId()))
+        // 서블릿 앱의 존재 인덱스가 새 username/email을 알 수 있도록 알림
+        .flatMap(user -> userCache.evict(user, List.of(), false).thenReturn(user))
+        .map(UserResponse::from);
+  }
+
+  /**
+   * 잠금을 확인한 뒤 사용자를 인증하고 토큰 쌍을 발급함.
+   *
+   * @param clientIp 요청한 클라이언트 IP(로그인 시도 제한에 사용)
+   */
+  public Mono<LoginResponse> login(LoginRequest request, String clientIp) {
+    log.info("Attempting login for username: {}", request.username());
+
+    // 1. 잠금 확인(잠겨 있으면 BCrypt 해싱 전에 거절함)
+    return loginRateLimiter
+        .checkAllowed(clientIp, request.username())
+        // 2. 인증(없는 사용자도 BadCredentialsException이므로 사용자 이름 추측 시도까지 함께 기록됨)
+        .then(
+            Mono.defer(
+                () ->
+                    loginAuthenticationManager.authenticate(
+                        UsernamePasswordAuthenticationToken.unauthenticated(
+                            request.username(), request.password()))))
+        .onErrorResume(
+            BadCredentialsException.class,
+            e -> loginRateLimiter.recordFailure(clientIp, request.username()).then(Mono.error(e)))
+        .flatMap(
+            authentication ->
+                loginRateLimiter.recordSuccess(request.username()).thenReturn(authentication))
+        .flatMap(
+            authentication -> {
+              GatewayUser user = (GatewayUser) authentication.getPrincipal();
+              String accessToken = jwtProvider.generateAccessToken(user.getId());
+              String refreshToken = jwtProvider.generateRefreshToken(user.getId());
+              log.info("Tokens generated for user: {}", user.getUsername());
+              return refreshTokenStore
+                  .save(user.getId(), refreshToken, accessToken)
+                  .thenReturn(LoginResponse.of(accessToken, refreshToken));
+            });
+  }
+
+  // 현재 세션을 삭제하고 Access Token을 블랙리스트에 등록
+  public Mono<Void> logout(String accessToken) {
+    VerifiedToken verifiedToken =
+        jwtProvider.verify(accessToken).orElseThrow(GatewayAuthService::invalidToken);
+
+    return refreshTokenStore
+        .findByAccessToken(verifiedToken.userId(), accessToken)
+        .switchIfEmpty(Mono.error(IllegalArgumentException::new))
+        .flatMap(session -> refreshTokenStore.delete(session.id(), session.userId()))
+        .then(blacklistService.addToBlacklist(verifiedToken, accessToken));
+  }
+
+  public Mono<Void> logoutAll(Long userId) {
+    return revocationService.revokeAllTokens(userId);
+  }
+
+  public Mono<List<SessionResponse>> getSessions(Long userId, String currentAccessToken) {
+    return refreshTokenStore.findSessions(userId, currentAccessToken);
+  }
+
+  public Mono<Void> revokeSession(Long userId, String sessionId) {
+    return refreshTokenStore
+        .delete(sessionId, userId)
+        .flatMap(
+            deleted ->
+                deleted
+                    ? Mono.<Void>empty()
+                    : Mono.error(
+                        new BusinessException("Session not found", 404, "SESSION_NOT_FOUND")));
+  }
+
+  /**
+   * 만료되었을 수 있는 Access Token으로 토큰 쌍을 회전함.
+   *
+   * @param accessToken 현재 Access Token
+   * @return 새 토큰 쌍, 세션이 없거나 Refresh Token이 유효하지 않으면 empty
+   */
+  public Mono<LoginResponse> refresh(String accessToken) {
+    // 1. 액세스 토큰의 서명을 검증하고 사용자 ID를 얻음(만료는 허용)
+    VerifiedToken verifiedAccessToken =
+        jwtProvider
+            .verifyIgnoringExpiration(accessToken)
+            .orElseThrow(GatewayAuthService::invalidToken);
+
+    return revocationService
+        .isRevoked(verifiedAccessToken)
+        .flatMap(
+            revoked -> {
+              // 2. 사용자 단위로 폐기된 토큰이면 세션을 삭제
+              if (revoked) {
+                return refreshTokenStore
+                    .findByAccessToken(verifiedAccessToken.userId(), accessToken)
+                    .flatMap(session -> refreshTokenStore.delete(session.id(), session.userId()))
+                    .then(Mono.<LoginResponse>empty());
+              }
+              // 3. 사용자 정보 조회(사용자 캐시)
+              return userCache
+                  .findById(verifiedAccessToken.userId())
+                  .switchIfEmpty(
+                      Mono.error(
+                          () -> new BusinessException("User not found", 404, "USER_NOT_FOUND")))
+                  .flatMap(user -> rotate(user, accessToken));
+            });
+  }
+
+  private Mono<LoginResponse> rotate(GatewayUser user, String accessToken) {
+    // 4. 새로운 토큰 생성 (Access, Refresh 둘 다)
+    String newAccessToken = jwtProvider.generateAccessToken(user.getId());
+    String newRefreshToken = jwtProvider.generateRefreshToken(user.getId());
+
+    // 5. 기존 토큰 쌍을 새 토큰 쌍으로 원자적으로 교체 (Rotation)
+    return refreshTokenStore
+        .rotate(user.getId(), accessToken, newAccessToken, newRefreshToken)
+        .flatMap(
+            rotation ->
+                switch (rotation.status()) {
+                  case NOT_FOUND -> Mono.<LoginResponse>empty();
+                  case CONCURRENT ->
+                      Mono.<LoginResponse>error(
+                          new BusinessException(
+                              "Token has already been refreshed", 409, "REFRESH_IN_PROGRESS"));
+                  case REUSED -> {
+                    log.warn("Refresh token reuse detected for user: {}", user.getUsername());
+                    yield Mono.<LoginResponse>error(
+                        new BusinessException(
+                            "Refresh token reuse detected", 401, "REFRESH_TOKEN_REUSED"));
+                  }
+                  case ROTATED ->
+                      verifyPreviousRefreshToken(user, rotation)
+                          .flatMap(
+                              valid ->
+                                  valid
+                                      ? Mono.just(LoginResponse.of(newAccessToken, newRefreshToken))
+                                      : refreshTokenStore
+                                          .delete(rotation.id(), user.getId())
+                                          .then(Mono.<LoginResponse>empty()));
+                })
+        .doOnNext(
+            ignored -> log.info("Token refreshed and rotated for user: {}", user.getUsername()));
+  }
+
+  // 회전된 기존 RefreshToken의 유효성 검증(실패하면 새 세션도 삭제)
+  private Mono<Boolean> verifyPreviousRefreshToken(
+      GatewayUser user, RefreshTokenRotation rotation) {
+    return jwtProvider
+        .verify(rotation.previousRefreshToken())
+        .filter(verified -> user.getId().equals(verified.userId()))
+        .map(verified -> revocationService.isRevoked(verified).map(revoked -> !revoked))
+        .orElseGet(() -> Mono.just(false));
+  }
+
+  // BCrypt 해싱은 이벤트 루프를 막지 않도록 boundedElastic에서 실행
+  private Mono<String> encode(String rawPassword) {
+    return Mono.fromCallable(() -> passwordEncoder.encode(rawPassword))
+        .subscribeOn(Schedulers.boundedElastic());
+  }
+
+  private static BusinessException invalidToken() {
+    return new BusinessException("Invalid token", 401, "INVALID_TOKEN");
+  }
+}
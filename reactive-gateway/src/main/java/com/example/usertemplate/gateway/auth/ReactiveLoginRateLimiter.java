@@ -0,0 +1,187 @@
+package com.example.usertemplate.gateway.auth;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import com.example.usertemplate.common.exception.BusinessException;
+
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * 서블릿 앱의 LoginRateLimiter와 같은 Redis 키와 Lua 스크립트로 로그인 실패를 기록하고 잠금을 확인하는 서비스임.
+ *
+ * <p>- 인증 전에 login:lock:ip:*, login:lock:user:* 잠금을 Redis에서 직접 확인함(블랙리스트와 같이 로컬 목록 없이 논블로킹 조회). -
+ * 실패는 서블릿 앱과 같은 failure.lua로 기록하므로 두 앱의 실패 윈도, 단계별 잠금, 계정 잠금 횟수가 합쳐짐. - 새 잠금은 login-lock:added 채널로
+ * 알려 서블릿 앱 노드의 로컬 잠금 목록에도 반영됨. - login.rate-limit.* 설정은 서블릿 앱과 같아야 함. - IP별 토큰 버킷은 서블릿 앱 노드 로컬
+ * 상태이므로 게이트웨이에는 없으며, IP 실패 수에 따른 잠금만 적용됨.
+ */
+@Slf4j
+@Service
+public class ReactiveLoginRateLimiter {
+
+  public static final String LOCK_CHANNEL = "login-lock:added";
+
+  private static final String FAILURE_KEY_PREFIX = "login:fail:";
+  private static final String LOCK_KEY_PREFIX = "login:lock:";
+  private static final String LOCK_COUNT_KEY_PREFIX = "login:lock-count:";
+  private static final String IP_PREFIX = "ip:";
+  private static final String USER_PREFIX = "user:";
+
+  // 서블릿 앱과 같은 스크립트(반환값: {IP 실패 수, 사용자 실패 수, 새 IP 잠금 시간, 새 사용자 잠금 시간, 계정 잠금 횟수})
+  @SuppressWarnings("rawtypes")
+  private static final RedisScript<List> FAILURE_SCRIPT =
+      RedisScript.of(new ClassPathResource("redis/login/failure.lua"), List.class);
+
+  private final ReactiveStringRedisTemplate redisTemplate;
+  private final boolean enabled;
+  private final List<String> failureArgs;
+
+  public ReactiveLoginRateLimiter(
+      ReactiveStringRedisTemplate redisTemplate,
+      @Value("${login.rate-limit.enabled:true}") boolean enabled,
+      @Value("${login.rate-limit.failure-window:3600000}") long failureWindow,
+      @Value("${login.rate-limit.ip.max-failures:100}") int ipMaxFailures,
+      @Value("${login.rate-limit.ip.lock-duration:900000}") long ipLockDuration,
+      @Value("${login.rate-limit.user.lock-thresholds:5,10,15}") int[] userLockThresholds,
+      @Value("${login.rate-limit.user.lock-durations:60000,300000,900000}")
+          long[] userLockDurations,
+      @Value("${login.rate-limit.user.account-lock-threshold:20}") int accountLockThreshold,
+      @Value("${login.rate-limit.user.account-lock-duration:3600000}") long accountLockDuration,
+      @Value("${login.rate-limit.user.account-lock-max-duration:86400000}")
+          long accountLockMaxDuration) {
+    if (userLockThresholds.length != userLockDurations.length) {
+      throw new IllegalArgumentException(
+          "login.rate-limit.user.lock-thresholds and lock-durations must have the same length");
+    }
+    this.redisTemplate = redisTemplate;
+    this.enabled = enabled;
+
+    // 요청마다 바뀌는 첫 인자(실패 기록 ID)를 뺀 나머지 Lua 스크립트 인자
+    this.failureArgs = new ArrayList<>();
+    failureArgs.add(String.valueOf(failureWindow));
+    failureArgs.add(String.valueOf(ipMaxFailures));
+    failureArgs.add(String.valueOf(ipLockDuration));
+    failureArgs.add(String.valueOf(accountLockThreshold));
+    failureArgs.add(String.valueOf(accountLockDuration));
+    failureArgs.add(String.valueOf(Math.max(accountLockDuration, accountLockMaxDuration)));
+    for (int i = 0; i < userLockThresholds.length; i++) {
+      failureArgs.add(String.valueOf(userLockThresholds[i]));
+      failureArgs.add(String.valueOf(userLockDurations[i]));
+    }
+  }
+
+  /**
+   * IP나 사용자 이름이 잠겨 있는지 확인함.
+   *
+   * @return 잠겨 있으면 BusinessException(429, LOGIN_LOCKED)으로 끝나는 Mono
+   */
+  public Mono<Void> checkAllowed(String clientIp, String username) {
+    if (!enabled) {
+      return Mono.empty();
+    }
+    return Flux.concat(
+            redisTemplate.getExpire(LOCK_KEY_PREFIX + IP_PREFIX + clientIp),
+            redisTemplate.getExpire(LOCK_KEY_PREFIX + userKey(username)))
+        .any(remaining -> !remaining.isNegative() && !remaining.isZero())
+        .flatMap(
+            locked ->
+                locked
+                    ? Mono.error(
+                        new BusinessException(
+                            "Too many failed login attempts, please retry later",
+                            429,
+                            "LOGIN_LOCKED"))
+                    : Mono.empty());
+  }
+
+  /**
+   * 비밀번호가 틀린 로그인을 기록하고 새 잠금을 알림.
+   *
+   * <p>Redis 장애로 기록하지 못해도 원래의 인증 실패 응답이 나가도록 오류를 전파하지 않음.
+   */
+  public Mono<Void> recordFailure(String clientIp, String username) {
+    if (!enabled) {
+      return Mono.empty();
+    }
+    String userKey = userKey(username);
+    List<String> args = new ArrayList<>(1 + failureArgs.size());
+    args.add(Long.toHexString(ThreadLocalRandom.current().nextLong()));
+    args.addAll(failureArgs);
+
+    return redisTemplate
+        .execute(
+            FAILURE_SCRIPT,
+            List.of(
+                FAILURE_KEY_PREFIX + IP_PREFIX + clientIp,
+                FAILURE_KEY_PREFIX + userKey,
+                LOCK_KEY_PREFIX + IP_PREFIX + clientIp,
+                LOCK_KEY_PREFIX + userKey,
+                LOCK_COUNT_KEY_PREFIX + userKey),
+            args)
+        .collectList()
+        .flatMap(
+            items -> {
+              List<?> result =
+                  items.size() == 1 && items.get(0) instanceof List<?> nested ? nested : items;
+              long accountLocks = ((Number) result.get(4)).longValue();
+              if (accountLocks > 0) {
+                log.warn(
+                    "Account locked after repeated login failures: {} (lock #{})",
+                    username,
+                    accountLocks);
+              }
+              return publishLock(IP_PREFIX + clientIp, ((Number) result.get(2)).longValue())
+                  .then(publishLock(userKey, ((Number) result.get(3)).longValue()));
+            })
+        .onErrorResume(
+            e -> {
+              log.warn("Failed to record login failure for {}: {}", username, e.getMessage());
+              return Mono.empty();
+            });
+  }
+
+  // 로그인에 성공하면 사용자의 실패 기록을 지움(IP 기록은 다른 계정 시도를 위해 유지)
+  public Mono<Void> recordSuccess(String username) {
+    if (!enabled) {
+      return Mono.empty();
+    }
+    return redisTemplate
+        .delete(FAILURE_KEY_PREFIX + userKey(username))
+        .then()
+        .onErrorResume(
+            e -> {
+              log.warn("Failed to reset login failures for {}: {}", username, e.getMessage());
+              return Mono.empty();
+            });
+  }
+
+  // 서블릿 앱 노드가 로컬 잠금 목록에 반영하도록 잠금 해제 시각을 알림
+  private Mono<Void> publishLock(String key, long duration) {
+    if (duration <= 0) {
+      return Mono.empty();
+    }
+    long until = System.currentTimeMillis() + duration;
+    log.warn("Login locked for {} ({} ms)", key, duration);
+    return redisTemplate.convertAndSend(LOCK_CHANNEL, key + ":" + until).then();
+  }
+
+  // 서블릿 앱의 UserExistenceIndex.normalize()와 같은 규칙(같은 행을 가리키는 이름이 같은 기록을 씀)
+  private static String userKey(String username) {
+    return USER_PREFIX
+        + Normalizer.normalize(username, Normalizer.Form.NFD)
+            .replaceAll("\\p{M}", "")
+            .toLowerCase(Locale.ROOT)
+            .strip();
+  }
+}
@@ -0,0 +1,9 @@
+package com.example.usertemplate.gateway.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.r2dbc.config.EnableR2dbcAuditing;
+
+/** R2DBC의 설정을 담당하는 R2dbcConfig(createdAt, updatedAt 자동 기록) */
+@Configuration
+@EnableR2dbcAuditing
+public class R2dbcConfig {}
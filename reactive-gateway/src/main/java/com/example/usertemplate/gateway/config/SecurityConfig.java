@@ -0,0 +1,112 @@
+package com.example.usertemplate.gateway.config;
+
+import java.util.Map;
+
+import org.springframework.boot.actuate.autoconfigure.security.reactive.EndpointRequest;
+import org.springframework.boot.actuate.health.HealthEndpoint;
+import org.springframework.boot.actuate.info.InfoEndpoint;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
+import org.springframework.security.config.annotation.method.configuration.EnableReactiveMethodSecurity;
+import org.springframework.security.config.annotation.web.reactive.EnableWebFluxSecurity;
+import org.springframework.security.config.web.server.SecurityWebFiltersOrder;
+import org.springframework.security.config.web.server.ServerHttpSecurity;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.web.server.SecurityWebFilterChain;
+import org.springframework.security.web.server.authentication.AuthenticationWebFilter;
+import org.springframework.security.web.server.context.NoOpServerSecurityContextRepository;
+
+import com.example.usertemplate.gateway.security.BearerTokenConverter;
+import com.example.usertemplate.gateway.security.GatewayJwtProvider;
+import com.example.usertemplate.gateway.security.JsonSecurityErrorHandler;
+import com.example.usertemplate.gateway.security.JwtReactiveAuthenticationManager;
+import com.example.usertemplate.gateway.token.ReactiveBlacklistService;
+import com.example.usertemplate.gateway.token.ReactiveRevocationService;
+import com.example.usertemplate.gateway.user.ReactiveUserCache;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 게이트웨이의 보안을 담당하는 SecurityConfig임.
+ *
+ * <p>- 서블릿 앱과 같은 공개/관리자 경로 규칙을 사용함. - 세션을 만들지 않으며(NoOpServerSecurityContextRepository) 요청마다 Bearer
+ * 토큰으로 인증함. - 토큰 검증에 실패해도 요청은 인증되지 않은 상태로 계속 진행됨(서블릿 앱의 JWT 필터와 같음). 만료된 토큰으로 /api/v1/auth/refresh를
+ * 호출할 수 있어야 하기 때문임.
+ */
+@Configuration
+@EnableWebFluxSecurity
+@EnableReactiveMethodSecurity
+@RequiredArgsConstructor
+public class SecurityConfig {
+
+  private static final String BCRYPT_ID = "bcrypt";
+
+  private final JsonSecurityErrorHandler jsonSecurityErrorHandler;
+
+  // 서블릿 앱과 같은 {bcrypt} 형식의 PasswordEncoder(접두사 없는 기존 해시도 검증)
+  @Bean
+  public PasswordEncoder passwordEncoder() {
+    DelegatingPasswordEncoder encoder =
+        new DelegatingPasswordEncoder(BCRYPT_ID, Map.of(BCRYPT_ID, new BCryptPasswordEncoder()));
+    encoder.setDefaultPasswordEncoderForMatches(new BCryptPasswordEncoder());
+    return encoder;
+  }
+
+  @Bean
+  public SecurityWebFilterChain securityWebFilterChain(
+      ServerHttpSecurity http,
+      GatewayJwtProvider jwtProvider,
+      ReactiveBlacklistService blacklistService,
+      ReactiveRevocationService revocationService,
+      ReactiveUserCache userCache) {
+    AuthenticationWebFilter jwtFilter =
+        new AuthenticationWebFilter(
+            new JwtReactiveAuthenticationManager(
+                jwtProvider, blacklistService, revocationService, userCache));
+    jwtFilter.setServerAuthenticationConverter(new BearerTokenConverter());
+    jwtFilter.setSecurityContextRepository(NoOpServerSecurityContextRepository.getInstance());
+    // 검증에 실패한 토큰은 인증 정보 없이 다음 필터로 넘김(접근 제어는 authorizeExchange가 담당)
+    jwtFilter.setAuthenticationFailureHandler(
+        (webFilterExchange, exception) ->
+            webFilterExchange.getChain().filter(webFilterExchange.getExchange()));
+
+    return http.csrf(ServerHttpSecurity.CsrfSpec::disable)
+        .cors(ServerHttpSecurity.CorsSpec::disable)
+        .httpBasic(ServerHttpSecurity.HttpBasicSpec::disable)
+        .formLogin(ServerHttpSecurity.FormLoginSpec::disable)
+        .logout(ServerHttpSecurity.LogoutSpec::disable)
+        .securityContextRepository(NoOpServerSecurityContextRepository.getInstance())
+        .authorizeExchange(
+            exchanges ->
+                exchanges
+                    // 공개 엔드포인트
+                    .pathMatchers("/api/v1/auth/**")
+                    .permitAll()
+                    .pathMatchers(HttpMethod.OPTIONS)
+                    .permitAll()
+
+                    // Actuator: health, info만 공개하고 나머지는 관리자만 조회
+                    .matchers(EndpointRequest.to(HealthEndpoint.class, InfoEndpoint.class))
+                    .permitAll()
+                    .matchers(EndpointRequest.toAnyEndpoint())
+                    .hasRole("ADMIN")
+
+                    // 관리자 전용 엔드포인트
+                    .pathMatchers("/api/v1/admin/**")
+                    .hasRole("ADMIN")
+
+                    // 나머지는 인증 필요
+                    .anyExchange()
+                    .authenticated())
+        .exceptionHandling(
+            exceptions ->
+                exceptions
+                    .authenticationEntryPoint(jsonSecurityErrorHandler)
+                    .accessDeniedHandler(jsonSecurityErrorHandler))
+        .addFilterAt(jwtFilter, SecurityWebFiltersOrder.AUTHENTICATION)
+        .build();
+  }
+}
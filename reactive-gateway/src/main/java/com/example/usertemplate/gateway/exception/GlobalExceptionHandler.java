@@ -0,0 +1,81 @@
+package com.example.usertemplate.gateway.exception;
+
+import java.util.List;
+
+import org.springframework.core.codec.DecodingException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.bind.support.WebExchangeBindException;
+
+import com.example.usertemplate.common.exception.BusinessException;
+import com.example.usertemplate.common.exception.ErrorResponse;
+
+import lombok.extern.slf4j.Slf4j;
+
+/** 서블릿 앱의 GlobalExceptionHandler와 같은 형식으로 오류를 응답하는 핸들러임. */
+@Slf4j
+@RestControllerAdvice
+public class GlobalExceptionHandler {
+
+  @ExceptionHandler(IllegalArgumentException.class)
+  public ResponseEntity<ErrorResponse> handleIllegalArgumentException(IllegalArgumentException ex) {
+    log.error("IllegalArgumentException: ", ex);
+    ErrorResponse errorResponse = ErrorResponse.of(ex.getMessage(), "INVALID_ARGUMENT");
+    return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
+  }
+
+  @ExceptionHandler(BusinessException.class)
+  public ResponseEntity<ErrorResponse> handleBusinessException(BusinessException ex) {
+    log.error("BusinessException: ", ex);
+    ErrorResponse errorResponse = ErrorResponse.of(ex.getMessage(), ex.getErrorCode());
+    return new ResponseEntity<>(errorResponse, HttpStatus.valueOf(ex.getStatusCode()));
+  }
+
+  @ExceptionHandler(AuthenticationException.class)
+  public ResponseEntity<ErrorResponse> handleAuthenticationException(AuthenticationException ex) {
+    log.error("AuthenticationException: ", ex);
+    ErrorResponse errorResponse =
+        ErrorResponse.of("Authentication failed", "AUTHENTICATION_FAILED");
+    return new ResponseEntity<>(errorResponse, HttpStatus.UNAUTHORIZED);
+  }
+
+  @ExceptionHandler(AccessDeniedException.class)
+  public ResponseEntity<ErrorResponse> handleAccessDeniedException(AccessDeniedException ex) {
+    log.error("AccessDeniedException: ", ex);
+    ErrorResponse errorResponse = ErrorResponse.of("Access denied", "ACCESS_DENIED");
+    return new ResponseEntity<>(errorResponse, HttpStatus.FORBIDDEN);
+  }
+
+  @ExceptionHandler(WebExchangeBindException.class)
+  public ResponseEntity<ErrorResponse> handleValidationException(WebExchangeBindException ex) {
+    log.error("WebExchangeBindException: ", ex);
+    List<String> errors =
+        ex.getBindingResult().getFieldErrors().stream()
+            .map(error -> error.getField() + ": " + error.getDefaultMessage())
+            .toList();
+
+    ErrorResponse errorResponse = ErrorResponse.of("Validation failed", "VALIDATION_ERROR", errors);
+    return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
+  }
+
+  // 요청 본문의 record 생성자에서 던진 IllegalArgumentException은 DecodingException으로 감싸져 옴
+  @ExceptionHandler(DecodingException.class)
+  public ResponseEntity<ErrorResponse> handleDecodingException(DecodingException ex) {
+    log.error("DecodingException: ", ex);
+    ErrorResponse errorResponse = ErrorResponse.of("Malformed request body", "INVALID_ARGUMENT");
+    return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
+  }
+
+  @ExceptionHandler(Exception.class)
+  public ResponseEntity<ErrorResponse> handleGenericException(Exception ex) {
+    log.error("Unexcepted error: ", ex);
+
+    ErrorResponse errorResponse =
+        ErrorResponse.of("An unexpected error occurred", "INTERNAL_ERROR");
+    return new ResponseEntity<>(errorResponse, HttpStatus.INTERNAL_SERVER_ERROR);
+  }
+}
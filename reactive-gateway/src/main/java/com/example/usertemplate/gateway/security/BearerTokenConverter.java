@@ -0,0 +1,34 @@
+package com.example.usertemplate.gateway.security;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.web.server.authentication.ServerAuthenticationConverter;
+import org.springframework.util.StringUtils;
+import org.springframework.web.server.ServerWebExchange;
+
+import reactor.core.publisher.Mono;
+
+/** Authorization 헤더의 Bearer 토큰을 인증 요청(credentials에 토큰)으로 바꾸는 변환기임. */
+public class BearerTokenConverter implements ServerAuthenticationConverter {
+
+  private static final String BEARER_PREFIX = "Bearer ";
+
+  @Override
+  public Mono<Authentication> convert(ServerWebExchange exchange) {
+    String token =
+        extractToken(exchange.getRequest().getHeaders().getFirst(HttpHeaders.AUTHORIZATION));
+    if (token == null) {
+      return Mono.empty();
+    }
+    return Mono.just(UsernamePasswordAuthenticationToken.unauthenticated(null, token));
+  }
+
+  // "Bearer " 접두사를 뗀 토큰(없으면 null)
+  public static String extractToken(String bearerToken) {
+    if (StringUtils.hasText(bearerToken) && bearerToken.startsWith(BEARER_PREFIX)) {
+      return bearerToken.substring(BEARER_PREFIX.length());
+    }
+    return null;
+  }
+}
@@ -0,0 +1,162 @@
+package com.example.usertemplate.gateway.security;
+
+import java.security.Key;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.Date;
+import java.util.Optional;
+
+import javax.crypto.SecretKey;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.LocatorAdapter;
+import io.jsonwebtoken.security.Keys;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 서블릿 앱의 JwtTokenProvider와 같은 형식의 토큰을 만들고 검증하는 컴포넌트임.
+ *
+ * <p>- 같은 jwt.secret과 만료시간을 쓰므로 어느 쪽에서 발급한 토큰이든 다른 쪽에서 그대로 사용할 수 있음. - kid가 있는 토큰(서블릿 앱의 비대칭 키 모드)은
+ * GatewayKeyRing의 공개키로, kid가 없는 토큰은 HMAC 키로 검증함. - 모든 토큰에는 블랙리스트 키로 쓰이는 토큰 ID(jti)가 기록됨. - 무상태 주체
+ * 모드의 사용자 정보 클레임은 기록하지 않음(게이트웨이는 항상 사용자 캐시로 주체를 만듦).
+ */
+@Slf4j
+@Component
+public class GatewayJwtProvider {
+
+  // 서블릿 앱과 같은 ms 단위 발급 시각 클레임(사용자 단위 폐기 비교에 사용)
+  private static final String CLAIM_ISSUED_AT_MILLIS = "iatms";
+
+  // 토큰 ID(jti) 생성용 난수 바이트 수(Base64URL로 16자)
+  private static final int TOKEN_ID_BYTES = 12;
+  private static final SecureRandom SECURE_RANDOM = new SecureRandom();
+  private static final Base64.Encoder TOKEN_ID_ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+  private final SecretKey key;
+  private final long jwtExpiration;
+  private final long refreshExpiration;
+  private final JwtParser jwtParser;
+
+  public GatewayJwtProvider(
+      GatewayKeyRing keyRing,
+      @Value("${jwt.secret:mySecretKeyForJwtTokenGenerationAndValidation}") String secretKey,
+      @Value("${jwt.expiration:86400000}") long jwtExpiration,
+      @Value("${jwt.refresh-expiration:604800000}") long refreshExpiration) {
+    this.key = Keys.hmacShaKeyFor(secretKey.getBytes());
+    this.jwtExpiration = jwtExpiration;
+    this.refreshExpiration = refreshExpiration;
+    this.jwtParser =
+        Jwts.parser()
+            .keyLocator(
+                new LocatorAdapter<Key>() {
+                  @Override
+                  protected Key locate(JwsHeader header) {
+                    String kid = header.getKeyId();
+                    return kid == null ? key : keyRing.verificationKey(kid);
+                  }
+                })
+            .build();
+  }
+
+  // Access Token 생성
+  public String generateAccessToken(Long userId) {
+    return generate(userId, jwtExpiration);
+  }
+
+  // Refresh Token 생성
+  public String generateRefreshToken(Long userId) {
+    return generate(userId, refreshExpiration);
+  }
+
+  /**
+   * 토큰의 서명과 만료를 한 번에 검증하고 클레임을 꺼냄.
+   *
+   * @param token 검증할 JWT
+   * @return 검증에 성공하면 VerifiedToken, 실패하면 empty
+   */
+  public Optional<VerifiedToken> verify(String token) {
+    try {
+      return Optional.of(toVerifiedToken(parseClaims(token)));
+    } catch (JwtException ex) {
+      log.error("Invalid JWT Token : {}", ex.getMessage());
+    } catch (IllegalArgumentException ex) {
+      log.error("JWT claims string is empty or subject is invalid");
+    }
+    return Optional.empty();
+  }
+
+  /**
+   * 서명만 검증하고 만료는 허용하여 클레임을 꺼냄(만료된 Access Token으로 토큰을 갱신할 때 사용).
+   *
+   * @param token 검증할 JWT
+   * @return 서명 검증에 성공하면 VerifiedToken, 실패하면 empty
+   */
+  public Optional<VerifiedToken> verifyIgnoringExpiration(String token) {
+    try {
+      Claims claims;
+      try {
+        claims = parseClaims(token);
+      } catch (ExpiredJwtException ex) {
+        claims = ex.getClaims();
+      }
+      return Optional.of(toVerifiedToken(claims));
+    } catch (JwtException ex) {
+      log.error("Invalid JWT Token : {}", ex.getMessage());
+    } catch (IllegalArgumentException ex) {
+      log.error("JWT claims string is empty or subject is invalid");
+    }
+    return Optional.empty();
+  }
+
+  private String generate(Long userId, long expiration) {
+    Date now = new Date();
+    return Jwts.builder()
+        .id(newTokenId())
+        .subject(String.valueOf(userId))
+        .issuedAt(now)
+        .claim(CLAIM_ISSUED_AT_MILLIS, now.getTime())
+        .expiration(new Date(now.getTime() + expiration))
+        .signWith(key)
+        .compact();
+  }
+
+  private Claims parseClaims(String token) {
+    return jwtParser.parseSignedClaims(token).getPayload();
+  }
+
+  private static VerifiedToken toVerifiedToken(Claims claims) {
+    return new VerifiedToken(
+        claims.getId(),
+        parseUserId(claims.getSubject()),
+        parseIssuedAt(claims),
+        claims.getExpiration());
+  }
+
+  // iatms가 없는 이전 토큰은 초 단위 iat를 사용(폐기 확인에서 폐기와 같은 초에 발급된 토큰은 거절됨)
+  private static Date parseIssuedAt(Claims claims) {
+    Object millis = claims.get(CLAIM_ISSUED_AT_MILLIS);
+    return millis instanceof Number number ? new Date(number.longValue()) : claims.getIssuedAt();
+  }
+
+  private static String newTokenId() {
+    byte[] bytes = new byte[TOKEN_ID_BYTES];
+    SECURE_RANDOM.nextBytes(bytes);
+    return TOKEN_ID_ENCODER.encodeToString(bytes);
+  }
+
+  private static Long parseUserId(String userIdStr) {
+    try {
+      return Long.parseLong(userIdStr);
+    } catch (NumberFormatException e) {
+      throw new IllegalArgumentException("Invalid user ID in token: " + userIdStr, e);
+    }
+  }
+}
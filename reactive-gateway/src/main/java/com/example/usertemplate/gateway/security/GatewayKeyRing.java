@@ -0,0 +1,135 @@
+package com.example.usertemplate.gateway.security;
+
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyFactory;
+import java.security.PublicKey;
+import java.security.spec.X509EncodedKeySpec;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * 서블릿 앱 노드들이 공개한 서명 검증용 공개키를 보관하는 컴포넌트임.
+ *
+ * <p>- 서블릿 앱이 비대칭 키 모드(jwt.signing.algorithm=ES256/EdDSA)로 발급한 토큰을 검증할 때 kid로 O(1)로 찾음. - 서블릿 앱의
+ * JwtKeyPublisher와 같은 jwt:keys 해시와 jwt-keys:published 채널을 사용하며, jwt.keys.sync-interval마다 해시 전체를 다시
+ * 읽음. - 게이트웨이는 개인키를 갖지 않으므로 게이트웨이가 발급하는 토큰은 계속 jwt.secret의 HMAC 키로 서명됨.
+ */
+@Slf4j
+@Component
+public class GatewayKeyRing {
+
+  private static final String KEYS_HASH = "jwt:keys";
+  private static final String KEYS_CHANNEL = "jwt-keys:published";
+
+  private final ReactiveStringRedisTemplate redisTemplate;
+  private final long syncInterval;
+  private final Map<String, PublishedKey> keys = new ConcurrentHashMap<>();
+
+  private Disposable subscription;
+  private Disposable synchronization;
+
+  public GatewayKeyRing(
+      ReactiveStringRedisTemplate redisTemplate,
+      @Value("${jwt.keys.sync-interval:60000}") long syncInterval) {
+    this.redisTemplate = redisTemplate;
+    this.syncInterval = syncInterval;
+  }
+
+  // 키 공개 메시지 구독과 주기적인 전체 동기화 시작
+  @PostConstruct
+  void subscribe() {
+    subscription =
+        redisTemplate
+            .listenToChannel(KEYS_CHANNEL)
+            .subscribe(message -> onMessage(message.getMessage()));
+    synchronization =
+        Flux.interval(Duration.ZERO, Duration.ofMillis(syncInterval))
+            .concatMap(tick -> sync())
+            .subscribe();
+  }
+
+  @PreDestroy
+  void unsubscribe() {
+    if (subscription != null) {
+      subscription.dispose();
+    }
+    if (synchronization != null) {
+      synchronization.dispose();
+    }
+  }
+
+  /**
+   * kid로 검증 키를 찾음.
+   *
+   * @param kid JWS 헤더의 kid
+   * @return 검증 키, 모르는 kid이거나 만료된 키이면 null
+   */
+  public Key verificationKey(String kid) {
+    PublishedKey key = keys.get(kid);
+    return key != null && System.currentTimeMillis() < key.expiresAt() ? key.publicKey() : null;
+  }
+
+  private Mono<Void> sync() {
+    return redisTemplate
+        .<String, String>opsForHash()
+        .entries(KEYS_HASH)
+        .doOnNext(entry -> register(entry.getKey(), entry.getValue()))
+        .then(
+            Mono.fromRunnable(
+                () -> {
+                  long now = System.currentTimeMillis();
+                  keys.values().removeIf(key -> now >= key.expiresAt());
+                }))
+        .onErrorResume(
+            e -> {
+              log.warn("Failed to sync JWT verification keys: {}", e.getMessage());
+              return Mono.empty();
+            })
+        .then();
+  }
+
+  // 메시지 형식: kid:알고리즘:만료시각:Base64 X.509
+  private void onMessage(String body) {
+    int separator = body.indexOf(':');
+    if (separator > 0) {
+      register(body.substring(0, separator), body.substring(separator + 1));
+    }
+  }
+
+  private void register(String kid, String value) {
+    try {
+      String[] parts = value.split(":", 3);
+      PublicKey publicKey =
+          KeyFactory.getInstance(keyFactoryAlgorithm(parts[0]))
+              .generatePublic(new X509EncodedKeySpec(Base64.getDecoder().decode(parts[2])));
+      keys.put(kid, new PublishedKey(publicKey, Long.parseLong(parts[1])));
+    } catch (GeneralSecurityException | RuntimeException e) {
+      log.warn("Ignoring unreadable JWT verification key {}: {}", kid, e.getMessage());
+    }
+  }
+
+  private static String keyFactoryAlgorithm(String algorithm) {
+    return switch (algorithm) {
+      case "ES256" -> "EC";
+      case "EdDSA" -> "EdDSA";
+      default -> throw new IllegalArgumentException("Unsupported key algorithm: " + algorithm);
+    };
+  }
+
+  private record PublishedKey(PublicKey publicKey, long expiresAt) {}
+}
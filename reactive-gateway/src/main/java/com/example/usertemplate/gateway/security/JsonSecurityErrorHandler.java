@@ -0,0 +1,63 @@
+package com.example.usertemplate.gateway.security;
+
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.web.server.ServerAuthenticationEntryPoint;
+import org.springframework.security.web.server.authorization.ServerAccessDeniedHandler;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+
+import com.example.usertemplate.common.exception.ErrorResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+/**
+ * 인증되지 않은 요청(401)과 권한이 없는 요청(403)에 JSON 오류를 응답하는 핸들러임.
+ *
+ * <p>서블릿 앱의 JwtAuthenticationEntryPoint, JwtAccessDeniedHandler와 같은 본문을 응답함.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class JsonSecurityErrorHandler
+    implements ServerAuthenticationEntryPoint, ServerAccessDeniedHandler {
+
+  private final ObjectMapper objectMapper;
+
+  @Override
+  public Mono<Void> commence(ServerWebExchange exchange, AuthenticationException ex) {
+    log.warn("Unauthorized request to {} - {}", exchange.getRequest().getPath(), ex.getMessage());
+    return write(
+        exchange.getResponse(),
+        HttpStatus.UNAUTHORIZED,
+        ErrorResponse.of("Authentication required", "AUTHENTICATION_REQUIRED"));
+  }
+
+  @Override
+  public Mono<Void> handle(ServerWebExchange exchange, AccessDeniedException denied) {
+    log.warn("Access denied to {} - {}", exchange.getRequest().getPath(), denied.getMessage());
+    return write(
+        exchange.getResponse(),
+        HttpStatus.FORBIDDEN,
+        ErrorResponse.of("Access denied", "ACCESS_DENIED"));
+  }
+
+  private Mono<Void> write(ServerHttpResponse response, HttpStatus status, ErrorResponse body) {
+    response.setStatusCode(status);
+    response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+    try {
+      DataBuffer buffer = response.bufferFactory().wrap(objectMapper.writeValueAsBytes(body));
+      return response.writeWith(Mono.just(buffer));
+    } catch (JsonProcessingException e) {
+      return Mono.error(e);
+    }
+  }
+}
@@ -0,0 +1,67 @@
+package com.example.usertemplate.gateway.security;
+
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.ReactiveAuthenticationManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+
+import com.example.usertemplate.gateway.token.ReactiveBlacklistService;
+import com.example.usertemplate.gateway.token.ReactiveRevocationService;
+import com.example.usertemplate.gateway.user.ReactiveUserCache;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+/**
+ * Bearer 토큰을 검증하여 인증 주체를 만드는 ReactiveAuthenticationManager임.
+ *
+ * <p>서블릿 앱의 JwtAuthenticationFilter와 같은 순서로 검사함: 1. 서명과 만료 검증 2. 블랙리스트(bl:{jti}) 확인 3. 사용자 단위 폐기 시각
+ * 확인 4. 사용자 캐시에서 사용자 조회(없으면 거부)
+ *
+ * <p>로그인용 UserDetailsRepositoryReactiveAuthenticationManager와 빈이 겹치지 않도록 SecurityConfig에서 직접 생성함.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class JwtReactiveAuthenticationManager implements ReactiveAuthenticationManager {
+
+  private final GatewayJwtProvider jwtProvider;
+  private final ReactiveBlacklistService blacklistService;
+  private final ReactiveRevocationService revocationService;
+  private final ReactiveUserCache userCache;
+
+  @Override
+  public Mono<Authentication> authenticate(Authentication authentication) {
+    String token = String.valueOf(authentication.getCredentials());
+    VerifiedToken verifiedToken = jwtProvider.verify(token).orElse(null);
+    if (verifiedToken == null) {
+      return Mono.error(new BadCredentialsException("Invalid JWT token"));
+    }
+
+    return blacklistService
+        .isBlacklisted(verifiedToken, token)
+        .flatMap(
+            blacklisted -> {
+              if (blacklisted) {
+                log.warn("⚠️ This token is blacklisted and cannot be used.");
+                return Mono.error(
+                    new BadCredentialsException("This token is blacklisted and cannot be used."));
+              }
+              return revocationService.isRevoked(verifiedToken);
+            })
+        .flatMap(
+            revoked -> {
+              if (revoked) {
+                log.warn("⚠️ This token was issued before the user's tokens were revoked.");
+                return Mono.error(new BadCredentialsException("This token has been revoked."));
+              }
+              return userCache.findById(verifiedToken.userId());
+            })
+        .switchIfEmpty(Mono.error(() -> new BadCredentialsException("User not found")))
+        .map(
+            user ->
+                (Authentication)
+                    UsernamePasswordAuthenticationToken.authenticated(
+                        user, null, user.getAuthorities()));
+  }
+}
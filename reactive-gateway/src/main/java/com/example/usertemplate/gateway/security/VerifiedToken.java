@@ -0,0 +1,19 @@
+package com.example.usertemplate.gateway.security;
+
+import java.util.Date;
+
+/**
+ * 서명과 만료 검증을 마친 JWT의 클레임을 담는 객체임.
+ *
+ * @param tokenId 토큰 ID(jti, 도입 이전에 발급된 토큰이면 null)
+ * @param userId 토큰의 subject(사용자 ID)
+ * @param issuedAt 발급 시각(iatms, 없으면 초 단위 iat)
+ * @param expiration 만료 시각(exp)
+ */
+public record VerifiedToken(String tokenId, Long userId, Date issuedAt, Date expiration) {
+
+  // 만료까지 남은 시간(ms)
+  public long remainingMillis() {
+    return expiration.getTime() - System.currentTimeMillis();
+  }
+}
@@ -0,0 +1,53 @@
+package com.example.usertemplate.gateway.token;
+
+import java.time.Duration;
+
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import com.example.usertemplate.gateway.security.VerifiedToken;
+
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Mono;
+
+/**
+ * 서블릿 앱과 같은 Redis 키(bl:{jti})로 Access Token 블랙리스트를 관리하는 서비스임.
+ *
+ * <p>- 등록 시 jwt-blacklist:added 채널로 알려 서블릿 앱 노드의 블룸 필터에도 반영됨. - 게이트웨이는 블룸 필터 없이 Redis를 직접 조회하며, 조회는
+ * 논블로킹이므로 이벤트 루프를 막지 않음. - jti가 없는 이전 토큰은 원본 토큰을 키로 사용함.
+ */
+@Service
+@RequiredArgsConstructor
+public class ReactiveBlacklistService {
+
+  public static final String BLACKLIST_CHANNEL = "jwt-blacklist:added";
+
+  private static final String BLACKLIST_KEY_PREFIX = "bl:";
+
+  private final ReactiveStringRedisTemplate redisTemplate;
+
+  // 토큰을 남은 만료시간 동안 블랙리스트에 등록
+  public Mono<Void> addToBlacklist(VerifiedToken verifiedToken, String accessToken) {
+    String key = blacklistKey(verifiedToken, accessToken);
+    long ttlInSeconds = verifiedToken.remainingMillis() / 1000;
+    if (ttlInSeconds <= 0) {
+      return Mono.empty();
+    }
+    return redisTemplate
+        .opsForValue()
+        .set(key, "blacklisted", Duration.ofSeconds(ttlInSeconds))
+        .then(redisTemplate.convertAndSend(BLACKLIST_CHANNEL, key))
+        .then();
+  }
+
+  public Mono<Boolean> isBlacklisted(VerifiedToken verifiedToken, String accessToken) {
+    return redisTemplate.hasKey(blacklistKey(verifiedToken, accessToken));
+  }
+
+  // jti가 있으면 bl:{jti}, 없으면 원본 토큰을 키로 사용
+  private static String blacklistKey(VerifiedToken verifiedToken, String accessToken) {
+    return verifiedToken.tokenId() != null
+        ? BLACKLIST_KEY_PREFIX + verifiedToken.tokenId()
+        : accessToken;
+  }
+}
@@ -0,0 +1,223 @@
+package com.example.usertemplate.gateway.token;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import com.example.usertemplate.common.auth.RefreshTokenRotation;
+import com.example.usertemplate.common.auth.SessionResponse;
+
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * 서블릿 앱의 RefreshTokenStore와 같은 키 구조와 Lua 스크립트로 Refresh Token 세션을 관리하는 저장소임.
+ *
+ * <p>- 스크립트는 서블릿 앱의 src/main/resources/redis/refresh-token/*.lua를 빌드 시 복사하여 사용하므로 두 앱이 같은 세션을 원자적으로
+ * 다룸. - 키는 사용자별 rt:{userId}:* 5개이며 모두 KEYS로 넘김(Redis Cluster에서도 같은 슬롯). - 모든 연산은 Redis 왕복 한 번이며 이벤트
+ * 루프를 막지 않음. - 이전 방식 세션의 이전(migration)은 서블릿 앱만 수행함.
+ */
+@Slf4j
+@Component
+public class ReactiveRefreshTokenStore {
+
+  private static final String KEY_PREFIX = "rt:{";
+  private static final List<String> KEY_SUFFIXES =
+      List.of("}:sessions", "}:session", "}:access", "}:used", "}:used-expiry");
+
+  // 세션 ID 생성용 난수 바이트 수(Base64URL로 16자)
+  private static final int SESSION_ID_BYTES = 12;
+  private static final SecureRandom SECURE_RANDOM = new SecureRandom();
+  private static final Base64.Encoder SESSION_ID_ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+  private static final RedisScript<Long> SAVE_SCRIPT = script("save", Long.class);
+
+  @SuppressWarnings("rawtypes")
+  private static final RedisScript<List> FIND_SCRIPT = script("find", List.class);
+
+  @SuppressWarnings("rawtypes")
+  private static final RedisScript<List> ROTATE_SCRIPT = script("rotate", List.class);
+
+  private static final RedisScript<Long> DELETE_SCRIPT = script("delete", Long.class);
+
+  @SuppressWarnings("rawtypes")
+  private static final RedisScript<List> LIST_SCRIPT = script("list", List.class);
+
+  private static final int LIST_ENTRY_SIZE = 5;
+
+  private final ReactiveStringRedisTemplate redisTemplate;
+  private final long refreshExpiration;
+  private final long reuseGracePeriod;
+  private final int maxSessionsPerUser;
+
+  public ReactiveRefreshTokenStore(
+      ReactiveStringRedisTemplate redisTemplate,
+      @Value("${jwt.refresh-expiration:604800000}") long refreshExpiration,
+      @Value("${jwt.refresh-rotation.reuse-grace-period:10000}") long reuseGracePeriod,
+      @Value("${jwt.refresh-sessions.max-per-user:5}") int maxSessionsPerUser) {
+    this.redisTemplate = redisTemplate;
+    this.refreshExpiration = refreshExpiration;
+    this.reuseGracePeriod = reuseGracePeriod;
+    this.maxSessionsPerUser = Math.max(1, maxSessionsPerUser);
+  }
+
+  // 새 세션을 저장(최대 세션 수를 넘으면 가장 오래 사용되지 않은 세션을 삭제)
+  public Mono<Void> save(Long userId, String refreshToken, String accessToken) {
+    String sessionId = newSessionId();
+    String accessTokenHash = hash(accessToken);
+    return redisTemplate
+        .execute(
+            SAVE_SCRIPT,
+            keys(userId),
+            List.of(
+                sessionId,
+                refreshToken,
+                accessTokenHash,
+                String.valueOf(refreshExpiration),
+                String.valueOf(maxSessionsPerUser),
+                ""))
+        .next()
+        .doOnNext(
+            evicted -> {
+              if (evicted > 0) {
+                log.info("Evicted {} least recently used sessions for user: {}", evicted, userId);
+              }
+            })
+        .then();
+  }
+
+  // 사용자의 세션 중 Access Token에 연결된 세션 조회
+  public Mono<RefreshToken> findByAccessToken(Long userId, String accessToken) {
+    return results(redisTemplate.execute(FIND_SCRIPT, keys(userId), List.of(hash(accessToken))))
+        .filter(result -> result.size() >= 2)
+        .map(
+            result ->
+                new RefreshToken(
+                    String.valueOf(result.get(0)), userId, String.valueOf(result.get(1))));
+  }
+
+  // 기존 Access Token에 연결된 세션을 새 토큰 쌍으로 원자적으로 교체(rotate.lua 참고)
+  public Mono<RefreshTokenRotation> rotate(
+      Long userId, String oldAccessToken, String newAccessToken, String newRefreshToken) {
+    return results(
+            redisTemplate.execute(
+                ROTATE_SCRIPT,
+                keys(userId),
+                List.of(
+                    hash(oldAccessToken),
+                    newRefreshToken,
+                    hash(newAccessToken),
+                    String.valueOf(refreshExpiration),
+                    String.valueOf(reuseGracePeriod))))
+        .map(ReactiveRefreshTokenStore::toRotation);
+  }
+
+  /**
+   * 사용자의 세션 하나를 삭제함.
+   *
+   * @param sessionId 삭제할 세션 ID
+   * @param userId 세션 소유자(다른 사용자의 세션이면 삭제하지 않음)
+   * @return 삭제되었으면 true
+   */
+  public Mono<Boolean> delete(String sessionId, Long userId) {
+    return redisTemplate
+        .execute(DELETE_SCRIPT, keys(userId), List.of(sessionId))
+        .next()
+        .map(deleted -> deleted > 0)
+        .defaultIfEmpty(false);
+  }
+
+  // 사용자의 유효한 세션 목록을 최근 사용 순으로 조회(currentAccessToken의 세션은 current로 표시)
+  public Mono<List<SessionResponse>> findSessions(Long userId, String currentAccessToken) {
+    String currentHash = currentAccessToken != null ? hash(currentAccessToken) : null;
+    return results(redisTemplate.execute(LIST_SCRIPT, keys(userId)))
+        .map(
+            result -> {
+              List<SessionResponse> sessions = new ArrayList<>();
+              for (int i = 0; i + LIST_ENTRY_SIZE <= result.size(); i += LIST_ENTRY_SIZE) {
+                sessions.add(
+                    new SessionResponse(
+                        String.valueOf(result.get(i)),
+                        toInstant(result.get(i + 2)),
+                        toInstant(result.get(i + 3)),
+                        toInstant(result.get(i + 4)),
+                        String.valueOf(result.get(i + 1)).equals(currentHash)));
+              }
+              // 만료 시각이 늦을수록 최근에 사용된 세션임
+              sessions.sort((a, b) -> b.expiresAt().compareTo(a.expiresAt()));
+              return sessions;
+            });
+  }
+
+  private static RefreshTokenRotation toRotation(List<Object> result) {
+    int status = result.isEmpty() ? 0 : ((Number) result.get(0)).intValue();
+    return switch (status) {
+      case 1 ->
+          new RefreshTokenRotation(
+              RefreshTokenRotation.Status.ROTATED,
+              String.valueOf(result.get(1)),
+              String.valueOf(result.get(2)));
+      case 2 ->
+          new RefreshTokenRotation(
+              RefreshTokenRotation.Status.CONCURRENT, String.valueOf(result.get(1)), null);
+      case 3 ->
+          new RefreshTokenRotation(
+              RefreshTokenRotation.Status.REUSED, String.valueOf(result.get(1)), null);
+      default -> new RefreshTokenRotation(RefreshTokenRotation.Status.NOT_FOUND, null, null);
+    };
+  }
+
+  // 드라이버에 따라 배열 결과가 List 하나로 오거나 원소별로 오므로 하나의 목록으로 모음
+  private static Mono<List<Object>> results(Flux<?> result) {
+    return result
+        .collectList()
+        .map(
+            items ->
+                items.size() == 1 && items.get(0) instanceof List<?> nested
+                    ? new ArrayList<Object>(nested)
+                    : new ArrayList<Object>(items));
+  }
+
+  // 서블릿 앱의 RefreshTokenStore.keys()와 같은 사용자별 키
+  private static List<String> keys(Long userId) {
+    return KEY_SUFFIXES.stream().map(suffix -> KEY_PREFIX + userId + suffix).toList();
+  }
+
+  private static Instant toInstant(Object millis) {
+    return Instant.ofEpochMilli((long) Double.parseDouble(String.valueOf(millis)));
+  }
+
+  private static String newSessionId() {
+    byte[] bytes = new byte[SESSION_ID_BYTES];
+    SECURE_RANDOM.nextBytes(bytes);
+    return SESSION_ID_ENCODER.encodeToString(bytes);
+  }
+
+  private static <T> RedisScript<T> script(String name, Class<T> resultType) {
+    return RedisScript.of(
+        new ClassPathResource("redis/refresh-token/" + name + ".lua"), resultType);
+  }
+
+  // Access Token의 SHA-256 해시(Base64URL)
+  private static String hash(String token) {
+    try {
+      byte[] digest =
+          MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+      return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 is not available", e);
+    }
+  }
+}
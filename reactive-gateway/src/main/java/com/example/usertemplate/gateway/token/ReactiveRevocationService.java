@@ -0,0 +1,112 @@
+package com.example.usertemplate.gateway.token;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import com.example.usertemplate.gateway.security.VerifiedToken;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+
+/**
+ * 서블릿 앱과 같은 Redis 키(revoke:user:{id})로 사용자 단위 토큰 폐기 시각을 관리하는 서비스임.
+ *
+ * <p>- 노드마다 로컬 캐시를 두고 jwt-revocation:epoch 채널을 구독하므로 요청마다 Redis를 조회하지 않음. - 메시지를 놓친 노드도 로컬
+ * 만료시간(jwt.revocation.local-expiration) 안에 반영함. - 서블릿 앱과 같이 폐기 시각을 ms 단위로 저장하고 발급 시각(iatms, 없으면 초
+ * 단위 iat)이 폐기 시각 이하인 토큰을 무효로 처리함.
+ */
+@Slf4j
+@Service
+public class ReactiveRevocationService {
+
+  public static final String REVOCATION_CHANNEL = "jwt-revocation:epoch";
+
+  private static final String EPOCH_KEY_PREFIX = "revoke:user:";
+  // 폐기 기록이 없는 사용자
+  private static final long NO_EPOCH = 0L;
+
+  private final ReactiveStringRedisTemplate redisTemplate;
+  private final long refreshExpiration;
+  private final Cache<Long, Long> epochs;
+
+  private Disposable subscription;
+
+  public ReactiveRevocationService(
+      ReactiveStringRedisTemplate redisTemplate,
+      @Value("${jwt.refresh-expiration:604800000}") long refreshExpiration,
+      @Value("${jwt.revocation.local-max-size:100000}") long localMaxSize,
+      @Value("${jwt.revocation.local-expiration:10000}") long localExpiration) {
+    this.redisTemplate = redisTemplate;
+    this.refreshExpiration = refreshExpiration;
+    this.epochs =
+        Caffeine.newBuilder()
+            .maximumSize(localMaxSize)
+            .expireAfterWrite(localExpiration, TimeUnit.MILLISECONDS)
+            .build();
+  }
+
+  // 서블릿 앱과 다른 게이트웨이 노드의 폐기 메시지 구독
+  @PostConstruct
+  void subscribe() {
+    subscription =
+        redisTemplate
+            .listenToChannel(REVOCATION_CHANNEL)
+            .subscribe(message -> onMessage(message.getMessage()));
+  }
+
+  @PreDestroy
+  void unsubscribe() {
+    if (subscription != null) {
+      subscription.dispose();
+    }
+  }
+
+  // 지금까지 발급된 사용자의 모든 토큰을 무효화
+  public Mono<Void> revokeAllTokens(Long userId) {
+    long epoch = System.currentTimeMillis();
+    return redisTemplate
+        .opsForValue()
+        .set(EPOCH_KEY_PREFIX + userId, String.valueOf(epoch), Duration.ofMillis(refreshExpiration))
+        .doOnSuccess(ignored -> epochs.asMap().merge(userId, epoch, Math::max))
+        .then(redisTemplate.convertAndSend(REVOCATION_CHANNEL, userId + ":" + epoch))
+        .doOnSuccess(ignored -> log.info("All tokens revoked for user: {}", userId))
+        .then();
+  }
+
+  // 토큰이 사용자의 폐기 시각 이전(같은 시각 포함)에 발급되었는지 확인(Redis 장애 시 오류가 전파되어 인증이 거부됨)
+  public Mono<Boolean> isRevoked(VerifiedToken verifiedToken) {
+    Long userId = verifiedToken.userId();
+    Long cached = epochs.getIfPresent(userId);
+    Mono<Long> epoch =
+        cached != null
+            ? Mono.just(cached)
+            : redisTemplate
+                .opsForValue()
+                .get(EPOCH_KEY_PREFIX + userId)
+                .map(Long::parseLong)
+                .defaultIfEmpty(NO_EPOCH)
+                .map(loaded -> epochs.asMap().merge(userId, loaded, Math::max));
+    return epoch.map(value -> value != NO_EPOCH && verifiedToken.issuedAt().getTime() <= value);
+  }
+
+  private void onMessage(String body) {
+    int separator = body.indexOf(':');
+    try {
+      Long userId = Long.valueOf(body.substring(0, separator));
+      long epoch = Long.parseLong(body.substring(separator + 1));
+      epochs.asMap().merge(userId, epoch, Math::max);
+    } catch (RuntimeException e) {
+      log.warn("Failed to handle revocation message {}: {}", body, e.getMessage());
+    }
+  }
+}
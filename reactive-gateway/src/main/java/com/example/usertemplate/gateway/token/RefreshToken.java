@@ -0,0 +1,10 @@
+package com.example.usertemplate.gateway.token;
+
+/**
+ * Access Token으로 찾은 Refresh Token 세션임.
+ *
+ * @param id 세션 ID
+ * @param userId 세션 소유자
+ * @param refreshToken 세션의 현재 Refresh Token
+ */
+public record RefreshToken(String id, Long userId, String refreshToken) {}
@@ -0,0 +1,90 @@
+package com.example.usertemplate.gateway.user;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Collections;
+
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.relational.core.mapping.Table;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import com.example.usertemplate.common.user.Role;
+import com.example.usertemplate.common.user.UserAccount;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 서블릿 앱의 User 엔터티와 같은 users 테이블을 R2DBC로 읽고 쓰는 객체임.
+ *
+ * <p>- 컬럼 이름은 기본 네이밍 전략(camelCase -> snake_case)으로 JPA 엔터티와 같게 매핑됨. - 스키마는 서블릿 앱(JPA)이 관리함.
+ */
+@Table("users")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class GatewayUser implements UserDetails, UserAccount {
+
+  @Id private Long id;
+
+  private String username;
+
+  private String email;
+
+  private String password;
+
+  @Builder.Default private Role role = Role.USER;
+
+  @Builder.Default private boolean enabled = true;
+
+  @Builder.Default private boolean accountNonExpired = true;
+
+  @Builder.Default private boolean accountNonLocked = true;
+
+  @Builder.Default private boolean credentialsNonExpired = true;
+
+  // 보안 버전(권한, 계정 상태, 자격 증명이 바뀔 때마다 증가)
+  @Builder.Default private long securityVersion = 0L;
+
+  @CreatedDate private LocalDateTime createdAt;
+
+  @LastModifiedDate private LocalDateTime updatedAt;
+
+  public void bumpSecurityVersion() {
+    this.securityVersion++;
+  }
+
+  @Override
+  public Collection<? extends GrantedAuthority> getAuthorities() {
+    return Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + role.name()));
+  }
+
+  @Override
+  public boolean isAccountNonExpired() {
+    return accountNonExpired;
+  }
+
+  @Override
+  public boolean isAccountNonLocked() {
+    return accountNonLocked;
+  }
+
+  @Override
+  public boolean isCredentialsNonExpired() {
+    return credentialsNonExpired;
+  }
+
+  @Override
+  public boolean isEnabled() {
+    return enabled;
+  }
+}
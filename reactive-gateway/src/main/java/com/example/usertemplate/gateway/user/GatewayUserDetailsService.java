@@ -0,0 +1,46 @@
+package com.example.usertemplate.gateway.user;
+
+import java.util.List;
+
+import org.springframework.security.core.userdetails.ReactiveUserDetailsPasswordService;
+import org.springframework.security.core.userdetails.ReactiveUserDetailsService;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+/**
+ * 로그인 시 username으로 사용자를 찾는 ReactiveUserDetailsService임.
+ *
+ * <p>서블릿 앱의 CustomUserDetailsService처럼, 로그인에 성공한 사용자의 비밀번호 해시가 이전 형식이면 현재 형식으로 다시 저장함.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class GatewayUserDetailsService
+    implements ReactiveUserDetailsService, ReactiveUserDetailsPasswordService {
+
+  private final GatewayUserRepository userRepository;
+  private final ReactiveUserCache userCache;
+
+  @Override
+  public Mono<UserDetails> findByUsername(String username) {
+    return userRepository.findByUsername(username).cast(UserDetails.class);
+  }
+
+  @Override
+  public Mono<UserDetails> updatePassword(UserDetails userDetails, String newPassword) {
+    return userRepository
+        .findByUsername(userDetails.getUsername())
+        .flatMap(
+            user -> {
+              user.setPassword(newPassword);
+              return userRepository.save(user);
+            })
+        .flatMap(user -> userCache.evict(user, List.of(user.getEmail()), false).thenReturn(user))
+        .doOnNext(user -> log.info("Password hash upgraded for user: {}", user.getUsername()))
+        .cast(UserDetails.class);
+  }
+}
@@ -0,0 +1,24 @@
+package com.example.usertemplate.gateway.user;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.stereotype.Repository;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/** R2DBC를 사용하는 GatewayUserRepository임. */
+@Repository
+public interface GatewayUserRepository extends R2dbcRepository<GatewayUser, Long> {
+  // username으로 존재하는지 체크.
+  Mono<Boolean> existsByUsername(String username);
+
+  // email로 존재하는지 체크.
+  Mono<Boolean> existsByEmail(String email);
+
+  // username으로 유저를 찾음.
+  Mono<GatewayUser> findByUsername(String username);
+
+  // 페이지 단위로 유저를 찾음.
+  Flux<GatewayUser> findAllBy(Pageable pageable);
+}
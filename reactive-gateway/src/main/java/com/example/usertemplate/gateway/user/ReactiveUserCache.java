@@ -0,0 +1,168 @@
+package com.example.usertemplate.gateway.user;
+
+import java.text.Normalizer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+
+/**
+ * 게이트웨이 노드의 사용자 조회 결과를 캐싱하는 서비스임.
+ *
+ * <p>- 노드 내부의 Caffeine AsyncCache에 id -> 사용자 조회 결과(Mono)를 저장하므로, 같은 사용자에 대한 동시 요청은 DB 조회 하나를 공유함. -
+ * 서블릿 앱과 같은 user-cache:invalidate 채널을 구독하여 어느 쪽에서 사용자가 바뀌어도 로컬 캐시를 비움. - 게이트웨이에서 사용자를 바꾸면 서블릿 앱과 같이
+ * user:evicted:{id} 묘비를 먼저 남기고 Redis 캐시 키(user:id:, user:email:)를 지운 뒤 같은 채널로 알림(서블릿 앱 노드가 변경 전 값을
+ * 다시 저장하지 않게 함). - 메시지를 놓쳐도 로컬 만료시간(user.cache.local-expiration) 안에 반영됨. - 사용자를 추가하거나 바꾸면 서블릿 앱과 같은
+ * user:added:{정규화된 값} 키를 메시지보다 먼저 남겨, 메시지를 놓친 서블릿 앱 노드도 새 username/email을 없다고 답하지 않게 함.
+ */
+@Slf4j
+@Service
+public class ReactiveUserCache {
+
+  public static final String INVALIDATION_CHANNEL = "user-cache:invalidate";
+
+  private static final String ID_KEY_PREFIX = "user:id:";
+  private static final String EMAIL_KEY_PREFIX = "user:email:";
+  private static final String ADDED_KEY_PREFIX = "user:added:";
+  private static final String TOMBSTONE_KEY_PREFIX = "user:evicted:";
+
+  private final GatewayUserRepository userRepository;
+  private final ReactiveStringRedisTemplate redisTemplate;
+  private final ObjectMapper objectMapper;
+  private final AsyncCache<Long, GatewayUser> usersById;
+  private final Duration recentExpiration;
+  private final Duration tombstoneExpiration;
+
+  private Disposable subscription;
+
+  public ReactiveUserCache(
+      GatewayUserRepository userRepository,
+      ReactiveStringRedisTemplate redisTemplate,
+      ObjectMapper objectMapper,
+      @Value("${user.cache.local-max-size:10000}") long localMaxSize,
+      @Value("${user.cache.local-expiration:30000}") long localExpiration,
+      @Value("${user.existence.recent-expiration:1800000}") long recentExpiration,
+      @Value("${user.cache.tombstone-expiration:10000}") long tombstoneExpiration) {
+    this.userRepository = userRepository;
+    this.redisTemplate = redisTemplate;
+    this.objectMapper = objectMapper;
+    this.usersById =
+        Caffeine.newBuilder()
+            .maximumSize(localMaxSize)
+            .expireAfterWrite(localExpiration, TimeUnit.MILLISECONDS)
+            .buildAsync();
+    this.recentExpiration = Duration.ofMillis(recentExpiration);
+    this.tombstoneExpiration = Duration.ofMillis(tombstoneExpiration);
+  }
+
+  // 서블릿 앱과 다른 게이트웨이 노드의 무효화 메시지 구독
+  @PostConstruct
+  void subscribe() {
+    subscription =
+        redisTemplate
+            .listenToChannel(INVALIDATION_CHANNEL)
+            .subscribe(message -> onMessage(message.getMessage()));
+  }
+
+  @PreDestroy
+  void unsubscribe() {
+    if (subscription != null) {
+      subscription.dispose();
+    }
+  }
+
+  // id로 사용자를 조회(캐시에 없으면 DB 조회, 없는 사용자는 캐싱하지 않음)
+  public Mono<GatewayUser> findById(Long id) {
+    return Mono.fromFuture(
+        usersById.get(id, (key, executor) -> userRepository.findById(key).toFuture()));
+  }
+
+  /**
+   * 사용자 추가, 변경을 캐시에 반영하고 서블릿 앱과 다른 노드에 알림.
+   *
+   * @param user 추가되거나 변경되거나 삭제된 사용자
+   * @param emails 지울 email 인덱스(변경 전, 후)
+   * @param deleted 삭제 여부
+   */
+  public Mono<Void> evict(GatewayUser user, List<String> emails, boolean deleted) {
+    usersById.synchronous().invalidate(user.getId());
+    UserCacheInvalidation invalidation =
+        new UserCacheInvalidation(
+            user.getId(),
+            user.getSecurityVersion(),
+            deleted,
+            deleted ? null : user.getUsername(),
+            deleted ? null : user.getEmail());
+
+    List<String> keys = new ArrayList<>();
+    keys.add(ID_KEY_PREFIX + user.getId());
+    emails.forEach(email -> keys.add(EMAIL_KEY_PREFIX + email));
+
+    // 묘비를 먼저 남겨 삭제 이후에 서블릿 앱 노드가 변경 전 값을 저장하지 못하게 함
+    return redisTemplate
+        .opsForValue()
+        .set(TOMBSTONE_KEY_PREFIX + user.getId(), "1", tombstoneExpiration)
+        .then(redisTemplate.delete(keys.toArray(String[]::new)))
+        .then(publishPresent(invalidation))
+        .then(Mono.fromCallable(() -> objectMapper.writeValueAsString(invalidation)))
+        .flatMap(message -> redisTemplate.convertAndSend(INVALIDATION_CHANNEL, message))
+        .onErrorResume(
+            e -> {
+              log.warn(
+                  "Failed to invalidate user {} in Redis cache: {}", user.getId(), e.getMessage());
+              return Mono.empty();
+            })
+        .then();
+  }
+
+  // 서블릿 앱의 UserCacheService와 같은 키로 새 username/email을 기록
+  private Mono<Void> publishPresent(UserCacheInvalidation invalidation) {
+    if (invalidation.deleted()) {
+      return Mono.empty();
+    }
+    return Mono.when(
+        redisTemplate
+            .opsForValue()
+            .set(addedKey("u:", invalidation.username()), "1", recentExpiration),
+        redisTemplate
+            .opsForValue()
+            .set(addedKey("e:", invalidation.email()), "1", recentExpiration));
+  }
+
+  // 서블릿 앱의 UserExistenceIndex와 같은 정규화(악센트 제거, 소문자, 앞뒤 공백 제거)
+  private static String addedKey(String kindPrefix, String value) {
+    String normalized =
+        Normalizer.normalize(value, Normalizer.Form.NFD)
+            .replaceAll("\\p{M}", "")
+            .toLowerCase(Locale.ROOT)
+            .strip();
+    return ADDED_KEY_PREFIX + kindPrefix + normalized;
+  }
+
+  private void onMessage(String body) {
+    try {
+      UserCacheInvalidation invalidation =
+          objectMapper.readValue(body, UserCacheInvalidation.class);
+      usersById.synchronous().invalidate(invalidation.userId());
+    } catch (JsonProcessingException e) {
+      log.warn("Failed to handle user cache invalidation message: {}", e.getMessage());
+    }
+  }
+}
@@ -0,0 +1,13 @@
+package com.example.usertemplate.gateway.user;
+
+/**
+ * 서블릿 앱과 주고받는 사용자 캐시 무효화 메시지(user-cache:invalidate)임.
+ *
+ * @param userId 추가되거나 변경되거나 삭제된 사용자 ID
+ * @param securityVersion 변경 후 보안 버전
+ * @param deleted 삭제 여부
+ * @param username 변경 후 username(서블릿 앱의 존재 인덱스에 추가, 삭제 시 null)
+ * @param email 변경 후 email(서블릿 앱의 존재 인덱스에 추가, 삭제 시 null)
+ */
+public record UserCacheInvalidation(
+    Long userId, long securityVersion, boolean deleted, String username, String email) {}
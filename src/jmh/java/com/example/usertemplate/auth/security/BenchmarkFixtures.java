@@ -0,0 +1,53 @@
+package com.example.usertemplate.auth.security;
+
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+
+import com.example.usertemplate.auth.key.JwtKeyRing;
+import com.example.usertemplate.common.user.Role;
+import com.example.usertemplate.user.entity.User;
+
+/** 벤치마크에서 공통으로 쓰는 사용자, 키 링, 설정값임. */
+final class BenchmarkFixtures {
+
+  static final Long USER_ID = 42L;
+  static final long JWT_EXPIRATION = 86_400_000L;
+  static final long REFRESH_EXPIRATION = 604_800_000L;
+  static final long KEY_ROTATION_INTERVAL = 86_400_000L;
+
+  // jjwt는 키 길이로 HMAC 알고리즘을 고름(32바이트: HS256, 64바이트: HS512)
+  private static final String HS256_SECRET = "benchmark-secret-key-for-hs256-0";
+  private static final String HS512_SECRET =
+      "benchmark-secret-key-for-hs512-benchmark-secret-key-for-hs512-00";
+
+  private BenchmarkFixtures() {}
+
+  // HS256/HS512는 jwt.secret의 HMAC 키, ES256/EdDSA는 키 링이 만든 키 쌍으로 서명함
+  static JwtKeyRing keyRing(String algorithm) {
+    return switch (algorithm) {
+      case "HS256" -> keyRing(HS256_SECRET, JwtKeyRing.HMAC);
+      case "HS512" -> keyRing(HS512_SECRET, JwtKeyRing.HMAC);
+      case JwtKeyRing.ES256, JwtKeyRing.EDDSA -> keyRing(HS256_SECRET, algorithm);
+      default -> throw new IllegalArgumentException("Unsupported algorithm: " + algorithm);
+    };
+  }
+
+  private static JwtKeyRing keyRing(String secret, String algorithm) {
+    return new JwtKeyRing(
+        secret, algorithm, true, KEY_ROTATION_INTERVAL, JWT_EXPIRATION, REFRESH_EXPIRATION);
+  }
+
+  static User user() {
+    return User.builder()
+        .id(USER_ID)
+        .username("benchmark-user")
+        .email("benchmark@example.com")
+        .password("{bcrypt}unused")
+        .role(Role.USER)
+        .build();
+  }
+
+  static Authentication authentication(User user) {
+    return new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities());
+  }
+}
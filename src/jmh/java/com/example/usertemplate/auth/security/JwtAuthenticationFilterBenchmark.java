@@ -0,0 +1,108 @@
+package com.example.usertemplate.auth.security;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+import java.io.IOException;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import com.example.usertemplate.auth.token.BlacklistTokenService;
+import com.example.usertemplate.auth.token.TokenRevocationService;
+import com.example.usertemplate.global.metrics.AuthMetrics;
+import com.example.usertemplate.user.cache.UserCacheService;
+import com.example.usertemplate.user.entity.User;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * JwtAuthenticationFilter의 요청 1건 처리 비용을 측정하는 벤치마크임.
+ *
+ * <p>- Redis와 DB에 의존하는 사용자 캐시, 블랙리스트, 폐기 서비스는 Mockito 목(stubOnly)으로 대체하여 필터 자체의 비용(토큰 추출, 검증 캐시, 서명
+ * 검증, 인증 객체 생성)만 측정함. 블랙리스트와 폐기 조회는 목의 기본값(false)을 반환함. - verifiedCache: 검증 캐시 적중 여부에 따른 차이 -
+ * statelessPrincipal: 사용자 캐시 조회 대신 토큰 클레임으로 주체를 만드는 경로
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class JwtAuthenticationFilterBenchmark {
+
+  // 다음 필터는 아무 일도 하지 않음
+  private static final FilterChain NO_OP_CHAIN = (request, response) -> {};
+
+  @Param({"true", "false"})
+  private boolean verifiedCache;
+
+  @Param({"false", "true"})
+  private boolean statelessPrincipal;
+
+  private JwtAuthenticationFilter filter;
+  private MockHttpServletRequest request;
+  private MockHttpServletResponse response;
+
+  @Setup
+  public void setUp() {
+    JwtTokenProvider jwtTokenProvider =
+        new JwtTokenProvider(
+            BenchmarkFixtures.keyRing("HS256"),
+            BenchmarkFixtures.JWT_EXPIRATION,
+            BenchmarkFixtures.REFRESH_EXPIRATION,
+            statelessPrincipal);
+    User user = BenchmarkFixtures.user();
+
+    UserCacheService userCacheService = mock(UserCacheService.class, withSettings().stubOnly());
+    when(userCacheService.findById(BenchmarkFixtures.USER_ID)).thenReturn(Optional.of(user));
+
+    filter =
+        new JwtAuthenticationFilter(
+            jwtTokenProvider,
+            new VerifiedTokenCache(verifiedCache, 10_000, new SimpleMeterRegistry()),
+            userCacheService,
+            mock(BlacklistTokenService.class, withSettings().stubOnly()),
+            mock(TokenRevocationService.class, withSettings().stubOnly()),
+            new UserVersionRegistry(0, BenchmarkFixtures.JWT_EXPIRATION),
+            new AuthMetrics(new SimpleMeterRegistry()));
+
+    String accessToken =
+        jwtTokenProvider.generateAccessToken(BenchmarkFixtures.authentication(user));
+    request = new MockHttpServletRequest("GET", "/api/v1/users/me");
+    request.addHeader("Authorization", "Bearer " + accessToken);
+    response = new MockHttpServletResponse();
+  }
+
+  @Benchmark
+  public Authentication doFilterInternal() throws ServletException, IOException {
+    filter.doFilter(request, response, NO_OP_CHAIN);
+    Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+    SecurityContextHolder.clearContext();
+    return authentication;
+  }
+
+  @Benchmark
+  public String getJwtFromRequest() {
+    return filter.getJwtFromRequest(request);
+  }
+}
@@ -0,0 +1,96 @@
+package com.example.usertemplate.auth.security;
+
+import java.security.Key;
+import java.security.KeyPair;
+import java.security.PublicKey;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import javax.crypto.SecretKey;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+
+/**
+ * 서명 알고리즘과 토큰 크기에 따른 jjwt 서명/검증 처리량을 측정하는 벤치마크임.
+ *
+ * <p>- JwtTokenProvider와 키 링을 거치지 않고 같은 클레임 구성으로 jjwt를 직접 호출하여 알고리즘 자체의 비용만 비교함. -
+ * extraClaimBytes만큼의 더미 클레임을 추가하여 토큰 크기에 따른 직렬화/파싱 비용을 비교함.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtSignatureAlgorithmBenchmark {
+
+  @Param({"HS256", "HS512", "ES256", "EdDSA"})
+  private String algorithm;
+
+  @Param({"0", "512", "2048"})
+  private int extraClaimBytes;
+
+  private Key signingKey;
+  private JwtParser jwtParser;
+  private String padding;
+  private String token;
+
+  @Setup
+  public void setUp() {
+    switch (algorithm) {
+      case "HS256" -> useSecretKey(Jwts.SIG.HS256.key().build());
+      case "HS512" -> useSecretKey(Jwts.SIG.HS512.key().build());
+      case "ES256" -> useKeyPair(Jwts.SIG.ES256.keyPair().build());
+      case "EdDSA" -> useKeyPair(Jwts.SIG.EdDSA.keyPair().build());
+      default -> throw new IllegalArgumentException("Unsupported algorithm: " + algorithm);
+    }
+    padding = "x".repeat(extraClaimBytes);
+    token = sign();
+  }
+
+  @Benchmark
+  public String sign() {
+    Date now = new Date();
+    JwtBuilder builder =
+        Jwts.builder()
+            .id("benchmark-jti-01")
+            .subject(String.valueOf(BenchmarkFixtures.USER_ID))
+            .issuedAt(now)
+            .expiration(new Date(now.getTime() + BenchmarkFixtures.JWT_EXPIRATION));
+    if (!padding.isEmpty()) {
+      builder.claim("pad", padding);
+    }
+    return builder.signWith(signingKey).compact();
+  }
+
+  @Benchmark
+  public Claims verify() {
+    return jwtParser.parseSignedClaims(token).getPayload();
+  }
+
+  private void useSecretKey(SecretKey key) {
+    signingKey = key;
+    jwtParser = Jwts.parser().verifyWith(key).build();
+  }
+
+  private void useKeyPair(KeyPair keyPair) {
+    PublicKey publicKey = keyPair.getPublic();
+    signingKey = keyPair.getPrivate();
+    jwtParser = Jwts.parser().verifyWith(publicKey).build();
+  }
+}
@@ -0,0 +1,68 @@
+package com.example.usertemplate.auth.security;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.core.Authentication;
+
+/**
+ * JwtTokenProvider의 토큰 발급과 검증 처리량을 측정하는 벤치마크임.
+ *
+ * <p>- algorithm: 비밀키 길이로 정해지는 HMAC 알고리즘(HS256, HS512) 또는 키 링의 비대칭 키(ES256, EdDSA) -
+ * statelessPrincipal: true이면 Access Token에 사용자 정보 클레임이 추가되어 토큰이 길어짐(토큰 크기에 따른 파싱 비용 비교)
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtTokenProviderBenchmark {
+
+  @Param({"HS256", "HS512", "ES256", "EdDSA"})
+  private String algorithm;
+
+  @Param({"false", "true"})
+  private boolean statelessPrincipal;
+
+  private JwtTokenProvider jwtTokenProvider;
+  private Authentication authentication;
+  private String accessToken;
+
+  @Setup
+  public void setUp() {
+    jwtTokenProvider =
+        new JwtTokenProvider(
+            BenchmarkFixtures.keyRing(algorithm),
+            BenchmarkFixtures.JWT_EXPIRATION,
+            BenchmarkFixtures.REFRESH_EXPIRATION,
+            statelessPrincipal);
+    authentication = BenchmarkFixtures.authentication(BenchmarkFixtures.user());
+    accessToken = jwtTokenProvider.generateAccessToken(authentication);
+  }
+
+  @Benchmark
+  public String generateAccessToken() {
+    return jwtTokenProvider.generateAccessToken(authentication);
+  }
+
+  @Benchmark
+  public boolean validateToken() {
+    return jwtTokenProvider.validateToken(accessToken);
+  }
+
+  @Benchmark
+  public Long getUserIdAsLongFromToken() {
+    return jwtTokenProvider.getUserIdAsLongFromToken(accessToken);
+  }
+}
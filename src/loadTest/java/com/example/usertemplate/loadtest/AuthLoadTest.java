@@ -0,0 +1,235 @@
+package com.example.usertemplate.loadtest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.http.HttpClient;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.core.env.Environment;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import com.example.usertemplate.common.user.Role;
+import com.example.usertemplate.loadtest.LoadTestClient.Tokens;
+import com.example.usertemplate.user.entity.User;
+import com.example.usertemplate.user.repository.UserRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import redis.embedded.RedisServer;
+
+/**
+ * 앱 전체를 띄워 인증 API에 부하를 주는 테스트임(./gradlew loadTest).
+ *
+ * <p>- DB는 H2(MySQL 모드), Redis는 내장 서버를 사용함(loadtest.redis.host를 주면 그 Redis를 사용). - 단계: 1.
+ * login-storm: 모든 워커가 동시에 연속으로 로그인 2. mixed: 인증된 조회, 토큰 갱신, 로그아웃 후 블랙리스트 확인, 재로그인, 관리자 페이지 조회를 섞어서
+ * loadtest.duration 동안 실행 - 결과는 단계와 엔드포인트별 처리량, p50/p99/p999, 오류율이며
+ * build/load-test/auth-{mode}.json에 저장됨. - 전체 오류율이 loadtest.max-error-rate를 넘으면 실패함.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class AuthLoadTest {
+
+  private static final String PASSWORD = "load-test-password";
+  private static final String ADMIN_USERNAME = "loadtest-admin";
+  private static final int LOGIN_STORM_ROUNDS = 5;
+  private static final int ADMIN_PAGE_SIZE = 20;
+
+  private static RedisServer redisServer;
+
+  @LocalServerPort private int port;
+
+  @Autowired private UserRepository userRepository;
+  @Autowired private PasswordEncoder passwordEncoder;
+  @Autowired private ObjectMapper objectMapper;
+  @Autowired private Environment environment;
+
+  // 외부 Redis가 지정되지 않으면 빈 포트에 내장 Redis를 띄움
+  @DynamicPropertySource
+  static void redisProperties(DynamicPropertyRegistry registry) throws IOException {
+    String host = System.getProperty("loadtest.redis.host");
+    if (host != null) {
+      registry.add("spring.data.redis.host", () -> host);
+      registry.add("spring.data.redis.port", () -> Integer.getInteger("loadtest.redis.port", 6379));
+      return;
+    }
+    int redisPort = freePort();
+    redisServer = new RedisServer(redisPort);
+    redisServer.start();
+    registry.add("spring.data.redis.host", () -> "localhost");
+    registry.add("spring.data.redis.port", () -> redisPort);
+  }
+
+  @AfterAll
+  static void stopRedis() throws IOException {
+    if (redisServer != null) {
+      redisServer.stop();
+    }
+  }
+
+  @Test
+  void authWorkloadMix() throws Exception {
+    int users = Integer.getInteger("loadtest.users", 200);
+    int concurrency = Integer.getInteger("loadtest.concurrency", 64);
+    Duration duration = Duration.ofSeconds(Long.getLong("loadtest.duration", 30));
+    String mode = System.getProperty("loadtest.mode", "platform");
+    double maxErrorRate = Double.parseDouble(System.getProperty("loadtest.max-error-rate", "0.01"));
+
+    seedUsers(users);
+    LatencyRecorder recorder = new LatencyRecorder();
+
+    try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      HttpClient httpClient =
+          HttpClient.newBuilder().executor(executor).connectTimeout(Duration.ofSeconds(5)).build();
+      LoadTestClient client =
+          new LoadTestClient(httpClient, "http://localhost:" + port, recorder, objectMapper);
+
+      Tokens adminTokens = client.login("setup", ADMIN_USERNAME, PASSWORD);
+      assertThat(adminTokens).as("admin login").isNotNull();
+
+      runPhase(
+          executor,
+          recorder,
+          "login-storm",
+          concurrency,
+          worker -> {
+            for (int i = 0; i < LOGIN_STORM_ROUNDS; i++) {
+              client.login("login-storm", username(worker % users), PASSWORD);
+            }
+          });
+
+      long deadline = System.nanoTime() + duration.toNanos();
+      int adminPages = Math.max(1, (users + 1) / ADMIN_PAGE_SIZE);
+      runPhase(
+          executor,
+          recorder,
+          "mixed",
+          concurrency,
+          worker ->
+              runMixedWorker(client, username(worker % users), adminTokens, adminPages, deadline));
+    }
+
+    Map<String, Object> metadata = new LinkedHashMap<>();
+    metadata.put("mode", mode);
+    metadata.put(
+        "virtualThreads", environment.getProperty("spring.threads.virtual.enabled", "false"));
+    metadata.put("commit", System.getProperty("loadtest.commit", "unknown"));
+    metadata.put("startedAt", Instant.now().toString());
+    metadata.put("users", users);
+    metadata.put("concurrency", concurrency);
+    metadata.put("durationSeconds", duration.toSeconds());
+    Path resultsDir = Path.of(System.getProperty("loadtest.results-dir", "build/load-test"));
+    recorder.writeJson(resultsDir.resolve("auth-" + mode + ".json"), metadata);
+
+    assertThat(recorder.errorRate()).isLessThanOrEqualTo(maxErrorRate);
+  }
+
+  /**
+   * 마감 시각까지 요청을 섞어서 보내는 워커 1개의 동작임.
+   *
+   * <p>비율: 인증된 조회 55%, 토큰 갱신 15%, 로그아웃 후 블랙리스트 확인 10%, 재로그인 10%, 관리자 페이지 조회 10%
+   */
+  private static void runMixedWorker(
+      LoadTestClient client, String username, Tokens adminTokens, int adminPages, long deadline)
+      throws InterruptedException {
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    Tokens tokens = client.login("mixed", username, PASSWORD);
+    while (System.nanoTime() < deadline) {
+      if (tokens == null) {
+        tokens = client.login("mixed", username, PASSWORD);
+        continue;
+      }
+      int roll = random.nextInt(100);
+      if (roll < 55) {
+        client.getSessions("mixed", tokens);
+      } else if (roll < 70) {
+        tokens = client.refresh("mixed", tokens);
+      } else if (roll < 80) {
+        if (client.logout("mixed", tokens)) {
+          client.getSessionsAfterLogout("mixed", tokens);
+        }
+        tokens = null;
+      } else if (roll < 90) {
+        tokens = client.login("mixed", username, PASSWORD);
+      } else {
+        client.listUsers("mixed", adminTokens, random.nextInt(adminPages));
+      }
+    }
+  }
+
+  // 모든 워커를 동시에 실행하고 끝날 때까지 기다린 뒤 실행 시간을 기록
+  private static void runPhase(
+      ExecutorService executor,
+      LatencyRecorder recorder,
+      String phase,
+      int concurrency,
+      Worker worker)
+      throws Exception {
+    long start = System.nanoTime();
+    List<Future<?>> futures = new ArrayList<>();
+    for (int i = 0; i < concurrency; i++) {
+      int index = i;
+      futures.add(
+          executor.submit(
+              () -> {
+                worker.run(index);
+                return null;
+              }));
+    }
+    for (Future<?> future : futures) {
+      future.get();
+    }
+    recorder.phaseFinished(phase, System.nanoTime() - start);
+  }
+
+  // BCrypt 해시는 한 번만 만들어 모든 사용자에 사용
+  private void seedUsers(int users) {
+    String encodedPassword = passwordEncoder.encode(PASSWORD);
+    List<User> seeded = new ArrayList<>();
+    for (int i = 0; i < users; i++) {
+      seeded.add(user(username(i), Role.USER, encodedPassword));
+    }
+    seeded.add(user(ADMIN_USERNAME, Role.ADMIN, encodedPassword));
+    userRepository.saveAll(seeded);
+  }
+
+  private static User user(String username, Role role, String encodedPassword) {
+    return User.builder()
+        .username(username)
+        .email(username + "@loadtest.example.com")
+        .password(encodedPassword)
+        .role(role)
+        .build();
+  }
+
+  private static String username(int index) {
+    return "loadtest-user-" + index;
+  }
+
+  private static int freePort() throws IOException {
+    try (ServerSocket socket = new ServerSocket(0)) {
+      return socket.getLocalPort();
+    }
+  }
+
+  @FunctionalInterface
+  private interface Worker {
+    void run(int index) throws Exception;
+  }
+}
@@ -0,0 +1,115 @@
+package com.example.usertemplate.loadtest;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+/**
+ * 부하 테스트 단계(phase)와 엔드포인트별로 응답 시간과 오류 수를 모으는 기록기임.
+ *
+ * <p>- 응답 시간은 HdrHistogram(1µs ~ 60s, 유효숫자 3자리)에 마이크로초 단위로 기록함. - 결과는 커밋 간 비교가 쉽도록 처리량,
+ * p50/p99/p999, 오류율을 JSON으로 저장함.
+ */
+final class LatencyRecorder {
+
+  private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.SECONDS.toMicros(60);
+
+  private final Map<String, Map<String, EndpointStats>> phases = new ConcurrentHashMap<>();
+  private final Map<String, Long> phaseDurations = new ConcurrentHashMap<>();
+
+  /**
+   * 요청 1건의 결과를 기록함.
+   *
+   * @param phase 부하 단계 이름
+   * @param endpoint "METHOD /path" 형식의 엔드포인트 이름
+   * @param startNanos 요청 시작 시각(System.nanoTime)
+   * @param success 기대한 상태 코드를 받았는지 여부
+   */
+  void record(String phase, String endpoint, long startNanos, boolean success) {
+    long micros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startNanos);
+    EndpointStats stats =
+        phases
+            .computeIfAbsent(phase, key -> new ConcurrentHashMap<>())
+            .computeIfAbsent(endpoint, key -> new EndpointStats());
+    stats.latencies.recordValue(Math.min(Math.max(micros, 1), HIGHEST_TRACKABLE_MICROS));
+    if (!success) {
+      stats.errors.increment();
+    }
+  }
+
+  // 처리량 계산에 쓰는 단계별 실행 시간
+  void phaseFinished(String phase, long elapsedNanos) {
+    phaseDurations.put(phase, elapsedNanos);
+  }
+
+  // 모든 단계의 요청 수 대비 오류 비율
+  double errorRate() {
+    long total = 0;
+    long errors = 0;
+    for (Map<String, EndpointStats> endpoints : phases.values()) {
+      for (EndpointStats stats : endpoints.values()) {
+        total += stats.latencies.getTotalCount();
+        errors += stats.errors.sum();
+      }
+    }
+    return total == 0 ? 0.0 : (double) errors / total;
+  }
+
+  /**
+   * 결과를 JSON 파일로 저장함.
+   *
+   * @param file 저장할 파일
+   * @param metadata 실행 조건(모드, 동시성, 시간 등)
+   */
+  void writeJson(Path file, Map<String, Object> metadata) throws IOException {
+    Map<String, Object> report = new LinkedHashMap<>(metadata);
+    Map<String, Object> phaseReports = new LinkedHashMap<>();
+    phases.forEach(
+        (phase, endpoints) -> {
+          double seconds = phaseDurations.getOrDefault(phase, 0L) / 1_000_000_000.0;
+          Map<String, Object> endpointReports = new LinkedHashMap<>();
+          endpoints.entrySet().stream()
+              .sorted(Map.Entry.comparingByKey())
+              .forEach(
+                  entry -> endpointReports.put(entry.getKey(), entry.getValue().report(seconds)));
+          phaseReports.put(phase, endpointReports);
+        });
+    report.put("phases", phaseReports);
+    report.put("errorRate", errorRate());
+
+    Files.createDirectories(file.getParent());
+    new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(file.toFile(), report);
+  }
+
+  private static final class EndpointStats {
+    private final Histogram latencies = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3);
+    private final LongAdder errors = new LongAdder();
+
+    private Map<String, Object> report(double seconds) {
+      long count = latencies.getTotalCount();
+      long errorCount = errors.sum();
+      Map<String, Object> report = new LinkedHashMap<>();
+      report.put("count", count);
+      report.put("errors", errorCount);
+      report.put("errorRate", count == 0 ? 0.0 : (double) errorCount / count);
+      report.put("throughputPerSecond", seconds > 0 ? count / seconds : 0.0);
+      report.put("meanMs", latencies.getMean() / 1000.0);
+      report.put("p50Ms", latencies.getValueAtPercentile(50.0) / 1000.0);
+      report.put("p99Ms", latencies.getValueAtPercentile(99.0) / 1000.0);
+      report.put("p999Ms", latencies.getValueAtPercentile(99.9) / 1000.0);
+      report.put("maxMs", latencies.getMaxValue() / 1000.0);
+      return report;
+    }
+  }
+}
@@ -0,0 +1,131 @@
+package com.example.usertemplate.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * 부하 테스트에서 인증 API를 호출하고 결과를 LatencyRecorder에 기록하는 클라이언트임.
+ *
+ * <p>각 메서드는 기대한 상태 코드를 받지 못하거나 I/O 오류가 나면 오류로 기록하고 null 또는 false를 반환함.
+ */
+final class LoadTestClient {
+
+  static final String LOGIN = "POST /api/v1/auth/login";
+  static final String REFRESH = "POST /api/v1/auth/refresh";
+  static final String LOGOUT = "POST /api/v1/auth/logout";
+  static final String SESSIONS = "GET /api/v1/auth/sessions";
+  static final String SESSIONS_AFTER_LOGOUT = "GET /api/v1/auth/sessions (after logout)";
+  static final String ADMIN_USERS = "GET /api/v1/admin/users";
+
+  private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+  /** 로그인이나 토큰 갱신으로 받은 토큰 쌍임. */
+  record Tokens(String accessToken, String refreshToken) {}
+
+  private final HttpClient httpClient;
+  private final String baseUrl;
+  private final LatencyRecorder recorder;
+  private final ObjectMapper objectMapper;
+
+  LoadTestClient(
+      HttpClient httpClient, String baseUrl, LatencyRecorder recorder, ObjectMapper objectMapper) {
+    this.httpClient = httpClient;
+    this.baseUrl = baseUrl;
+    this.recorder = recorder;
+    this.objectMapper = objectMapper;
+  }
+
+  Tokens login(String phase, String username, String password) throws InterruptedException {
+    String body;
+    try {
+      body = objectMapper.writeValueAsString(Map.of("username", username, "password", password));
+    } catch (IOException e) {
+      throw new IllegalStateException(e);
+    }
+    HttpRequest request =
+        request("/api/v1/auth/login")
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofString(body))
+            .build();
+    return tokens(send(phase, LOGIN, request, 200));
+  }
+
+  Tokens refresh(String phase, Tokens tokens) throws InterruptedException {
+    HttpRequest request =
+        authorized("/api/v1/auth/refresh", tokens.accessToken())
+            .POST(HttpRequest.BodyPublishers.noBody())
+            .build();
+    return tokens(send(phase, REFRESH, request, 200));
+  }
+
+  boolean logout(String phase, Tokens tokens) throws InterruptedException {
+    HttpRequest request =
+        authorized("/api/v1/auth/logout", tokens.accessToken())
+            .POST(HttpRequest.BodyPublishers.noBody())
+            .build();
+    return send(phase, LOGOUT, request, 200) != null;
+  }
+
+  boolean getSessions(String phase, Tokens tokens) throws InterruptedException {
+    HttpRequest request = authorized("/api/v1/auth/sessions", tokens.accessToken()).GET().build();
+    return send(phase, SESSIONS, request, 200) != null;
+  }
+
+  // 로그아웃한 토큰은 블랙리스트 확인에 걸려 401이어야 함
+  boolean getSessionsAfterLogout(String phase, Tokens tokens) throws InterruptedException {
+    HttpRequest request = authorized("/api/v1/auth/sessions", tokens.accessToken()).GET().build();
+    return send(phase, SESSIONS_AFTER_LOGOUT, request, 401) != null;
+  }
+
+  boolean listUsers(String phase, Tokens adminTokens, int page) throws InterruptedException {
+    HttpRequest request =
+        authorized("/api/v1/admin/users?page=" + page + "&size=20", adminTokens.accessToken())
+            .GET()
+            .build();
+    return send(phase, ADMIN_USERS, request, 200) != null;
+  }
+
+  // 요청을 보내고 기록함(기대한 상태 코드면 응답 본문, 아니면 null)
+  private String send(String phase, String endpoint, HttpRequest request, int expectedStatus)
+      throws InterruptedException {
+    long start = System.nanoTime();
+    try {
+      HttpResponse<String> response =
+          httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+      boolean success = response.statusCode() == expectedStatus;
+      recorder.record(phase, endpoint, start, success);
+      return success ? response.body() : null;
+    } catch (IOException e) {
+      recorder.record(phase, endpoint, start, false);
+      return null;
+    }
+  }
+
+  private Tokens tokens(String body) {
+    if (body == null) {
+      return null;
+    }
+    try {
+      JsonNode data = objectMapper.readTree(body).path("data");
+      return new Tokens(data.path("accessToken").asText(), data.path("refreshToken").asText());
+    } catch (IOException e) {
+      return null;
+    }
+  }
+
+  private HttpRequest.Builder authorized(String path, String accessToken) {
+    return request(path).header("Authorization", "Bearer " + accessToken);
+  }
+
+  private HttpRequest.Builder request(String path) {
+    return HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(REQUEST_TIMEOUT);
+  }
+}
@@ -10,10 +10,11 @@ import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
 import com.example.usertemplate.admin.service.AdminService;
-import com.example.usertemplate.global.common.ApiResponse;
-import com.example.usertemplate.global.common.PageResponse;
-import com.example.usertemplate.user.dto.UserResponse;
-import com.example.usertemplate.user.dto.UserUpdateRequest;
+import com.example.usertemplate.common.response.ApiResponse;
+import com.example.usertemplate.common.response.PageResponse;
+import com.example.usertemplate.common.user.UserResponse;
+import com.example.usertemplate.common.user.UserUpdateRequest;
+import com.example.usertemplate.global.metrics.AuthMetrics;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
@@ -21,7 +22,7 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
-/** 관리자의 로직을 매핑하는 컨트롤러임. */
+/** 관리자의 로직을 매핑하는 컨트롤러임(각 작업의 처리 시간은 admin.* 단계로 기록). */
 @Slf4j
 @RestController
 @RequestMapping("/api/v1/admin")
@@ -32,6 +33,7 @@ import lombok.extern.slf4j.Slf4j;
 public class AdminController {
 
   private final AdminService adminService;
+  private final AuthMetrics authMetrics;
 
   // 모든 유저를 가져오기 위한 매핑
   @GetMapping("/users")
@@ -50,7 +52,8 @@ public class AdminController {
               : Sort.by(sortBy).ascending();
       Pageable pageable = PageRequest.of(page, size, sort);
 
-      PageResponse<UserResponse> users = adminService.getAllUsers(pageable);
+      PageResponse<UserResponse> users =
+          authMetrics.record("admin.get_all_users", () -> adminService.getAllUsers(pageable));
       return ResponseEntity.ok(ApiResponse.success("Users retrieved successfully", users));
     } catch (Exception ex) {
       log.error("Admin: Failed to get all users: ", ex);
@@ -64,7 +67,7 @@ public class AdminController {
   public ResponseEntity<ApiResponse<UserResponse>> getUserById(@PathVariable Long id) {
     try {
       log.info("Admin: Getting user by ID: {}", id);
-      UserResponse user = adminService.getUserById(id);
+      UserResponse user = authMetrics.record("admin.get_user", () -> adminService.getUserById(id));
       return ResponseEntity.ok(ApiResponse.success("User retrieved successfully", user));
     } catch (Exception ex) {
       log.error("Admin: Failed to get user by ID: ", ex);
@@ -79,7 +82,8 @@ public class AdminController {
       @PathVariable Long id, @Valid @RequestBody UserUpdateRequest request) {
     try {
       log.info("Admin: Updating user ID: {}", id);
-      UserResponse user = adminService.updateUser(id, request);
+      UserResponse user =
+          authMetrics.record("admin.update_user", () -> adminService.updateUser(id, request));
       return ResponseEntity.ok(ApiResponse.success("User updated successfully", user));
     } catch (Exception ex) {
       log.error("Admin: Failed to update user: ", ex);
@@ -93,11 +97,44 @@ public class AdminController {
   public ResponseEntity<ApiResponse<Void>> deleteUser(@PathVariable Long id) {
     try {
       log.info("Admin: Deleting user ID: {}", id);
-      adminService.deleteUser(id);
+      authMetrics.run("admin.delete_user", () -> adminService.deleteUser(id));
       return ResponseEntity.ok(ApiResponse.success("User deleted successfully", null));
     } catch (Exception ex) {
       log.error("Admin: Failed to delete user: ", ex);
       throw ex;
     }
   }
+
+  // 해당 유저 한 명에게 발급된 모든 토큰을 폐기하기 위한 매핑
+  @PostMapping("/users/{id}/revoke-tokens")
+  @Operation(
+      summary = "Revoke user tokens",
+      description = "Invalidate every access and refresh token issued to a user")
+  public ResponseEntity<ApiResponse<Void>> revokeUserTokens(@PathVariable Long id) {
+    try {
+      log.info("Admin: Revoking tokens for user ID: {}", id);
+      authMetrics.run("admin.revoke_tokens", () -> adminService.revokeUserTokens(id));
+      return ResponseEntity.ok(ApiResponse.success("User tokens revoked successfully", null));
+    } catch (Exception ex) {
+      log.error("Admin: Failed to revoke user tokens: ", ex);
+      throw ex;
+    }
+  }
+
+  // 로그인 실패로 잠긴 계정을 풀기 위한 매핑
+  @PostMapping("/users/{id}/unlock")
+  @Operation(
+      summary = "Unlock user",
+      description = "Unlock an account locked after repeated login failures")
+  public ResponseEntity<ApiResponse<UserResponse>> unlockUser(@PathVariable Long id) {
+    try {
+      log.info("Admin: Unlocking user ID: {}", id);
+      UserResponse user =
+          authMetrics.record("admin.unlock_user", () -> adminService.unlockUser(id));
+      return ResponseEntity.ok(ApiResponse.success("User unlocked successfully", user));
+    } catch (Exception ex) {
+      log.error("Admin: Failed to unlock user: ", ex);
+      throw ex;
+    }
+  }
 }
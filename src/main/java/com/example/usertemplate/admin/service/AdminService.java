@@ -2,9 +2,9 @@ package com.example.usertemplate.admin.service;
 
 import org.springframework.data.domain.Pageable;
 
-import com.example.usertemplate.global.common.PageResponse;
-import com.example.usertemplate.user.dto.UserResponse;
-import com.example.usertemplate.user.dto.UserUpdateRequest;
+import com.example.usertemplate.common.response.PageResponse;
+import com.example.usertemplate.common.user.UserResponse;
+import com.example.usertemplate.common.user.UserUpdateRequest;
 
 /** 관리자가 유저를 관리하기 위한 서비스임. */
 public interface AdminService {
@@ -20,4 +20,10 @@ public interface AdminService {
 
   // id로 유저를 삭제
   void deleteUser(Long id);
+
+  // id로 유저에게 발급된 모든 토큰을 폐기
+  void revokeUserTokens(Long id);
+
+  // id로 로그인 실패 때문에 잠긴 계정을 풀고 실패 기록을 지움
+  UserResponse unlockUser(Long id);
 }
@@ -8,10 +8,13 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import com.example.usertemplate.global.common.PageResponse;
-import com.example.usertemplate.global.exception.BusinessException;
-import com.example.usertemplate.user.dto.UserResponse;
-import com.example.usertemplate.user.dto.UserUpdateRequest;
+import com.example.usertemplate.auth.ratelimit.LoginRateLimiter;
+import com.example.usertemplate.auth.token.TokenRevocationService;
+import com.example.usertemplate.common.exception.BusinessException;
+import com.example.usertemplate.common.response.PageResponse;
+import com.example.usertemplate.common.user.UserResponse;
+import com.example.usertemplate.common.user.UserUpdateRequest;
+import com.example.usertemplate.user.cache.UserCacheService;
 import com.example.usertemplate.user.entity.User;
 import com.example.usertemplate.user.repository.UserRepository;
 
@@ -26,6 +29,9 @@ public class AdminServiceImpl implements AdminService {
 
   private final UserRepository userRepository;
   private final PasswordEncoder passwordEncoder;
+  private final UserCacheService userCacheService;
+  private final TokenRevocationService tokenRevocationService;
+  private final LoginRateLimiter loginRateLimiter;
 
   @Override
   @Transactional(readOnly = true)
@@ -60,6 +66,9 @@ public class AdminServiceImpl implements AdminService {
             .findById(id)
             .orElseThrow(() -> new BusinessException("User not found", 404, "USER_NOT_FOUND"));
 
+    // 캐시 무효화를 위해 변경 전 값을 보관
+    String previousEmail = user.getEmail();
+
     if (request.username() != null && !request.username().equals(user.getUsername())) {
       if (userRepository.existsByUsername(request.username())) {
         throw new BusinessException("Username already exists", 404, "DUPLICATE_USERNAME");
@@ -74,11 +83,21 @@ public class AdminServiceImpl implements AdminService {
       user.setEmail(request.email());
     }
 
-    if (request.password() != null) {
+    boolean passwordChanged = request.password() != null;
+    if (passwordChanged) {
       user.setPassword(passwordEncoder.encode(request.password()));
     }
 
+    // 토큰에 담긴 사용자 정보가 더 이상 최신이 아니므로 보안 버전을 올림
+    user.bumpSecurityVersion();
+
     User updateUser = userRepository.save(user);
+    userCacheService.evict(updateUser, previousEmail);
+
+    // 비밀번호가 바뀌면 기존에 발급된 모든 토큰을 폐기
+    if (passwordChanged) {
+      tokenRevocationService.revokeAllTokens(id);
+    }
     log.info("Admin: User updated successfully {}", id);
 
     return UserResponse.from(updateUser);
@@ -96,6 +115,43 @@ public class AdminServiceImpl implements AdminService {
             .orElseThrow(() -> new BusinessException("User not found", 404, "USER_NOT_FOUND"));
 
     userRepository.delete(user);
+    userCacheService.evictDeleted(user);
     log.info("Admin: User deleted successfully: {}", id);
   }
+
+  @Override
+  @Transactional(readOnly = true)
+  public void revokeUserTokens(Long id) {
+    log.info("Admin: Revoking all tokens for user ID: {}", id);
+
+    if (!userRepository.existsById(id)) {
+      throw new BusinessException("User not found", 404, "USER_NOT_FOUND");
+    }
+
+    tokenRevocationService.revokeAllTokens(id);
+    log.info("Admin: All tokens revoked for user: {}", id);
+  }
+
+  @Override
+  @Transactional
+  public UserResponse unlockUser(Long id) {
+    log.info("Admin: Unlocking user ID: {}", id);
+
+    User user =
+        userRepository
+            .findById(id)
+            .orElseThrow(() -> new BusinessException("User not found", 404, "USER_NOT_FOUND"));
+
+    // 실패 기록을 남겨 두면 다음 실패 한 번에 다시 잠기므로 함께 지움
+    loginRateLimiter.reset(user.getUsername());
+    if (!user.isAccountNonLocked()) {
+      user.setAccountNonLocked(true);
+      user.bumpSecurityVersion();
+      userRepository.save(user);
+      userCacheService.evict(user, user.getEmail());
+    }
+    log.info("Admin: User unlocked successfully: {}", id);
+
+    return UserResponse.from(user);
+  }
 }
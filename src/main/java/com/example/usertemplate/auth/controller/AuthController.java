@@ -1,31 +1,40 @@
 package com.example.usertemplate.auth.controller;
 
+import java.util.List;
 import java.util.Optional;
 
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.util.StringUtils;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
-import com.example.usertemplate.auth.dto.LoginRequest;
-import com.example.usertemplate.auth.dto.LoginResponse;
-import com.example.usertemplate.auth.dto.RegisterRequest;
 import com.example.usertemplate.auth.security.JwtTokenProvider;
+import com.example.usertemplate.auth.security.VerifiedToken;
 import com.example.usertemplate.auth.service.AuthService;
 import com.example.usertemplate.auth.token.BlacklistTokenService;
 import com.example.usertemplate.auth.token.RefreshToken;
-import com.example.usertemplate.auth.token.RefreshTokenRepository;
 import com.example.usertemplate.auth.token.RefreshTokenService;
-import com.example.usertemplate.global.common.ApiResponse;
-import com.example.usertemplate.global.exception.BusinessException;
-import com.example.usertemplate.user.dto.UserResponse;
+import com.example.usertemplate.auth.token.TokenRevocationService;
+import com.example.usertemplate.common.auth.LoginRequest;
+import com.example.usertemplate.common.auth.LoginResponse;
+import com.example.usertemplate.common.auth.RefreshTokenRotation;
+import com.example.usertemplate.common.auth.RegisterRequest;
+import com.example.usertemplate.common.auth.SessionResponse;
+import com.example.usertemplate.common.exception.BusinessException;
+import com.example.usertemplate.common.response.ApiResponse;
+import com.example.usertemplate.common.user.UserResponse;
 import com.example.usertemplate.user.entity.User;
 import com.example.usertemplate.user.service.UserService;
 
@@ -43,9 +52,9 @@ import lombok.extern.slf4j.Slf4j;
 public class AuthController {
 
   private final AuthService authService;
-  private final RefreshTokenRepository tokenRepository;
   private final RefreshTokenService tokenService;
   private final BlacklistTokenService blacklistTokenService;
+  private final TokenRevocationService tokenRevocationService;
   private final JwtTokenProvider jwtTokenProvider;
   private final UserService userService;
 
@@ -68,9 +77,9 @@ public class AuthController {
   @Operation(summary = "Login", description = "User login")
   @PostMapping("/login")
   public ResponseEntity<ApiResponse<LoginResponse>> login(
-      @Valid @RequestBody LoginRequest request) {
+      @Valid @RequestBody LoginRequest request, HttpServletRequest httpRequest) {
     try {
-      LoginResponse response = authService.login(request);
+      LoginResponse response = authService.login(request, httpRequest.getRemoteAddr());
       return ResponseEntity.ok(ApiResponse.success("Login successful", response));
     } catch (Exception e) {
       log.error("Login failed: ", e);
@@ -85,16 +94,69 @@ public class AuthController {
 
     String token = extractToken(accessToken);
 
+    // 토큰을 한 번만 파싱하여 검증하고 토큰 ID와 남은 만료 시간을 얻음
+    VerifiedToken verifiedToken =
+        jwtTokenProvider
+            .verify(token)
+            .orElseThrow(() -> new BusinessException("Invalid token", 401, "INVALID_TOKEN"));
+
     // 엑세스 토큰으로 현재 Redis 정보 삭제
-    tokenService.removeRefreshToken(token);
+    tokenService.removeRefreshToken(verifiedToken.userId(), token);
 
-    // 블랙리스트에 등록
-    long ttl = jwtTokenProvider.getRemainingMillis(token) / 1000;
-    blacklistTokenService.addToBlacklist(token, ttl);
+    // 블랙리스트에 등록(남은 만료 시간 동안 유지)
+    blacklistTokenService.addToBlacklist(verifiedToken, token);
 
     return ResponseEntity.ok(ApiResponse.success("logout successful", null));
   }
 
+  @Operation(
+      summary = "Logout from all devices",
+      description = "Revoke every access and refresh token issued to the current user")
+  @PostMapping("/logout-all")
+  public ResponseEntity<ApiResponse<Void>> logoutAll(@AuthenticationPrincipal User user) {
+    if (user == null) {
+      throw new BusinessException("Authentication required", 401, "AUTHENTICATION_REQUIRED");
+    }
+
+    // 사용자 단위 폐기 시각을 갱신하여 지금까지 발급된 모든 토큰을 무효화
+    tokenRevocationService.revokeAllTokens(user.getId());
+
+    return ResponseEntity.ok(ApiResponse.success("logout from all devices successful", null));
+  }
+
+  @Operation(
+      summary = "List sessions",
+      description = "List the refresh token sessions (devices) of the current user")
+  @GetMapping("/sessions")
+  public ResponseEntity<ApiResponse<List<SessionResponse>>> getSessions(
+      @AuthenticationPrincipal User user,
+      @RequestHeader(value = "Authorization", required = false) final String accessToken) {
+    if (user == null) {
+      throw new BusinessException("Authentication required", 401, "AUTHENTICATION_REQUIRED");
+    }
+
+    List<SessionResponse> sessions =
+        tokenService.getSessions(user.getId(), extractToken(accessToken));
+    return ResponseEntity.ok(ApiResponse.success("Sessions retrieved successfully", sessions));
+  }
+
+  @Operation(
+      summary = "Revoke session",
+      description =
+          "Revoke one session of the current user. Its access token stays valid until it expires")
+  @DeleteMapping("/sessions/{sessionId}")
+  public ResponseEntity<ApiResponse<Void>> revokeSession(
+      @AuthenticationPrincipal User user, @PathVariable String sessionId) {
+    if (user == null) {
+      throw new BusinessException("Authentication required", 401, "AUTHENTICATION_REQUIRED");
+    }
+
+    // 해당 세션의 Refresh Token으로는 더 이상 토큰을 갱신할 수 없음
+    tokenService.revokeSession(user.getId(), sessionId);
+
+    return ResponseEntity.ok(ApiResponse.success("Session revoked successfully", null));
+  }
+
   @Operation(summary = "Refresh token", description = "Refresh access token")
   @PostMapping("/refresh")
   public ResponseEntity<ApiResponse<LoginResponse>> refresh(
@@ -105,25 +167,23 @@ public class AuthController {
       throw new BusinessException("Invalid token", 401, "INVALID_TOKEN");
     }
 
-    // 1. 액세스 토큰으로 Refresh 토큰 객체를 조회
-    Optional<RefreshToken> refreshTokenOptional = tokenRepository.findByAccessToken(token);
-
-    if (refreshTokenOptional.isEmpty()) {
-      return ResponseEntity.badRequest()
-          .body(ApiResponse.error("Invalid or expired refresh token"));
+    // 1. 액세스 토큰의 서명을 검증하고 사용자 ID를 얻음(만료는 허용)
+    Optional<VerifiedToken> verifiedAccessToken = jwtTokenProvider.verifyIgnoringExpiration(token);
+    if (verifiedAccessToken.isEmpty()) {
+      throw new BusinessException("Invalid token", 401, "INVALID_TOKEN");
     }
 
-    RefreshToken oldRefreshToken = refreshTokenOptional.get();
-
-    // 2. RefreshToken의 유효성 검증
-    if (!jwtTokenProvider.validateToken(oldRefreshToken.getRefreshToken())) {
-      tokenRepository.delete(oldRefreshToken); // 만료된 토큰은 삭제
+    // 2. 사용자 단위로 폐기된 토큰이면 세션을 삭제
+    if (tokenRevocationService.isRevoked(verifiedAccessToken.get())) {
+      tokenService
+          .findByAccessToken(verifiedAccessToken.get().userId(), token)
+          .ifPresent(tokenService::delete);
       return ResponseEntity.badRequest()
           .body(ApiResponse.error("Invalid or expired refresh token"));
     }
 
-    // 3. 사용자 정보 조회
-    User user = userService.findUserByEmail(oldRefreshToken.getId());
+    // 3. 사용자 정보 조회(사용자 캐시)
+    User user = userService.findUserById(verifiedAccessToken.get().userId());
 
     // 4. 새로운 토큰 생성 (Access, Refresh 둘 다)
     UsernamePasswordAuthenticationToken authentication =
@@ -132,15 +192,38 @@ public class AuthController {
     String newAccessToken = jwtTokenProvider.generateAccessToken(authentication);
     String newRefreshToken = jwtTokenProvider.generateRefreshToken(user.getId());
 
-    // 5. 기존 Refresh Token 삭제 (Rotation)
-    tokenRepository.delete(oldRefreshToken);
-
-    // 6. 새로운 Refresh Token 저장
-    tokenService.saveTokenInfo(user.getEmail(), newRefreshToken, newAccessToken);
+    // 5. 기존 토큰 쌍을 새 토큰 쌍으로 원자적으로 교체 (Rotation)
+    RefreshTokenRotation rotation =
+        tokenService.rotate(user.getId(), token, newAccessToken, newRefreshToken);
+    switch (rotation.status()) {
+      case NOT_FOUND -> {
+        return ResponseEntity.badRequest()
+            .body(ApiResponse.error("Invalid or expired refresh token"));
+      }
+      case CONCURRENT ->
+          throw new BusinessException(
+              "Token has already been refreshed", 409, "REFRESH_IN_PROGRESS");
+      case REUSED -> {
+        log.warn("Refresh token reuse detected for user: {}", user.getUsername());
+        throw new BusinessException("Refresh token reuse detected", 401, "REFRESH_TOKEN_REUSED");
+      }
+      case ROTATED -> {
+        // 회전된 기존 RefreshToken의 유효성 검증(실패하면 새 세션도 삭제)
+        Optional<VerifiedToken> verifiedRefreshToken =
+            jwtTokenProvider.verify(rotation.previousRefreshToken());
+        if (verifiedRefreshToken.isEmpty()
+            || !user.getId().equals(verifiedRefreshToken.get().userId())
+            || tokenRevocationService.isRevoked(verifiedRefreshToken.get())) {
+          tokenService.delete(new RefreshToken(rotation.id(), user.getId(), newRefreshToken));
+          return ResponseEntity.badRequest()
+              .body(ApiResponse.error("Invalid or expired refresh token"));
+        }
+      }
+    }
 
     log.info("Token refreshed and rotated for user: {}", user.getUsername());
 
-    // 7. 새로운 토큰 반환
+    // 6. 새로운 토큰 반환
     return ResponseEntity.ok(
         ApiResponse.success(
             "Token refreshed successfully", LoginResponse.of(newAccessToken, newRefreshToken)));
@@ -0,0 +1,35 @@
+package com.example.usertemplate.auth.controller;
+
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.usertemplate.auth.key.JwksDocument;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+
+/** 다른 서비스가 토큰을 직접 검증할 수 있도록 공개키 목록(JWKS)을 제공하는 컨트롤러임. */
+@RestController
+@RequiredArgsConstructor
+@Tag(name = "JWKS", description = "Public keys for local token verification")
+public class JwksController {
+
+  private final JwksDocument jwksDocument;
+
+  // 만료되지 않은 모든 노드의 공개키(HMAC 모드에서는 빈 목록), If-None-Match가 ETag와 같으면 304
+  @GetMapping(value = "/.well-known/jwks.json", produces = MediaType.APPLICATION_JSON_VALUE)
+  @Operation(
+      summary = "JSON Web Key Set",
+      description = "Public keys that verify access and refresh tokens, selected by kid")
+  public ResponseEntity<byte[]> getJwks() {
+    JwksDocument.Snapshot snapshot = jwksDocument.current();
+    return ResponseEntity.ok()
+        .contentType(MediaType.APPLICATION_JSON)
+        .cacheControl(jwksDocument.cacheControl())
+        .eTag(snapshot.etag())
+        .body(snapshot.body());
+  }
+}
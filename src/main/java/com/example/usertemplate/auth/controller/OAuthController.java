@@ -13,9 +13,9 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
-import com.example.usertemplate.auth.dto.LoginResponse;
 import com.example.usertemplate.auth.oauth.service.OAuthService;
-import com.example.usertemplate.global.common.ApiResponse;
+import com.example.usertemplate.common.auth.LoginResponse;
+import com.example.usertemplate.common.response.ApiResponse;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -0,0 +1,50 @@
+package com.example.usertemplate.auth.key;
+
+import java.math.BigInteger;
+import java.security.PublicKey;
+import java.security.interfaces.ECPublicKey;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/** 키 링의 공개키를 JWK(RFC 7517) 형식의 맵으로 바꾸는 클래스임. */
+public final class JwkEncoder {
+
+  // P-256 좌표와 Ed25519 공개키의 바이트 수
+  private static final int KEY_BYTES = 32;
+  private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+  private JwkEncoder() {}
+
+  public static Map<String, String> toJwk(JwtKey key) {
+    Map<String, String> jwk = new LinkedHashMap<>();
+    PublicKey publicKey = (PublicKey) key.verificationKey();
+    if (publicKey instanceof ECPublicKey ecPublicKey) {
+      jwk.put("kty", "EC");
+      jwk.put("crv", "P-256");
+      jwk.put("x", encode(ecPublicKey.getW().getAffineX()));
+      jwk.put("y", encode(ecPublicKey.getW().getAffineY()));
+    } else {
+      // Ed25519의 X.509 인코딩은 고정 길이 접두사 뒤에 32바이트 공개키가 붙는 형식임
+      byte[] encoded = publicKey.getEncoded();
+      byte[] x = Arrays.copyOfRange(encoded, encoded.length - KEY_BYTES, encoded.length);
+      jwk.put("kty", "OKP");
+      jwk.put("crv", "Ed25519");
+      jwk.put("x", ENCODER.encodeToString(x));
+    }
+    jwk.put("kid", key.kid());
+    jwk.put("use", "sig");
+    jwk.put("alg", key.algorithm());
+    return jwk;
+  }
+
+  // 부호 바이트를 빼고 앞을 0으로 채운 32바이트 빅엔디언 값
+  private static String encode(BigInteger coordinate) {
+    byte[] bytes = coordinate.toByteArray();
+    byte[] padded = new byte[KEY_BYTES];
+    int length = Math.min(bytes.length, KEY_BYTES);
+    System.arraycopy(bytes, bytes.length - length, padded, KEY_BYTES - length, length);
+    return ENCODER.encodeToString(padded);
+  }
+}
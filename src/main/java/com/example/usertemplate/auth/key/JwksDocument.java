@@ -0,0 +1,92 @@
+package com.example.usertemplate.auth.key;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * JWKS 응답 본문을 미리 직렬화해 두는 컴포넌트임.
+ *
+ * <p>- 키 링의 버전(키 추가/제거 시 증가)이 바뀌었을 때만 본문과 ETag를 다시 만들므로, 평소 요청은 만들어 둔 바이트 배열을 그대로 반환함. - ETag는 본문의
+ * SHA-256 값(강한 검증자)이며 If-None-Match가 같으면 304로 응답함. - Cache-Control max-age는 회전 주기의 절반임. 다음 키는 한 회전
+ * 주기 전에 공개되므로, 캐시를 지키는 클라이언트도 그 키가 서명에 쓰이기 전에 최소 한 번은 새 목록을 받음.
+ */
+@Component
+public class JwksDocument {
+
+  private static final Base64.Encoder ETAG_ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+  private final JwtKeyRing keyRing;
+  private final ObjectMapper objectMapper;
+  private final CacheControl cacheControl;
+
+  private volatile Snapshot snapshot = new Snapshot(-1L, new byte[0], "");
+
+  public JwksDocument(
+      JwtKeyRing keyRing,
+      ObjectMapper objectMapper,
+      @Value("${jwt.keys.rotation-interval:86400000}") long rotationInterval) {
+    this.keyRing = keyRing;
+    this.objectMapper = objectMapper;
+    this.cacheControl = CacheControl.maxAge(Duration.ofMillis(rotationInterval / 2)).cachePublic();
+  }
+
+  /**
+   * 직렬화된 JWKS 본문과 ETag.
+   *
+   * @param version 만들 때의 키 링 버전
+   * @param body JSON 본문
+   * @param etag 본문의 SHA-256(Base64URL, 따옴표 제외)
+   */
+  public record Snapshot(long version, byte[] body, String etag) {}
+
+  // 키 링이 바뀌었으면 다시 만들고, 아니면 만들어 둔 본문을 반환(동시에 다시 만들어도 결과는 같음)
+  public Snapshot current() {
+    Snapshot current = snapshot;
+    long version = keyRing.version();
+    if (current.version() != version) {
+      current = build(version);
+      snapshot = current;
+    }
+    return current;
+  }
+
+  public CacheControl cacheControl() {
+    return cacheControl;
+  }
+
+  private Snapshot build(long version) {
+    long now = System.currentTimeMillis();
+    List<Map<String, String>> keys =
+        keyRing.verificationKeys().stream()
+            .filter(key -> !key.isExpired(now))
+            .sorted(Comparator.comparing(JwtKey::kid))
+            .map(JwkEncoder::toJwk)
+            .toList();
+    try {
+      byte[] body = objectMapper.writeValueAsBytes(Map.of("keys", keys));
+      return new Snapshot(version, body, etag(body));
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("Failed to serialize JWKS", e);
+    }
+  }
+
+  private static String etag(byte[] body) {
+    try {
+      return ETAG_ENCODER.encodeToString(MessageDigest.getInstance("SHA-256").digest(body));
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 is not available", e);
+    }
+  }
+}
@@ -0,0 +1,24 @@
+package com.example.usertemplate.auth.key;
+
+import java.security.Key;
+
+/**
+ * 토큰 서명과 검증에 쓰는 키 하나임.
+ *
+ * @param kid 키 ID(JWS 헤더의 kid, jwt.secret으로 만든 HMAC 키는 null)
+ * @param algorithm JWS 알고리즘 이름(ES256, EdDSA, HMAC 키는 키 길이에 따른 HmacSHA*)
+ * @param signingKey 서명용 키(다른 노드가 공개한 키는 null)
+ * @param verificationKey 검증용 키(HMAC 키는 signingKey와 같음)
+ * @param expiresAt 이 키로 서명한 토큰이 모두 만료되는 시각(ms), 이후에는 검증에 쓰지 않음
+ */
+public record JwtKey(
+    String kid, String algorithm, Key signingKey, Key verificationKey, long expiresAt) {
+
+  public boolean isExpired(long now) {
+    return now >= expiresAt;
+  }
+
+  JwtKey withExpiresAt(long expiresAt) {
+    return new JwtKey(kid, algorithm, signingKey, verificationKey, expiresAt);
+  }
+}
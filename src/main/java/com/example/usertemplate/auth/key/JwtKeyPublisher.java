@@ -0,0 +1,137 @@
+package com.example.usertemplate.auth.key;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.PublicKey;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.Base64;
+import java.util.Map;
+
+import jakarta.annotation.PostConstruct;
+
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 키 링의 공개키를 Redis로 다른 노드와 공유하고 서명 키를 주기적으로 회전하는 컴포넌트임.
+ *
+ * <p>- 공개키는 jwt:keys 해시(kid → "알고리즘:만료시각:Base64 X.509")에 저장하고 jwt-keys:published 채널로 같은 값을 알림. 메시지에
+ * 키가 담겨 있으므로 수신한 노드는 Redis를 다시 조회하지 않음. - 메시지를 놓친 노드도 jwt.keys.sync-interval마다 해시 전체를 다시 읽어 반영하며,
+ * 이때 만료된 키는 해시에서 지움. - 서명 키 회전은 jwt.keys.rotation-interval마다 실행됨. - 개인키는 Redis에 저장하지 않음. - HMAC
+ * 모드에서는 아무것도 하지 않음.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class JwtKeyPublisher implements MessageListener {
+
+  public static final String KEYS_HASH = "jwt:keys";
+  public static final String KEYS_CHANNEL = "jwt-keys:published";
+
+  private final JwtKeyRing keyRing;
+  private final RedisTemplate<String, String> redisTemplate;
+  private final RedisMessageListenerContainer listenerContainer;
+
+  // 다른 노드의 키 공개 메시지를 구독하고 이 노드의 키를 공개한 뒤 기존 키를 읽어옴
+  @PostConstruct
+  void start() {
+    if (!keyRing.isAsymmetric()) {
+      return;
+    }
+    listenerContainer.addMessageListener(this, new ChannelTopic(KEYS_CHANNEL));
+    keyRing.localKeys().forEach(this::publish);
+    sync();
+  }
+
+  @Scheduled(
+      fixedDelayString = "${jwt.keys.rotation-interval:86400000}",
+      initialDelayString = "${jwt.keys.rotation-interval:86400000}")
+  public void rotate() {
+    keyRing.rotate().forEach(this::publish);
+  }
+
+  // Redis의 공개키 전체를 키 링에 반영하고 만료된 키를 정리
+  @Scheduled(
+      fixedDelayString = "${jwt.keys.sync-interval:60000}",
+      initialDelayString = "${jwt.keys.sync-interval:60000}")
+  public void sync() {
+    if (!keyRing.isAsymmetric()) {
+      return;
+    }
+    long now = System.currentTimeMillis();
+    try {
+      Map<Object, Object> entries = redisTemplate.opsForHash().entries(KEYS_HASH);
+      for (Map.Entry<Object, Object> entry : entries.entrySet()) {
+        String kid = (String) entry.getKey();
+        JwtKey key = decode(kid, (String) entry.getValue());
+        if (key == null || key.isExpired(now)) {
+          redisTemplate.opsForHash().delete(KEYS_HASH, kid);
+        }
+        if (key != null) {
+          keyRing.registerPublished(key, now);
+        }
+      }
+    } catch (RuntimeException e) {
+      log.warn("Failed to sync JWT verification keys: {}", e.getMessage());
+    }
+    keyRing.removeExpired(now);
+  }
+
+  // 다른 노드(자기 자신 포함)가 공개한 키를 키 링에 반영
+  @Override
+  public void onMessage(Message message, byte[] pattern) {
+    String body = new String(message.getBody(), StandardCharsets.UTF_8);
+    int separator = body.indexOf(':');
+    JwtKey key =
+        separator > 0 ? decode(body.substring(0, separator), body.substring(separator + 1)) : null;
+    if (key != null) {
+      keyRing.registerPublished(key, System.currentTimeMillis());
+    }
+  }
+
+  private void publish(JwtKey key) {
+    String value = encode(key);
+    redisTemplate.opsForHash().put(KEYS_HASH, key.kid(), value);
+    redisTemplate.convertAndSend(KEYS_CHANNEL, key.kid() + ":" + value);
+  }
+
+  static String encode(JwtKey key) {
+    return key.algorithm()
+        + ":"
+        + key.expiresAt()
+        + ":"
+        + Base64.getEncoder().encodeToString(key.verificationKey().getEncoded());
+  }
+
+  // 해석할 수 없는 값은 경고만 남기고 null을 반환
+  static JwtKey decode(String kid, String value) {
+    try {
+      String[] parts = value.split(":", 3);
+      String algorithm = parts[0];
+      PublicKey publicKey =
+          KeyFactory.getInstance(keyFactoryAlgorithm(algorithm))
+              .generatePublic(new X509EncodedKeySpec(Base64.getDecoder().decode(parts[2])));
+      return new JwtKey(kid, algorithm, null, publicKey, Long.parseLong(parts[1]));
+    } catch (GeneralSecurityException | RuntimeException e) {
+      log.warn("Ignoring unreadable JWT verification key {}: {}", kid, e.getMessage());
+      return null;
+    }
+  }
+
+  private static String keyFactoryAlgorithm(String algorithm) {
+    return switch (algorithm) {
+      case JwtKeyRing.ES256 -> "EC";
+      case JwtKeyRing.EDDSA -> "EdDSA";
+      default -> throw new IllegalArgumentException("Unsupported key algorithm: " + algorithm);
+    };
+  }
+}
@@ -0,0 +1,191 @@
+package com.example.usertemplate.auth.key;
+
+import java.security.Key;
+import java.security.KeyPair;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.crypto.SecretKey;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 토큰 서명 키와 검증 키를 메모리에 보관하는 키 링임.
+ *
+ * <p>- jwt.signing.algorithm=HMAC(기본값)이면 지금처럼 jwt.secret의 HMAC 키 하나로 kid 없이 서명함. - ES256 또는 EdDSA이면
+ * 노드마다 키 쌍을 직접 만들고 개인키는 메모리에만 둠. 공개키는 JwtKeyPublisher가 Redis로 다른 노드와 공유함. - 다음 키는 한 회전 주기 전에 미리 만들어
+ * 공개하므로, 서명에 쓰이기 시작할 때는 이미 모든 노드와 JWKS에 퍼져 있음. - 회전된 키는 그 키로 서명한 가장 긴 토큰(Refresh Token)이 만료될 때까지
+ * 검증에 계속 사용됨. - 검증 키는 kid를 키로 하는 맵에 파싱된 상태로 보관하므로 토큰 검증 시 O(1)로 찾음. - kid가 없는 토큰은
+ * jwt.keys.accept-hmac=true일 때만 HMAC 키로 검증함(전환 기간과 리액티브 게이트웨이가 발급한 토큰용).
+ */
+@Slf4j
+@Component
+public class JwtKeyRing {
+
+  public static final String HMAC = "HMAC";
+  public static final String ES256 = "ES256";
+  public static final String EDDSA = "EdDSA";
+
+  // 키 ID 생성용 난수 바이트 수(Base64URL로 12자)
+  private static final int KID_BYTES = 9;
+  private static final SecureRandom SECURE_RANDOM = new SecureRandom();
+  private static final Base64.Encoder KID_ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+  private final String algorithm;
+  private final long rotationInterval;
+  // 한 키로 서명한 토큰이 유효할 수 있는 최대 시간(Access/Refresh 만료시간 중 큰 값)
+  private final long maxTokenLifetime;
+  private final JwtKey hmacKey;
+  private final Map<String, JwtKey> verificationKeys = new ConcurrentHashMap<>();
+  // 검증 키 목록이 바뀔 때마다 증가(JWKS 응답 재생성 여부 판단용)
+  private final AtomicLong version = new AtomicLong();
+
+  private volatile JwtKey current;
+  private volatile JwtKey next;
+
+  public JwtKeyRing(
+      @Value("${jwt.secret:mySecretKeyForJwtTokenGenerationAndValidation}") String secretKey,
+      @Value("${jwt.signing.algorithm:HMAC}") String algorithm,
+      @Value("${jwt.keys.accept-hmac:true}") boolean acceptHmac,
+      @Value("${jwt.keys.rotation-interval:86400000}") long rotationInterval,
+      @Value("${jwt.expiration:86400000}") long jwtExpiration,
+      @Value("${jwt.refresh-expiration:604800000}") long refreshExpiration) {
+    this.algorithm = algorithm;
+    this.rotationInterval = rotationInterval;
+    this.maxTokenLifetime = Math.max(jwtExpiration, refreshExpiration);
+
+    boolean hmac = HMAC.equalsIgnoreCase(algorithm);
+    SecretKey secret = Keys.hmacShaKeyFor(secretKey.getBytes());
+    this.hmacKey =
+        hmac || acceptHmac
+            ? new JwtKey(null, secret.getAlgorithm(), secret, secret, Long.MAX_VALUE)
+            : null;
+
+    if (hmac) {
+      this.current = hmacKey;
+    } else {
+      long now = System.currentTimeMillis();
+      this.current = register(generate(now));
+      this.next = register(generate(now + rotationInterval));
+      log.info("JWT signing key {} ({}) activated", current.kid(), algorithm);
+    }
+  }
+
+  /** 비대칭 키 모드이면 true(HMAC 모드에서는 회전과 공유를 하지 않음). */
+  public boolean isAsymmetric() {
+    return next != null;
+  }
+
+  // 지금 토큰 서명에 쓰는 키
+  public JwtKey signingKey() {
+    return current;
+  }
+
+  /**
+   * kid로 검증 키를 찾음(jjwt keyLocator에서 호출).
+   *
+   * @param kid JWS 헤더의 kid(없으면 null)
+   * @return 검증 키, 모르는 kid이거나 만료된 키이면 null
+   */
+  public Key verificationKey(String kid) {
+    if (kid == null) {
+      return hmacKey != null ? hmacKey.verificationKey() : null;
+    }
+    JwtKey key = verificationKeys.get(kid);
+    return key != null && !key.isExpired(System.currentTimeMillis()) ? key.verificationKey() : null;
+  }
+
+  // JWKS로 내보낼 공개키 목록(이 노드와 다른 노드의 키)
+  public Collection<JwtKey> verificationKeys() {
+    return Collections.unmodifiableCollection(verificationKeys.values());
+  }
+
+  // 키가 추가되거나 제거될 때마다 바뀌는 값(만료 시각 갱신은 JWKS 내용이 같으므로 제외)
+  public long version() {
+    return version.get();
+  }
+
+  // 이 노드가 만든 키(기동 시 공개용)
+  public List<JwtKey> localKeys() {
+    return isAsymmetric() ? List.of(current, next) : List.of();
+  }
+
+  /**
+   * 미리 공개해 둔 다음 키로 서명 키를 바꾸고 그다음 키를 새로 만듦.
+   *
+   * <p>잠금 안에서는 키 생성만 하고 Redis 공개는 호출하는 쪽에서 하므로 가상 스레드가 고정되지 않음.
+   *
+   * @return 다시 공개해야 하는 키(만료 시각이 바뀐 기존 키, 새로 쓰기 시작한 키, 새로 만든 다음 키)
+   */
+  public synchronized List<JwtKey> rotate() {
+    if (!isAsymmetric()) {
+      return List.of();
+    }
+    long now = System.currentTimeMillis();
+    JwtKey retired = register(current.withExpiresAt(now + maxTokenLifetime));
+    JwtKey activated = register(next.withExpiresAt(now + rotationInterval + maxTokenLifetime));
+    JwtKey upcoming = register(generate(now + rotationInterval));
+    current = activated;
+    next = upcoming;
+    log.info("JWT signing key rotated: {} -> {}", retired.kid(), activated.kid());
+    return List.of(retired, activated, upcoming);
+  }
+
+  // 다른 노드가 공개한 키를 추가하거나 만료 시각을 갱신
+  public void registerPublished(JwtKey key, long now) {
+    if (key.isExpired(now)) {
+      if (verificationKeys.remove(key.kid()) != null) {
+        version.incrementAndGet();
+      }
+    } else {
+      register(key);
+    }
+  }
+
+  public void removeExpired(long now) {
+    if (verificationKeys.values().removeIf(key -> key.isExpired(now))) {
+      version.incrementAndGet();
+    }
+  }
+
+  private JwtKey register(JwtKey key) {
+    if (verificationKeys.put(key.kid(), key) == null) {
+      version.incrementAndGet();
+    }
+    return key;
+  }
+
+  // activatesAt부터 한 회전 주기 동안 서명에 쓰일 키 쌍을 만듦
+  private JwtKey generate(long activatesAt) {
+    KeyPair keyPair =
+        switch (algorithm) {
+          case ES256 -> Jwts.SIG.ES256.keyPair().build();
+          case EDDSA -> Jwts.SIG.EdDSA.keyPair().build();
+          default ->
+              throw new IllegalArgumentException("Unsupported jwt.signing.algorithm: " + algorithm);
+        };
+    return new JwtKey(
+        newKid(),
+        algorithm,
+        keyPair.getPrivate(),
+        keyPair.getPublic(),
+        activatesAt + rotationInterval + maxTokenLifetime);
+  }
+
+  private static String newKid() {
+    byte[] bytes = new byte[KID_BYTES];
+    SECURE_RANDOM.nextBytes(bytes);
+    return KID_ENCODER.encodeToString(bytes);
+  }
+}
@@ -6,12 +6,13 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 
 import org.springframework.security.core.Authentication;
+import org.springframework.security.oauth2.client.authentication.OAuth2AuthenticationToken;
 import org.springframework.security.oauth2.core.user.OAuth2User;
 import org.springframework.security.web.authentication.SimpleUrlAuthenticationSuccessHandler;
 import org.springframework.stereotype.Component;
 
-import com.example.usertemplate.auth.dto.LoginResponse;
 import com.example.usertemplate.auth.oauth.service.OAuthService;
+import com.example.usertemplate.common.auth.LoginResponse;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import lombok.RequiredArgsConstructor;
@@ -34,8 +35,11 @@ public class OAuth2AuthenticationSuccessHandler extends SimpleUrlAuthenticationS
     OAuth2User oAuth2User = (OAuth2User) authentication.getPrincipal();
 
     try {
-      // OAuth 제공자 자동 감지
-      String provider = detectProvider(oAuth2User);
+      // OAuth 제공자는 클라이언트 등록 ID로 확인(다른 인증 객체면 속성으로 추정)
+      String provider =
+          authentication instanceof OAuth2AuthenticationToken oauthToken
+              ? oauthToken.getAuthorizedClientRegistrationId()
+              : detectProvider(oAuth2User);
       log.info("OAuth authentication success for provider: {}", provider);
 
       // JWT 토큰 생성
@@ -0,0 +1,85 @@
+package com.example.usertemplate.auth.oauth.service;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.example.usertemplate.user.cache.UserCacheService;
+import com.example.usertemplate.user.entity.User;
+import com.example.usertemplate.user.entity.UserOAuthIdentity;
+import com.example.usertemplate.user.repository.UserOAuthIdentityRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * OAuth 제공자 ID(provider, oauthId)로 연결된 사용자를 찾는 서비스임.
+ *
+ * <p>- provider:oauthId -> userId를 로컬 Caffeine 캐시에 두므로, 재로그인은 캐시 조회와 사용자 캐시(UserCacheService) 조회만으로
+ * 끝남. - 연결은 한 번 만들어지면 바뀌지 않으므로 캐시는 무효화 메시지 없이 만료시간만 사용함. - 연결된 사용자가 삭제되었으면 캐시에서 지우고 없는 것으로 처리하여 새로
+ * 연결되게 함. - 지표: oauth.identity 캐시 통계
+ */
+@Slf4j
+@Service
+public class OAuthIdentityService {
+
+  private final UserOAuthIdentityRepository identityRepository;
+  private final UserCacheService userCacheService;
+  private final Cache<String, Long> userIds;
+
+  public OAuthIdentityService(
+      UserOAuthIdentityRepository identityRepository,
+      UserCacheService userCacheService,
+      MeterRegistry meterRegistry,
+      @Value("${oauth.identity-cache.max-size:100000}") long maxSize,
+      @Value("${oauth.identity-cache.expiration:3600000}") long expiration) {
+    this.identityRepository = identityRepository;
+    this.userCacheService = userCacheService;
+    this.userIds =
+        Caffeine.newBuilder()
+            .maximumSize(maxSize)
+            .expireAfterWrite(expiration, TimeUnit.MILLISECONDS)
+            .recordStats()
+            .build();
+    CaffeineCacheMetrics.monitor(meterRegistry, userIds, "oauth.identity");
+  }
+
+  // 제공자 ID로 연결된 사용자를 조회
+  public Optional<User> findUser(String provider, String oauthId) {
+    String key = key(provider, oauthId);
+    Long userId = userIds.getIfPresent(key);
+    if (userId == null) {
+      userId =
+          identityRepository
+              .findByProviderAndOauthId(provider, oauthId)
+              .map(UserOAuthIdentity::getUserId)
+              .orElse(null);
+      if (userId == null) {
+        return Optional.empty();
+      }
+    }
+
+    Optional<User> user = userCacheService.findById(userId);
+    if (user.isPresent()) {
+      userIds.put(key, userId);
+    } else {
+      log.info("OAuth identity {} points to deleted user {}", key, userId);
+      userIds.invalidate(key);
+    }
+    return user;
+  }
+
+  // 커밋된 연결을 캐시에 기록
+  public void remember(String provider, String oauthId, Long userId) {
+    userIds.put(key(provider, oauthId), userId);
+  }
+
+  private static String key(String provider, String oauthId) {
+    return provider + ":" + oauthId;
+  }
+}
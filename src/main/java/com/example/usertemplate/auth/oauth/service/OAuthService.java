@@ -1,21 +1,24 @@
 package com.example.usertemplate.auth.oauth.service;
 
+import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.oauth2.core.user.OAuth2User;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
-import com.example.usertemplate.auth.dto.LoginResponse;
 import com.example.usertemplate.auth.oauth.dto.OAuthUserInfo;
 import com.example.usertemplate.auth.security.JwtTokenProvider;
 import com.example.usertemplate.auth.token.RefreshTokenService;
-import com.example.usertemplate.user.entity.Role;
+import com.example.usertemplate.common.auth.LoginResponse;
+import com.example.usertemplate.common.exception.BusinessException;
+import com.example.usertemplate.common.user.Role;
+import com.example.usertemplate.global.metrics.AuthMetrics;
+import com.example.usertemplate.user.cache.UserCacheService;
 import com.example.usertemplate.user.entity.User;
-import com.example.usertemplate.user.repository.UserRepository;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -25,23 +28,32 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class OAuthService {
 
-  private final UserRepository userRepository;
+  private static final String STAGE_USER_LOOKUP = "oauth.user.lookup";
+  private static final String STAGE_USER_PROVISION = "oauth.user.provision";
+  private static final int MAX_PROVISION_ATTEMPTS = 5;
+
+  private final UserCacheService userCacheService;
+  private final OAuthUsernameGenerator usernameGenerator;
+  private final OAuthUserRegistrar userRegistrar;
+  private final OAuthIdentityService identityService;
   private final JwtTokenProvider jwtTokenProvider;
   private final RefreshTokenService refreshTokenService;
-
-  @Transactional
+  private final AuthMetrics authMetrics;
+
+  /**
+   * OAuth 로그인을 처리하고 토큰을 발급함.
+   *
+   * <p>트랜잭션 없이 실행하여 OAuthUserRegistrar의 각 트랜잭션만 커넥션을 사용하게 함(바깥 트랜잭션이 커넥션을 잡고 있으면 처음 로그인하는 요청마다 커넥션이
+   * 두 개씩 필요하여 동시 요청에 커넥션 풀이 고갈됨).
+   *
+   * @param provider OAuth 클라이언트 등록 ID(google, naver, kakao)
+   */
   public LoginResponse processOAuthLogin(OAuth2User oAuth2User, String provider) {
     log.info("Processing OAuth login for provider: {}", provider);
+    String registrationId = provider.toLowerCase(Locale.ROOT);
 
-    // OAuth 사용자 정보 추출
-    OAuthUserInfo oAuthUserInfo = extractUserInfo(oAuth2User, provider);
-    log.info(
-        "Extracted OAuth user info: email={}, provider={}",
-        oAuthUserInfo.email(),
-        oAuthUserInfo.provider());
-
-    // 기존 사용자 확인 또는 새 사용자 생성
-    User user = findOrCreateUser(oAuthUserInfo);
+    // 제공자 ID로 연결된 사용자 확인, 없으면 이메일로 찾아 연결하거나 새 사용자 생성
+    User user = findOrCreateUser(oAuth2User, registrationId);
 
     // JWT 토큰 생성
     Authentication authentication =
@@ -51,12 +63,27 @@ public class OAuthService {
     String refreshToken = jwtTokenProvider.generateRefreshToken(user.getId());
 
     // Refresh Token 저장
-    refreshTokenService.saveTokenInfo(user.getEmail(), refreshToken, accessToken);
+    refreshTokenService.saveTokenInfo(user.getId(), refreshToken, accessToken);
 
     log.info("OAuth login successful for user: {}", user.getUsername());
     return LoginResponse.of(accessToken, refreshToken);
   }
 
+  // 제공자의 사용자 ID만 읽음(재로그인은 다른 속성을 읽지 않음)
+  private String extractOAuthId(OAuth2User oAuth2User, String provider) {
+    Map<String, Object> attributes = oAuth2User.getAttributes();
+    return switch (provider) {
+      case "google" -> (String) attributes.get("sub");
+      case "naver" -> {
+        @SuppressWarnings("unchecked")
+        Map<String, Object> response = (Map<String, Object>) attributes.get("response");
+        yield (String) response.get("id");
+      }
+      case "kakao" -> String.valueOf(attributes.get("id"));
+      default -> throw new IllegalArgumentException("Unsupported OAuth provider: " + provider);
+    };
+  }
+
   private OAuthUserInfo extractUserInfo(OAuth2User oAuth2User, String provider) {
     Map<String, Object> attributes = oAuth2User.getAttributes();
 
@@ -94,47 +121,94 @@ public class OAuthService {
     };
   }
 
-  private User findOrCreateUser(OAuthUserInfo oAuthUserInfo) {
-    Optional<User> existingUser = userRepository.findByEmail(oAuthUserInfo.email());
+  private User findOrCreateUser(OAuth2User oAuth2User, String provider) {
+    // 1. 재로그인은 제공자 ID 캐시와 사용자 캐시 조회로 끝남
+    String oauthId = extractOAuthId(oAuth2User, provider);
+    Optional<User> linkedUser =
+        authMetrics.record(
+            STAGE_USER_LOOKUP,
+            () -> identityService.findUser(provider, oauthId),
+            user -> user.isPresent() ? "linked" : "not_linked");
+    if (linkedUser.isPresent()) {
+      return linkedUser.get();
+    }
+
+    // 2. 처음 연결할 때만 속성 전체를 읽고 같은 이메일의 기존 사용자를 찾음
+    OAuthUserInfo oAuthUserInfo = extractUserInfo(oAuth2User, provider);
+    log.info(
+        "Extracted OAuth user info: email={}, provider={}",
+        oAuthUserInfo.email(),
+        oAuthUserInfo.provider());
+    Optional<User> existingUser =
+        authMetrics.record(
+            STAGE_USER_LOOKUP,
+            () -> userCacheService.findByEmail(oAuthUserInfo.email()),
+            user -> user.isPresent() ? "found" : "not_found");
 
     if (existingUser.isPresent()) {
       log.info("Found existing user: {}", existingUser.get().getUsername());
+      link(provider, oauthId, existingUser.get());
       return existingUser.get();
     }
 
-    // 새 사용자 생성
-    User newUser =
-        User.builder()
-            .username(generateUsername(oAuthUserInfo.name(), oAuthUserInfo.email()))
-            .email(oAuthUserInfo.email())
-            .password("OAUTH_USER_NO_PASSWORD_12345678") // OAuth 사용자용 더미 패스워드
-            .role(Role.USER)
-            .enabled(true)
-            .accountNonExpired(true)
-            .accountNonLocked(true)
-            .credentialsNonExpired(true)
-            .build();
-
-    User savedUser = userRepository.save(newUser);
-    log.info("Created new OAuth user: {}", savedUser.getUsername());
-    return savedUser;
+    // 새 사용자 생성(username 할당과 INSERT, 충돌 시 재시도 시간을 함께 기록)
+    return authMetrics.record(STAGE_USER_PROVISION, () -> createUser(oAuthUserInfo));
   }
 
-  private String generateUsername(String name, String email) {
-    // 이름이 있으면 사용, 없으면 이메일의 로컬 파트 사용
-    String baseUsername =
-        (name != null && !name.trim().isEmpty())
-            ? name.replaceAll("\\s+", "").toLowerCase()
-            : email.split("@")[0];
-
-    // 중복 확인 및 처리
-    String username = baseUsername;
-    int counter = 1;
-    while (userRepository.existsByUsername(username)) {
-      username = baseUsername + counter;
-      counter++;
+  /**
+   * 새 OAuth 사용자를 저장함.
+   *
+   * <p>username 후보는 OAuthUsernameGenerator가 DB를 번호마다 조회하지 않고 만들며, 다른 노드와 같은 username이나 이메일로 동시에
+   * 저장하여 unique 제약에 걸리면 다시 시도함. 이메일이 먼저 저장된 경우에는 그 사용자를 사용함.
+   */
+  private User createUser(OAuthUserInfo oAuthUserInfo) {
+    String base = usernameGenerator.baseOf(oAuthUserInfo.name(), oAuthUserInfo.email());
+    for (int attempt = 0; attempt < MAX_PROVISION_ATTEMPTS; attempt++) {
+      String username = usernameGenerator.candidate(base, attempt);
+      try {
+        User savedUser =
+            userRegistrar.insert(
+                newOAuthUser(username, oAuthUserInfo.email()),
+                oAuthUserInfo.provider(),
+                oAuthUserInfo.oauthId());
+        identityService.remember(
+            oAuthUserInfo.provider(), oAuthUserInfo.oauthId(), savedUser.getId());
+        log.info("Created new OAuth user: {}", savedUser.getUsername());
+        return savedUser;
+      } catch (DataIntegrityViolationException e) {
+        Optional<User> existingUser = userRegistrar.findByEmail(oAuthUserInfo.email());
+        if (existingUser.isPresent()) {
+          log.info("OAuth user created concurrently: {}", existingUser.get().getUsername());
+          link(oAuthUserInfo.provider(), oAuthUserInfo.oauthId(), existingUser.get());
+          return existingUser.get();
+        }
+        log.debug("OAuth username {} already taken, retrying", username);
+      }
     }
+    throw new BusinessException(
+        "Could not allocate a username, please retry", 409, "USERNAME_ALLOCATION_FAILED");
+  }
+
+  // 같은 제공자 ID를 다른 요청이 먼저 연결했으면 그대로 두고 로그인을 계속함
+  private void link(String provider, String oauthId, User user) {
+    try {
+      userRegistrar.link(provider, oauthId, user.getId());
+      identityService.remember(provider, oauthId, user.getId());
+    } catch (DataIntegrityViolationException e) {
+      log.debug("OAuth identity {}:{} linked concurrently", provider, oauthId);
+    }
+  }
 
-    return username;
+  private static User newOAuthUser(String username, String email) {
+    return User.builder()
+        .username(username)
+        .email(email)
+        .password("OAUTH_USER_NO_PASSWORD_12345678") // OAuth 사용자용 더미 패스워드
+        .role(Role.USER)
+        .enabled(true)
+        .accountNonExpired(true)
+        .accountNonLocked(true)
+        .credentialsNonExpired(true)
+        .build();
   }
 }
@@ -0,0 +1,62 @@
+package com.example.usertemplate.auth.oauth.service;
+
+import java.util.Optional;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.usertemplate.user.cache.UserCacheService;
+import com.example.usertemplate.user.entity.User;
+import com.example.usertemplate.user.entity.UserOAuthIdentity;
+import com.example.usertemplate.user.repository.UserOAuthIdentityRepository;
+import com.example.usertemplate.user.repository.UserRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * OAuth 사용자와 제공자 ID 연결을 로그인 처리와 별도의 트랜잭션에서 저장하는 클래스임.
+ *
+ * <p>- INSERT가 unique 제약에 걸려도 호출한 쪽의 트랜잭션이 rollback-only가 되지 않으므로 OAuthService가 다른 username으로 다시
+ * 시도할 수 있음. - 다른 요청이 같은 이메일로 먼저 가입했는지도 새 트랜잭션에서 조회하여, 오래된 스냅샷에 가려지지 않게 함. - 트랜잭션 안에서 호출하면 커넥션을 두 개
+ * 사용하므로 OAuthService는 트랜잭션 없이 호출함.
+ */
+@Component
+@RequiredArgsConstructor
+public class OAuthUserRegistrar {
+
+  private final UserRepository userRepository;
+  private final UserOAuthIdentityRepository identityRepository;
+  private final UserCacheService userCacheService;
+
+  // 새 트랜잭션에서 사용자와 제공자 ID 연결을 함께 INSERT함(unique 제약 위반 시 DataIntegrityViolationException)
+  @Transactional(propagation = Propagation.REQUIRES_NEW)
+  public User insert(User user, String provider, String oauthId) {
+    User savedUser = userRepository.saveAndFlush(user);
+    saveIdentity(provider, oauthId, savedUser.getId());
+    userCacheService.registered(savedUser);
+    return savedUser;
+  }
+
+  // 이메일로 찾은 기존 사용자에 제공자 ID를 연결(삭제된 사용자를 가리키던 연결은 덮어씀)
+  @Transactional(propagation = Propagation.REQUIRES_NEW)
+  public void link(String provider, String oauthId, Long userId) {
+    saveIdentity(provider, oauthId, userId);
+  }
+
+  // 커밋된 최신 상태에서 이메일로 사용자를 조회
+  @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+  public Optional<User> findByEmail(String email) {
+    return userRepository.findByEmail(email);
+  }
+
+  private void saveIdentity(String provider, String oauthId, Long userId) {
+    UserOAuthIdentity identity =
+        identityRepository
+            .findByProviderAndOauthId(provider, oauthId)
+            .orElseGet(
+                () -> UserOAuthIdentity.builder().provider(provider).oauthId(oauthId).build());
+    identity.setUserId(userId);
+    identityRepository.saveAndFlush(identity);
+  }
+}
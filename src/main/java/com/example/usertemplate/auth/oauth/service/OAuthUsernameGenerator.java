@@ -0,0 +1,137 @@
+package com.example.usertemplate.auth.oauth.service;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import com.example.usertemplate.user.cache.UserCacheService;
+import com.example.usertemplate.user.repository.UserRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * OAuth 사용자의 username을 만드는 클래스임.
+ *
+ * <p>- 이름(없으면 이메일 로컬 파트)을 기본 이름으로 쓰고, 이미 있으면 Redis 카운터(oauth:username:{base})를 INCR한 번호를 붙임. 따라서 같은
+ * 이름의 사용자가 많아져도 DB를 번호마다 조회하지 않음. - 카운터가 새로 만들어지면(Redis 초기화 등) 기존 사용자와 겹치지 않도록 DB에서 가장 큰 번호를 한 번
+ * 조회하여 카운터를 맞춤. - 카운터는 마지막 사용 후 oauth.username-counter.ttl이 지나면 만료되며, 다시 필요해지면 DB의 가장 큰 번호부터 이어 감.
+ * - 노드 간 경합이나 카운터보다 앞선 번호로 인한 충돌은 호출하는 쪽이 INSERT의 unique 제약 위반을 보고 다음 후보로 다시 시도함. - Redis 장애 시에는
+ * 임의의 번호를 붙임.
+ */
+@Slf4j
+@Component
+public class OAuthUsernameGenerator {
+
+  // username 최대 길이 50자에서 번호 자리를 남김
+  private static final int MAX_BASE_LENGTH = 40;
+  private static final int MIN_USERNAME_LENGTH = 3;
+
+  private static final String COUNTER_KEY_PREFIX = "oauth:username:";
+  private static final int SEED_SCAN_SIZE = 100;
+  // long 범위 안의 번호만 카운터로 이어 갈 수 있음
+  private static final int MAX_SUFFIX_DIGITS = 18;
+
+  // 카운터를 INCR하고 만료시간을 다시 설정함(반환값: 다음 번호)
+  private static final RedisScript<Long> NEXT_SCRIPT =
+      RedisScript.of(new ClassPathResource("redis/oauth/username-next.lua"), Long.class);
+
+  // 카운터를 floor 이상으로 올린 뒤 INCR하고 만료시간을 다시 설정함(반환값: 다음 번호)
+  private static final RedisScript<Long> SEED_SCRIPT =
+      RedisScript.of(new ClassPathResource("redis/oauth/username-seed.lua"), Long.class);
+
+  private final RedisTemplate<String, String> redisTemplate;
+  private final UserRepository userRepository;
+  private final UserCacheService userCacheService;
+  private final String counterTtl;
+
+  public OAuthUsernameGenerator(
+      RedisTemplate<String, String> redisTemplate,
+      UserRepository userRepository,
+      UserCacheService userCacheService,
+      @Value("${oauth.username-counter.ttl:2592000000}") long counterTtl) {
+    this.redisTemplate = redisTemplate;
+    this.userRepository = userRepository;
+    this.userCacheService = userCacheService;
+    this.counterTtl = String.valueOf(counterTtl);
+  }
+
+  // 이름이 있으면 공백을 지운 소문자 이름, 없으면 이메일의 로컬 파트를 기본 이름으로 사용
+  public String baseOf(String name, String email) {
+    String base =
+        (name != null && !name.trim().isEmpty())
+            ? name.replaceAll("\\s+", "").toLowerCase()
+            : email.split("@")[0];
+    return base.length() > MAX_BASE_LENGTH ? base.substring(0, MAX_BASE_LENGTH) : base;
+  }
+
+  /**
+   * attempt번째 username 후보를 반환함.
+   *
+   * <p>첫 시도는 기본 이름을 쓰는 사용자가 없으면(존재 인덱스로 대부분 DB 조회 없이 확인) 그대로 사용하고, 그 외에는 번호를 붙임.
+   */
+  public String candidate(String base, int attempt) {
+    if (attempt == 0
+        && base.length() >= MIN_USERNAME_LENGTH
+        && !userCacheService.existsByUsername(base)) {
+      return base;
+    }
+    return base + nextSuffix(base);
+  }
+
+  private long nextSuffix(String base) {
+    String key = COUNTER_KEY_PREFIX + base;
+    try {
+      Long next = redisTemplate.execute(NEXT_SCRIPT, List.of(key), counterTtl);
+      if (next != null && next == 1L) {
+        // 새 카운터이므로 DB에 이미 있는 가장 큰 번호 다음부터 시작
+        long floor = maxExistingSuffix(base);
+        if (floor > 0) {
+          next =
+              redisTemplate.execute(SEED_SCRIPT, List.of(key), String.valueOf(floor), counterTtl);
+        }
+      }
+      if (next != null) {
+        return next;
+      }
+    } catch (DataAccessException e) {
+      log.warn("Failed to allocate OAuth username suffix for {}: {}", base, e.getMessage());
+    }
+    return ThreadLocalRandom.current().nextLong(1_000, 1_000_000);
+  }
+
+  /**
+   * base 뒤에 숫자만 붙은 username 중 가장 큰 번호를 반환함.
+   *
+   * <p>길이가 긴 것부터 읽으므로 처음 찾은 번호가 가장 큼. 숫자가 아닌 더 긴 이름이 많을 수 있으므로 번호를 찾거나 끝에 이를 때까지 페이지를 넘기며, long 범위를
+   * 넘을 만큼 긴 이름은 쿼리에서 제외함.
+   */
+  private long maxExistingSuffix(String base) {
+    String pattern = escapeLike(base) + "%";
+    int maxLength = base.length() + MAX_SUFFIX_DIGITS;
+    List<String> usernames;
+    int page = 0;
+    do {
+      usernames =
+          userRepository.findUsernamesLike(
+              pattern, maxLength, PageRequest.of(page++, SEED_SCAN_SIZE));
+      for (String username : usernames) {
+        String suffix = username.substring(base.length());
+        if (!suffix.isEmpty() && suffix.chars().allMatch(c -> c >= '0' && c <= '9')) {
+          return Long.parseLong(suffix);
+        }
+      }
+    } while (usernames.size() == SEED_SCAN_SIZE);
+    return 0L;
+  }
+
+  private static String escapeLike(String value) {
+    return value.replace("!", "!!").replace("%", "!%").replace("_", "!_");
+  }
+}
@@ -0,0 +1,296 @@
+package com.example.usertemplate.auth.ratelimit;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.annotation.PostConstruct;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Service;
+
+import com.example.usertemplate.global.exception.RateLimitExceededException;
+import com.example.usertemplate.global.ratelimit.TokenBucket;
+import com.example.usertemplate.user.cache.UserExistenceIndex;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 로그인 시도를 제한하고 무차별 대입 공격을 단계적으로 잠그는 서비스임.
+ *
+ * <p>- 인증 전 확인(checkAllowed)은 노드 로컬 상태만 보므로 Redis, DB 조회나 BCrypt 해싱 없이 바로 거절함: IP별 토큰 버킷과 잠금 목록(로컬
+ * Caffeine). - 로그인 실패는 Redis Lua 스크립트 하나로 IP별, 사용자 이름별 슬라이딩 윈도(login:fail:*)에 원자적으로 기록하고, 실패 수가 단계별
+ * 기준을 넘으면 잠금 키(login:lock:*)를 설정함. - 새 잠금은 login-lock:added 채널로 모든 노드의 로컬 잠금 목록에 전파됨. - 사용자 실패 수가
+ * login.rate-limit.user.account-lock-threshold에 이르면 계정을 시간 잠금하고 실패 기록을 비움. 같은 계정이 다시 기준에 이를 때마다 잠금
+ * 시간이 두 배가 되며(account-lock-duration부터 account-lock-max-duration까지), 잠금 횟수는 login:lock-count:*에 남음.
+ * - 계정 잠금도 스스로 풀리므로 사용자 이름만 아는 공격자가 계정을 영구히 막을 수 없음. 관리자 해제(reset)는 기다리지 않고 바로 풀기 위한 수동 조치임. - 로그인에
+ * 성공하면 해당 사용자의 실패 기록을 지움. - 지표: login.rate.limit.rejected(reason별)
+ */
+@Slf4j
+@Service
+public class LoginRateLimiter implements MessageListener {
+
+  public static final String LOCK_CHANNEL = "login-lock:added";
+
+  private static final String FAILURE_KEY_PREFIX = "login:fail:";
+  private static final String LOCK_KEY_PREFIX = "login:lock:";
+  private static final String LOCK_COUNT_KEY_PREFIX = "login:lock-count:";
+  private static final String IP_PREFIX = "ip:";
+  private static final String USER_PREFIX = "user:";
+
+  // IP와 사용자 이름의 실패 윈도에 시도를 기록하고 단계별 잠금을 설정함.
+  // 계정 잠금 기준에 이르면 잠금 횟수를 늘려 잠금 시간을 두 배씩 늘리고 사용자 실패 기록을 비움
+  // 반환값: {IP 실패 수, 사용자 실패 수, 새 IP 잠금 시간(ms), 새 사용자 잠금 시간(ms), 계정 잠금 횟수},
+  // 잠금 시간 0은 새 잠금 없음, 계정 잠금 횟수 0은 이번 실패로 계정이 잠기지 않음
+  @SuppressWarnings("rawtypes")
+  private static final RedisScript<List> FAILURE_SCRIPT =
+      RedisScript.of(new ClassPathResource("redis/login/failure.lua"), List.class);
+
+  private final RedisTemplate<String, String> redisTemplate;
+  private final RedisMessageListenerContainer listenerContainer;
+
+  private final boolean enabled;
+  private final long ipCapacity;
+  private final long ipRefillInterval;
+  private final long failureWindow;
+  private final int ipMaxFailures;
+  private final long ipLockDuration;
+  private final List<String> userLockLevels;
+  private final int accountLockThreshold;
+  private final long accountLockDuration;
+  private final long accountLockMaxDuration;
+
+  private final Cache<String, TokenBucket> ipBuckets;
+  // 잠긴 키(ip:..., user:...) -> 잠금 해제 시각(ms)
+  private final Cache<String, Long> locks;
+
+  private final Counter bucketRejected;
+  private final Counter lockRejected;
+
+  public LoginRateLimiter(
+      RedisTemplate<String, String> redisTemplate,
+      RedisMessageListenerContainer listenerContainer,
+      MeterRegistry meterRegistry,
+      @Value("${login.rate-limit.enabled:true}") boolean enabled,
+      @Value("${login.rate-limit.ip.capacity:20}") long ipCapacity,
+      @Value("${login.rate-limit.ip.refill-interval:2000}") long ipRefillInterval,
+      @Value("${login.rate-limit.failure-window:3600000}") long failureWindow,
+      @Value("${login.rate-limit.ip.max-failures:100}") int ipMaxFailures,
+      @Value("${login.rate-limit.ip.lock-duration:900000}") long ipLockDuration,
+      @Value("${login.rate-limit.user.lock-thresholds:5,10,15}") int[] userLockThresholds,
+      @Value("${login.rate-limit.user.lock-durations:60000,300000,900000}")
+          long[] userLockDurations,
+      @Value("${login.rate-limit.user.account-lock-threshold:20}") int accountLockThreshold,
+      @Value("${login.rate-limit.user.account-lock-duration:3600000}") long accountLockDuration,
+      @Value("${login.rate-limit.user.account-lock-max-duration:86400000}")
+          long accountLockMaxDuration) {
+    if (userLockThresholds.length != userLockDurations.length) {
+      throw new IllegalArgumentException(
+          "login.rate-limit.user.lock-thresholds and lock-durations must have the same length");
+    }
+    this.redisTemplate = redisTemplate;
+    this.listenerContainer = listenerContainer;
+    this.enabled = enabled;
+    this.ipCapacity = ipCapacity;
+    this.ipRefillInterval = ipRefillInterval;
+    this.failureWindow = failureWindow;
+    this.ipMaxFailures = ipMaxFailures;
+    this.ipLockDuration = ipLockDuration;
+    this.accountLockThreshold = accountLockThreshold;
+    this.accountLockDuration = accountLockDuration;
+    this.accountLockMaxDuration = Math.max(accountLockDuration, accountLockMaxDuration);
+
+    // Lua 스크립트에 넘길 (실패 수, 잠금 시간) 쌍
+    this.userLockLevels = new ArrayList<>();
+    long maxLockDuration = Math.max(ipLockDuration, this.accountLockMaxDuration);
+    for (int i = 0; i < userLockThresholds.length; i++) {
+      userLockLevels.add(String.valueOf(userLockThresholds[i]));
+      userLockLevels.add(String.valueOf(userLockDurations[i]));
+      maxLockDuration = Math.max(maxLockDuration, userLockDurations[i]);
+    }
+
+    this.ipBuckets =
+        Caffeine.newBuilder()
+            .maximumSize(100_000)
+            .expireAfterAccess(ipRefillInterval * ipCapacity, TimeUnit.MILLISECONDS)
+            .build();
+    this.locks =
+        Caffeine.newBuilder()
+            .maximumSize(100_000)
+            .expireAfterWrite(maxLockDuration, TimeUnit.MILLISECONDS)
+            .build();
+
+    this.bucketRejected = rejectedCounter(meterRegistry, "ip_rate");
+    this.lockRejected = rejectedCounter(meterRegistry, "locked");
+  }
+
+  // 다른 노드의 잠금 메시지 구독
+  @PostConstruct
+  void subscribe() {
+    listenerContainer.addMessageListener(this, new ChannelTopic(LOCK_CHANNEL));
+  }
+
+  /**
+   * 인증을 시도해도 되는지 로컬 상태만으로 확인함.
+   *
+   * @throws RateLimitExceededException IP 요청 한도를 넘었거나 IP 또는 사용자 이름이 잠겨 있으면 발생(429)
+   */
+  public void checkAllowed(String clientIp, String username) {
+    if (!enabled) {
+      return;
+    }
+    long now = System.currentTimeMillis();
+    long lockedFor =
+        Math.max(lockedFor(IP_PREFIX + clientIp, now), lockedFor(userKey(username), now));
+    if (lockedFor > 0) {
+      lockRejected.increment();
+      throw new RateLimitExceededException(
+          "Too many failed login attempts, please retry later",
+          "LOGIN_LOCKED",
+          toRetryAfterSeconds(lockedFor));
+    }
+
+    TokenBucket bucket =
+        ipBuckets.get(
+            clientIp, ip -> new TokenBucket(ipCapacity, ipRefillInterval, TimeUnit.MILLISECONDS));
+    long nanoTime = System.nanoTime();
+    if (bucket.tryAcquire(nanoTime) < 0) {
+      bucketRejected.increment();
+      throw new RateLimitExceededException(
+          "Too many login attempts, please retry later",
+          "LOGIN_RATE_LIMITED",
+          toRetryAfterSeconds(TimeUnit.NANOSECONDS.toMillis(bucket.nanosUntilAvailable(nanoTime))));
+    }
+  }
+
+  /**
+   * 비밀번호가 틀린 로그인을 기록하고 기준을 넘으면 잠금을 설정함.
+   *
+   * <p>Redis 장애로 기록하지 못해도 원래의 인증 실패 응답이 나가도록 예외를 전파하지 않음.
+   */
+  public void recordFailure(String clientIp, String username) {
+    if (!enabled) {
+      return;
+    }
+    try {
+      List<String> args = new ArrayList<>(7 + userLockLevels.size());
+      args.add(Long.toHexString(ThreadLocalRandom.current().nextLong()));
+      args.add(String.valueOf(failureWindow));
+      args.add(String.valueOf(ipMaxFailures));
+      args.add(String.valueOf(ipLockDuration));
+      args.add(String.valueOf(accountLockThreshold));
+      args.add(String.valueOf(accountLockDuration));
+      args.add(String.valueOf(accountLockMaxDuration));
+      args.addAll(userLockLevels);
+
+      String userKey = userKey(username);
+      List<?> result =
+          redisTemplate.execute(
+              FAILURE_SCRIPT,
+              List.of(
+                  FAILURE_KEY_PREFIX + IP_PREFIX + clientIp,
+                  FAILURE_KEY_PREFIX + userKey,
+                  LOCK_KEY_PREFIX + IP_PREFIX + clientIp,
+                  LOCK_KEY_PREFIX + userKey,
+                  LOCK_COUNT_KEY_PREFIX + userKey),
+              args.toArray());
+      publishLock(IP_PREFIX + clientIp, ((Number) result.get(2)).longValue());
+      publishLock(userKey, ((Number) result.get(3)).longValue());
+
+      long accountLocks = ((Number) result.get(4)).longValue();
+      if (accountLocks > 0) {
+        log.warn(
+            "Account locked after repeated login failures: {} (lock #{})", username, accountLocks);
+      }
+    } catch (RuntimeException e) {
+      log.warn("Failed to record login failure for {}: {}", username, e.getMessage());
+    }
+  }
+
+  // 로그인에 성공하면 사용자의 실패 기록을 지움(IP 기록은 다른 계정 시도를 위해 유지)
+  public void recordSuccess(String username) {
+    if (!enabled) {
+      return;
+    }
+    try {
+      redisTemplate.delete(FAILURE_KEY_PREFIX + userKey(username));
+    } catch (RuntimeException e) {
+      log.warn("Failed to reset login failures for {}: {}", username, e.getMessage());
+    }
+  }
+
+  // 관리자가 계정 잠금을 풀 때 실패 기록, 잠금, 잠금 횟수를 함께 지우고, 해제 시각 0으로 모든 노드의 로컬 잠금을 풂
+  public void reset(String username) {
+    String userKey = userKey(username);
+    redisTemplate.delete(
+        List.of(
+            FAILURE_KEY_PREFIX + userKey,
+            LOCK_KEY_PREFIX + userKey,
+            LOCK_COUNT_KEY_PREFIX + userKey));
+    locks.invalidate(userKey);
+    redisTemplate.convertAndSend(LOCK_CHANNEL, userKey + ":0");
+  }
+
+  // 다른 노드(자기 자신 포함)에서 설정하거나 푼 잠금을 로컬 잠금 목록에 반영
+  @Override
+  public void onMessage(Message message, byte[] pattern) {
+    String body = new String(message.getBody(), StandardCharsets.UTF_8);
+    // IPv6 주소와 사용자 이름에 ':'가 있을 수 있으므로 마지막 구분자로 나눔
+    int separator = body.lastIndexOf(':');
+    try {
+      String key = body.substring(0, separator);
+      long until = Long.parseLong(body.substring(separator + 1));
+      if (until <= 0) {
+        locks.invalidate(key);
+      } else {
+        locks.asMap().merge(key, until, Math::max);
+      }
+    } catch (RuntimeException e) {
+      log.warn("Failed to handle login lock message {}: {}", body, e.getMessage());
+    }
+  }
+
+  private void publishLock(String key, long duration) {
+    if (duration <= 0) {
+      return;
+    }
+    long until = System.currentTimeMillis() + duration;
+    locks.asMap().merge(key, until, Math::max);
+    redisTemplate.convertAndSend(LOCK_CHANNEL, key + ":" + until);
+    log.warn("Login locked for {} ({} ms)", key, duration);
+  }
+
+  // MySQL collation에서 같은 행을 가리키는 이름("alice", "Alice ", "ALICE")이 같은 실패 기록과 잠금을 쓰게 함
+  private static String userKey(String username) {
+    return USER_PREFIX + UserExistenceIndex.normalize(username);
+  }
+
+  private long lockedFor(String key, long now) {
+    Long until = locks.getIfPresent(key);
+    return until != null && until > now ? until - now : 0L;
+  }
+
+  private static long toRetryAfterSeconds(long millis) {
+    return Math.max(1L, (millis + 999) / 1000);
+  }
+
+  private static Counter rejectedCounter(MeterRegistry meterRegistry, String reason) {
+    return Counter.builder("login.rate.limit.rejected")
+        .description("Login attempts rejected before authentication")
+        .tag("reason", reason)
+        .register(meterRegistry);
+  }
+}
@@ -0,0 +1,51 @@
+package com.example.usertemplate.auth.security;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 현재 하드웨어에서 목표 해싱 시간에 맞는 BCrypt cost를 고르는 클래스임.
+ *
+ * <p>- 최소 cost로 몇 번 해싱하여 가장 빠른 시간을 잰 뒤, cost가 1 오를 때마다 시간이 2배가 되는 성질로 목표 시간을 넘지 않는 가장 큰 cost를 계산함.
+ * - 높은 cost로 직접 측정하지 않으므로 기동 시간은 최소 cost 해싱 몇 번 정도만 늘어남.
+ */
+@Slf4j
+public final class BCryptStrengthCalibrator {
+
+  private static final int SAMPLES = 3;
+  private static final String SAMPLE_PASSWORD = "calibration-password";
+
+  private BCryptStrengthCalibrator() {}
+
+  /**
+   * 목표 시간 안에 끝나는 가장 큰 cost를 반환함.
+   *
+   * @param targetMillis 해싱 1회의 목표 시간(ms)
+   * @param minStrength 최소 cost
+   * @param maxStrength 최대 cost
+   * @return minStrength 이상 maxStrength 이하의 cost
+   */
+  public static int calibrate(long targetMillis, int minStrength, int maxStrength) {
+    BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(minStrength);
+    // 첫 실행은 JIT 워밍업이므로 측정에서 제외
+    encoder.encode(SAMPLE_PASSWORD);
+    long fastest = Long.MAX_VALUE;
+    for (int i = 0; i < SAMPLES; i++) {
+      long start = System.nanoTime();
+      encoder.encode(SAMPLE_PASSWORD);
+      fastest = Math.min(fastest, System.nanoTime() - start);
+    }
+
+    double baseMillis = Math.max(fastest / 1_000_000.0, 0.001);
+    int extra = (int) Math.floor(Math.log(targetMillis / baseMillis) / Math.log(2));
+    int strength = Math.max(minStrength, Math.min(maxStrength, minStrength + extra));
+    log.info(
+        "BCrypt cost {} selected ({} ms at cost {}, target {} ms)",
+        strength,
+        String.format("%.1f", baseMillis),
+        minStrength,
+        targetMillis);
+    return strength;
+  }
+}
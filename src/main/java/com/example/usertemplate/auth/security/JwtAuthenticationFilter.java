@@ -1,6 +1,7 @@
 package com.example.usertemplate.auth.security;
 
 import java.io.IOException;
+import java.util.Optional;
 
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -17,9 +18,14 @@ import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import com.example.usertemplate.auth.token.BlacklistTokenService;
+import com.example.usertemplate.auth.token.TokenRevocationService;
+import com.example.usertemplate.global.metrics.AuthMetrics;
+import com.example.usertemplate.global.timing.ServerTiming;
+import com.example.usertemplate.global.timing.ServerTiming.Stage;
+import com.example.usertemplate.user.cache.UserCacheService;
 import com.example.usertemplate.user.entity.User;
-import com.example.usertemplate.user.repository.UserRepository;
 
+import io.micrometer.core.instrument.Timer;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -29,17 +35,29 @@ import lombok.extern.slf4j.Slf4j;
  *
  * <p>- 요청마다 한 번 실행 - Authorization 헤더에서 JWT를 추출하고 유효성을 검사 - 유효한 토큰이면 SecurityContext에 인증 정보 설정
  *
- * <p>사용 흐름: 1. 요청 헤더에서 JWT 추출 2. 토큰 유효성 검사 3. 토큰에서 사용자 ID 추출 4. DB에서 사용자 정보 조회 5. Spring Security
- * Authentication 객체 생성 및 SecurityContext에 설정
+ * <p>사용 흐름: 1. 요청 헤더에서 JWT 추출 2. 검증 캐시 확인 후 토큰 검증 및 사용자 ID 추출(한 번의 파싱) 3. 토큰 클레임(무상태 주체 모드) 또는 사용자
+ * 캐시에서 사용자 정보 조회 4. Spring Security Authentication 객체 생성 및 SecurityContext에 설정
+ *
+ * <p>지표: 토큰 검증(token.verify), 블랙리스트 조회(token.blacklist), 사용자 단위 폐기 확인(token.revocation), 사용자
+ * 조회(user.lookup) 단계를 AuthMetrics로 기록하며, Server-Timing이 켜져 있으면 같은 단계를 요청별 기록기에도 남김.
  */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
+  private static final String STAGE_VERIFY = "token.verify";
+  private static final String STAGE_BLACKLIST = "token.blacklist";
+  private static final String STAGE_REVOCATION = "token.revocation";
+  private static final String STAGE_USER_LOOKUP = "user.lookup";
+
   private final JwtTokenProvider jwtTokenProvider;
-  private final UserRepository userRepository;
+  private final VerifiedTokenCache verifiedTokenCache;
+  private final UserCacheService userCacheService;
   private final BlacklistTokenService blacklistTokenService;
+  private final TokenRevocationService tokenRevocationService;
+  private final UserVersionRegistry userVersionRegistry;
+  private final AuthMetrics authMetrics;
 
   @Override
   protected void doFilterInternal(
@@ -48,32 +66,43 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
       @NonNull FilterChain filterChain)
       throws ServletException, IOException {
 
+    ServerTiming timing = ServerTiming.from(request);
     try {
       // 요청에서 JWT 토큰 추출
+      timing.begin(Stage.EXTRACT);
       String jwt = getJwtFromRequest(request);
+      timing.end(Stage.EXTRACT);
 
       log.debug("🔍 JWT Filter - Token extracted: {}", jwt != null ? "present" : "null");
 
+      // 캐시를 먼저 확인하고, 없으면 토큰 검증과 클레임 추출을 한 번의 파싱으로 처리
+      timing.begin(Stage.VERIFY);
+      Optional<VerifiedToken> verifiedToken =
+          StringUtils.hasText(jwt) ? resolveVerifiedToken(jwt) : Optional.empty();
+      timing.end(Stage.VERIFY);
+
       // 토큰이 존재하고 유효한 경우 인증 처리
-      if (StringUtils.hasText(jwt) && jwtTokenProvider.validateToken(jwt)) {
+      if (verifiedToken.isPresent()) {
 
         // 블랙리스트에 있는지 확인
-        if (blacklistTokenService.isBlacklisted(jwt)) {
+        if (isBlacklisted(verifiedToken.get(), jwt, timing)) {
           log.warn("⚠️ This token is blacklisted and cannot be used.");
           throw new BadCredentialsException("This token is blacklisted and cannot be used.");
+        } else if (isRevoked(verifiedToken.get(), timing)) {
+          // 사용자 단위로 폐기된 시각 이전에 발급된 토큰인지 확인
+          log.warn("⚠️ This token was issued before the user's tokens were revoked.");
+          throw new BadCredentialsException("This token has been revoked.");
         } else {
           log.debug("✅ JWT Filter - Token validation successful");
 
-          // 토큰에서 사용자 ID 추출
-          Long userId = jwtTokenProvider.getUserIdAsLongFromToken(jwt);
+          // 검증된 토큰에서 사용자 ID 추출
+          Long userId = verifiedToken.get().userId();
           log.debug("🔍 JWT Filter - User ID extracted: {}", userId);
 
-          // 사용자 ID로 사용자 상세 정보 로드
-          User user =
-              userRepository
-                  .findById(userId)
-                  .orElseThrow(
-                      () -> new UsernameNotFoundException("User not found with id: " + userId));
+          // 토큰 정보 또는 DB로 사용자 상세 정보 로드
+          timing.begin(Stage.USER);
+          User user = resolveUser(verifiedToken.get());
+          timing.end(Stage.USER);
 
           log.debug("✅ JWT Filter - User found: {}", user.getUsername());
 
@@ -100,7 +129,75 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     filterChain.doFilter(request, response);
   }
 
-  private String getJwtFromRequest(HttpServletRequest request) {
+  // 검증 캐시에 없을 때만 JwtTokenProvider로 서명을 검증하고 결과를 캐시에 저장
+  private Optional<VerifiedToken> resolveVerifiedToken(String jwt) {
+    Timer.Sample sample = authMetrics.start();
+    Optional<VerifiedToken> cached = verifiedTokenCache.get(jwt);
+    if (cached.isPresent()) {
+      authMetrics.stop(sample, STAGE_VERIFY, "cached");
+      return cached;
+    }
+    Optional<VerifiedToken> verified = jwtTokenProvider.verify(jwt);
+    verified.ifPresent(token -> verifiedTokenCache.put(jwt, token));
+    authMetrics.stop(sample, STAGE_VERIFY, verified.isPresent() ? "valid" : "invalid");
+    return verified;
+  }
+
+  private boolean isBlacklisted(VerifiedToken verifiedToken, String jwt, ServerTiming timing) {
+    timing.begin(Stage.BLACKLIST);
+    try {
+      return authMetrics.record(
+          STAGE_BLACKLIST,
+          () -> blacklistTokenService.isBlacklisted(verifiedToken, jwt),
+          blacklisted -> blacklisted ? "blacklisted" : "clean");
+    } finally {
+      timing.end(Stage.BLACKLIST);
+    }
+  }
+
+  private boolean isRevoked(VerifiedToken verifiedToken, ServerTiming timing) {
+    timing.begin(Stage.REVOCATION);
+    try {
+      return authMetrics.record(
+          STAGE_REVOCATION,
+          () -> tokenRevocationService.isRevoked(verifiedToken),
+          revoked -> revoked ? "revoked" : "active");
+    } finally {
+      timing.end(Stage.REVOCATION);
+    }
+  }
+
+  /**
+   * 인증 주체로 사용할 User를 만듦.
+   *
+   * <p>무상태 주체 모드이고 토큰의 보안 버전이 최신이면 토큰 정보만으로 가벼운 User를 만들고, 그렇지 않으면 사용자 캐시(로컬, Redis, DB 순서)에서 조회함.
+   * 조회한 사용자의 보안 버전은 레지스트리에 기록하여 같은 사용자의 다음 요청부터 토큰 정보를 사용하게 함.
+   */
+  private User resolveUser(VerifiedToken verifiedToken) {
+    Long userId = verifiedToken.userId();
+    TokenPrincipal principal = verifiedToken.principal();
+
+    if (jwtTokenProvider.isStatelessPrincipalEnabled()
+        && principal != null
+        && userVersionRegistry.isCurrent(userId, principal.version())) {
+      log.debug("🔍 JWT Filter - Principal built from token claims: {}", userId);
+      return authMetrics.record(
+          STAGE_USER_LOOKUP, () -> principal.toUser(userId), user -> "claims");
+    }
+
+    User user =
+        authMetrics
+            .record(
+                STAGE_USER_LOOKUP,
+                () -> userCacheService.findById(userId),
+                found -> found.isPresent() ? "found" : "not_found")
+            .orElseThrow(() -> new UsernameNotFoundException("User not found with id: " + userId));
+    userVersionRegistry.recordVersion(userId, user.getSecurityVersion());
+    return user;
+  }
+
+  // 벤치마크(src/jmh)에서 직접 호출할 수 있도록 패키지 범위로 둠
+  String getJwtFromRequest(HttpServletRequest request) {
     String bearerToken = request.getHeader("Authorization");
     if (StringUtils.hasText(bearerToken) && bearerToken.startsWith("Bearer ")) {
       return bearerToken.substring(7);
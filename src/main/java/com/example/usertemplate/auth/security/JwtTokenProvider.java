@@ -1,19 +1,28 @@
 package com.example.usertemplate.auth.security;
 
+import java.security.Key;
+import java.security.SecureRandom;
+import java.util.Base64;
 import java.util.Date;
-
-import javax.crypto.SecretKey;
+import java.util.Optional;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Component;
 
+import com.example.usertemplate.auth.key.JwtKey;
+import com.example.usertemplate.auth.key.JwtKeyRing;
+import com.example.usertemplate.common.user.Role;
 import com.example.usertemplate.user.entity.User;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtBuilder;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.LocatorAdapter;
 import lombok.extern.slf4j.Slf4j;
 
 /**
@@ -21,89 +30,224 @@ import lombok.extern.slf4j.Slf4j;
  *
  * <p>로그인 성공 시 JWT(JSON Web Token) 및 Refresh Token을 생성하고, 토큰 검증 및 사용자 정보 추출 기능을 제공하는 컴포넌트임.
  *
- * <p>특징: - JWT는 Base64URL 인코딩 형식으로 생성됨. - SecretKey는 UTF-8 바이트 배열로 HMAC-SHA 알고리즘 서명에 사용됨. - Access
- * Token과 Refresh Token의 만료 시간을 각각 설정할 수 있음.
+ * <p>특징: - JWT는 Base64URL 인코딩 형식으로 생성됨. - 서명 키는 JwtKeyRing에서 가져옴(기본은 jwt.secret의 HMAC 키, 비대칭 키
+ * 모드에서는 현재 키의 kid를 헤더에 기록). - 검증 키는 헤더의 kid로 키 링에서 O(1)로 찾음. - Access Token과 Refresh Token의 만료 시간을
+ * 각각 설정할 수 있음. - JwtParser는 불변이고 스레드 안전하므로 생성자에서 한 번만 만들어 재사용함. - 모든 토큰에는 블랙리스트 키로 쓰이는 짧은 토큰
+ * ID(jti)가 기록됨. - 무상태 주체 모드(jwt.stateless-principal.enabled)에서는 Access Token에 사용자 이름, 권한, 계정 상태, 보안
+ * 버전을 함께 기록함.
  */
 @Slf4j
 @Component
 public class JwtTokenProvider {
 
-  // HMAC-SHA 서명을 위한 비밀키
-  private final SecretKey key;
+  // 무상태 주체 모드에서 Access Token에 추가되는 클레임 이름
+  private static final String CLAIM_USERNAME = "username";
+  private static final String CLAIM_ROLE = "role";
+  private static final String CLAIM_FLAGS = "flags";
+  private static final String CLAIM_VERSION = "ver";
+  // 모든 토큰에 기록하는 ms 단위 발급 시각(iat는 초 단위이므로 사용자 단위 폐기 비교에 사용)
+  private static final String CLAIM_ISSUED_AT_MILLIS = "iatms";
+
+  // 토큰 ID(jti) 생성용 난수 바이트 수(Base64URL로 16자)
+  private static final int TOKEN_ID_BYTES = 12;
+  private static final SecureRandom SECURE_RANDOM = new SecureRandom();
+  private static final Base64.Encoder TOKEN_ID_ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+  // 서명 키와 검증 키를 보관하는 키 링
+  private final JwtKeyRing keyRing;
   // JWT 만료시간
   private final long jwtExpiration;
   // Refresh Token 만료시간
   private final long refreshExpiration;
+  // 미리 생성해둔 서명 검증용 파서
+  private final JwtParser jwtParser;
+  // 토큰만으로 인증 주체를 만드는 모드 사용 여부
+  private final boolean statelessPrincipalEnabled;
 
-  // JWT + RefreshToken 만료시간 설정 및 암호화 알고리즘 설정(HMAC-SHA 알고리즘)
+  // JWT + RefreshToken 만료시간 설정 및 키 링으로 kid에 맞는 검증 키를 찾는 파서 생성
   public JwtTokenProvider(
-      @Value("${jwt.secret:mySecretKeyForJwtTokenGenerationAndValidation}") String secretKey,
+      JwtKeyRing keyRing,
       @Value("${jwt.expiration:86400000}") long jwtExpiration,
-      @Value("${jwt.refresh-expiration:604800000}") long refreshExpiration) {
-    this.key = Keys.hmacShaKeyFor(secretKey.getBytes());
+      @Value("${jwt.refresh-expiration:604800000}") long refreshExpiration,
+      @Value("${jwt.stateless-principal.enabled:false}") boolean statelessPrincipalEnabled) {
+    this.keyRing = keyRing;
     this.jwtExpiration = jwtExpiration;
     this.refreshExpiration = refreshExpiration;
+    this.jwtParser =
+        Jwts.parser()
+            .keyLocator(
+                new LocatorAdapter<Key>() {
+                  // 모르는 kid이면 null을 반환하여 jjwt가 검증 실패로 처리하도록 함
+                  @Override
+                  protected Key locate(JwsHeader header) {
+                    return keyRing.verificationKey(header.getKeyId());
+                  }
+                })
+            .build();
+    this.statelessPrincipalEnabled = statelessPrincipalEnabled;
   }
 
   // Access Token 생성
   public String generateAccessToken(Authentication authentication) {
     User userPrincipal = (User) authentication.getPrincipal();
-    Date expiryDate = new Date(System.currentTimeMillis() + jwtExpiration);
+    Date now = new Date();
+    Date expiryDate = new Date(now.getTime() + jwtExpiration);
 
     String userId = String.valueOf(userPrincipal.getId());
 
-    return Jwts.builder()
-        .subject(userId)
-        .issuedAt(new Date())
-        .expiration(expiryDate)
-        .signWith(key)
-        .compact();
+    JwtBuilder builder =
+        issuedAt(Jwts.builder().id(newTokenId()).subject(userId), now).expiration(expiryDate);
+
+    // 무상태 주체 모드이면 필터가 DB 조회 없이 주체를 만들 수 있도록 사용자 정보를 기록
+    if (statelessPrincipalEnabled) {
+      TokenPrincipal principal = TokenPrincipal.from(userPrincipal);
+      builder
+          .claim(CLAIM_USERNAME, principal.username())
+          .claim(CLAIM_ROLE, principal.role().name())
+          .claim(CLAIM_FLAGS, principal.flags())
+          .claim(CLAIM_VERSION, principal.version());
+    }
+
+    return sign(builder);
   }
 
   // Refresh Token 생성
   public String generateRefreshToken(Long userId) {
-    Date expiryDate = new Date(System.currentTimeMillis() + refreshExpiration);
+    Date now = new Date();
+    Date expiryDate = new Date(now.getTime() + refreshExpiration);
 
-    return Jwts.builder()
-        .subject(String.valueOf(userId))
-        .issuedAt(new Date())
-        .expiration(expiryDate)
-        .signWith(key)
-        .compact();
+    return sign(
+        issuedAt(Jwts.builder().id(newTokenId()).subject(String.valueOf(userId)), now)
+            .expiration(expiryDate));
   }
 
-  // 토큰 검증(서명, 만료 포함)
-  public boolean validateToken(String token) {
+  /**
+   * 토큰의 서명과 만료를 한 번에 검증하고 클레임을 꺼냄.
+   *
+   * <p>요청 처리 경로에서는 이 메서드만 호출하여 HMAC 검증과 JSON 파싱이 한 번만 일어나도록 함.
+   *
+   * @param token 검증할 JWT
+   * @return 검증에 성공하면 VerifiedToken, 실패하면 empty
+   */
+  public Optional<VerifiedToken> verify(String token) {
+    try {
+      return Optional.of(toVerifiedToken(parseClaims(token)));
+    } catch (JwtException ex) {
+      log.error("Invalid JWT Token : {}", ex.getMessage());
+    } catch (IllegalArgumentException ex) {
+      log.error("JWT claims string is empty or subject is invalid");
+    }
+    return Optional.empty();
+  }
+
+  /**
+   * 서명만 검증하고 만료는 허용하여 클레임을 꺼냄.
+   *
+   * <p>만료된 Access Token으로 토큰을 갱신할 때 사용함. jjwt는 서명을 검증한 뒤에 만료를 검사하므로 ExpiredJwtException의 클레임은 신뢰할 수
+   * 있음.
+   *
+   * @param token 검증할 JWT
+   * @return 서명 검증에 성공하면 VerifiedToken, 실패하면 empty
+   */
+  public Optional<VerifiedToken> verifyIgnoringExpiration(String token) {
     try {
-      Jwts.parser().verifyWith(key).build().parseSignedClaims(token);
-      return true;
+      Claims claims;
+      try {
+        claims = parseClaims(token);
+      } catch (ExpiredJwtException ex) {
+        claims = ex.getClaims();
+      }
+      return Optional.of(toVerifiedToken(claims));
     } catch (JwtException ex) {
       log.error("Invalid JWT Token : {}", ex.getMessage());
     } catch (IllegalArgumentException ex) {
-      log.error("JWT claims string is empty");
+      log.error("JWT claims string is empty or subject is invalid");
     }
-    return false;
+    return Optional.empty();
+  }
+
+  public boolean isStatelessPrincipalEnabled() {
+    return statelessPrincipalEnabled;
+  }
+
+  // 토큰 검증(서명, 만료 포함)
+  public boolean validateToken(String token) {
+    return verify(token).isPresent();
   }
 
   // JWT에서 사용자 Id 추출
   public String getUserIdFromToken(String token) {
-    Claims claims = Jwts.parser().verifyWith(key).build().parseSignedClaims(token).getPayload();
-    return claims.getSubject();
+    return parseClaims(token).getSubject();
   }
 
   // JWT에서 사용자 Id를 Long 타입으로 추출
   public Long getUserIdAsLongFromToken(String token) {
-    String userIdStr = getUserIdFromToken(token);
+    return parseUserId(getUserIdFromToken(token));
+  }
+
+  public long getRemainingMillis(String token) {
+    Date expiration = parseClaims(token).getExpiration();
+    return expiration.getTime() - System.currentTimeMillis();
+  }
+
+  // 현재 서명 키로 서명(비대칭 키이면 검증하는 쪽이 키를 찾을 수 있도록 kid를 기록)
+  private String sign(JwtBuilder builder) {
+    JwtKey signingKey = keyRing.signingKey();
+    if (signingKey.kid() != null) {
+      builder.header().keyId(signingKey.kid()).and();
+    }
+    return builder.signWith(signingKey.signingKey()).compact();
+  }
+
+  // 초 단위 iat와 ms 단위 iatms를 함께 기록
+  private static JwtBuilder issuedAt(JwtBuilder builder, Date now) {
+    return builder.issuedAt(now).claim(CLAIM_ISSUED_AT_MILLIS, now.getTime());
+  }
+
+  private Claims parseClaims(String token) {
+    return jwtParser.parseSignedClaims(token).getPayload();
+  }
+
+  private VerifiedToken toVerifiedToken(Claims claims) {
+    return new VerifiedToken(
+        claims.getId(),
+        parseUserId(claims.getSubject()),
+        parseIssuedAt(claims),
+        claims.getExpiration(),
+        parsePrincipal(claims));
+  }
+
+  // iatms가 없는 이전 토큰은 초 단위 iat를 사용(폐기 확인에서 폐기와 같은 초에 발급된 토큰은 거절됨)
+  private static Date parseIssuedAt(Claims claims) {
+    Object millis = claims.get(CLAIM_ISSUED_AT_MILLIS);
+    return millis instanceof Number number ? new Date(number.longValue()) : claims.getIssuedAt();
+  }
+
+  // 사용자 정보 클레임이 모두 있으면 TokenPrincipal로 변환(없으면 null)
+  private TokenPrincipal parsePrincipal(Claims claims) {
+    String username = claims.get(CLAIM_USERNAME, String.class);
+    String role = claims.get(CLAIM_ROLE, String.class);
+    Object flags = claims.get(CLAIM_FLAGS);
+    Object version = claims.get(CLAIM_VERSION);
+    if (username == null || role == null || flags == null || version == null) {
+      return null;
+    }
+    return new TokenPrincipal(
+        username, Role.valueOf(role), ((Number) flags).intValue(), ((Number) version).longValue());
+  }
+
+  // 블랙리스트 키로 쓰이는 짧은 토큰 ID 생성
+  private static String newTokenId() {
+    byte[] bytes = new byte[TOKEN_ID_BYTES];
+    SECURE_RANDOM.nextBytes(bytes);
+    return TOKEN_ID_ENCODER.encodeToString(bytes);
+  }
+
+  private Long parseUserId(String userIdStr) {
     try {
       return Long.parseLong(userIdStr);
     } catch (NumberFormatException e) {
       throw new IllegalArgumentException("Invalid user ID in token: " + userIdStr, e);
     }
   }
-
-  public long getRemainingMillis(String token) {
-    Date expiration =
-        Jwts.parser().verifyWith(key).build().parseSignedClaims(token).getPayload().getExpiration();
-    return expiration.getTime() - System.currentTimeMillis();
-  }
 }
@@ -0,0 +1,160 @@
+package com.example.usertemplate.auth.security;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.example.usertemplate.common.exception.BusinessException;
+import com.example.usertemplate.global.timing.ServerTiming;
+import com.example.usertemplate.global.timing.ServerTiming.Stage;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * 비밀번호 해싱을 전용 스레드 풀에서 실행하는 PasswordEncoder임.
+ *
+ * <p>- BCrypt 해싱은 CPU를 오래 쓰므로 요청 스레드에서 직접 실행하면 로그인이 몰릴 때 모든 Tomcat 워커가 해싱에 묶여 다른 요청까지 밀림. - 해싱은 CPU
+ * 코어 수만큼의 플랫폼 스레드와 크기가 제한된 큐에서만 실행되며, 큐가 가득 차거나 대기 시간(password.hashing.timeout)을 넘으면 바로 503으로 거절함.
+ * - PasswordEncoder 빈을 감싸므로 로그인(DaoAuthenticationProvider), 회원가입, 비밀번호 변경이 모두 이 풀을 사용함. - 지표:
+ * password.hashing.queue.size, password.hashing.duration(작업/결과별 히스토그램, matches는 match/mismatch로
+ * 구분), password.hashing.rejected
+ */
+public class OffloadingPasswordEncoder implements PasswordEncoder, DisposableBean {
+
+  private final PasswordEncoder delegate;
+  private final ThreadPoolExecutor executor;
+  private final long timeoutMillis;
+
+  private final Timer encodeTimer;
+  private final Timer matchTimer;
+  private final Timer mismatchTimer;
+  private final Counter rejected;
+
+  public OffloadingPasswordEncoder(
+      PasswordEncoder delegate,
+      int threads,
+      int queueCapacity,
+      long timeoutMillis,
+      MeterRegistry meterRegistry) {
+    int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+    this.delegate = delegate;
+    this.timeoutMillis = timeoutMillis;
+    this.executor =
+        new ThreadPoolExecutor(
+            poolSize,
+            poolSize,
+            0L,
+            TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity),
+            Thread.ofPlatform().name("password-hash-", 0).daemon(true).factory(),
+            new ThreadPoolExecutor.AbortPolicy());
+    this.encodeTimer = hashTimer(meterRegistry, "encode", "success");
+    this.matchTimer = hashTimer(meterRegistry, "matches", "match");
+    this.mismatchTimer = hashTimer(meterRegistry, "matches", "mismatch");
+    this.rejected =
+        Counter.builder("password.hashing.rejected")
+            .description("Password hashing requests rejected because the executor was saturated")
+            .register(meterRegistry);
+    Gauge.builder("password.hashing.queue.size", executor, e -> e.getQueue().size())
+        .description("Password hashing requests waiting for a worker")
+        .register(meterRegistry);
+    Gauge.builder("password.hashing.active", executor, ThreadPoolExecutor::getActiveCount)
+        .description("Password hashing workers currently busy")
+        .register(meterRegistry);
+  }
+
+  @Override
+  public String encode(CharSequence rawPassword) {
+    return submit(() -> encodeTimer.recordCallable(() -> delegate.encode(rawPassword)));
+  }
+
+  @Override
+  public boolean matches(CharSequence rawPassword, String encodedPassword) {
+    return submit(
+        () -> {
+          long start = System.nanoTime();
+          boolean matched = delegate.matches(rawPassword, encodedPassword);
+          Timer timer = matched ? matchTimer : mismatchTimer;
+          timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+          return matched;
+        });
+  }
+
+  // 해싱 없이 저장된 값의 형식만 확인하므로 요청 스레드에서 실행
+  @Override
+  public boolean upgradeEncoding(String encodedPassword) {
+    return delegate.upgradeEncoding(encodedPassword);
+  }
+
+  @Override
+  public void destroy() {
+    executor.shutdown();
+  }
+
+  // 작업을 풀에 넣고 결과를 기다림(포화 또는 대기 시간 초과 시 503)
+  private <T> T submit(Callable<T> task) {
+    // 요청 스레드가 기다린 시간(큐 대기 포함)을 Server-Timing의 password 단계로 기록
+    ServerTiming timing = ServerTiming.current();
+    timing.begin(Stage.PASSWORD);
+    try {
+      return await(task);
+    } finally {
+      timing.end(Stage.PASSWORD);
+    }
+  }
+
+  private <T> T await(Callable<T> task) {
+    Future<T> future;
+    try {
+      future = executor.submit(task);
+    } catch (RejectedExecutionException e) {
+      rejected.increment();
+      throw busy();
+    }
+
+    try {
+      return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+    } catch (TimeoutException e) {
+      future.cancel(false);
+      rejected.increment();
+      throw busy();
+    } catch (InterruptedException e) {
+      future.cancel(false);
+      Thread.currentThread().interrupt();
+      throw busy();
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      if (e.getCause() instanceof Error error) {
+        throw error;
+      }
+      throw new IllegalStateException("Password hashing failed", e.getCause());
+    }
+  }
+
+  private static BusinessException busy() {
+    return new BusinessException(
+        "Too many password hashing requests, please retry later", 503, "PASSWORD_HASHING_BUSY");
+  }
+
+  private static Timer hashTimer(MeterRegistry meterRegistry, String operation, String outcome) {
+    return Timer.builder("password.hashing.duration")
+        .description("Time spent hashing or verifying a password on the hashing executor")
+        .tag("operation", operation)
+        .tag("outcome", outcome)
+        .publishPercentileHistogram()
+        .register(meterRegistry);
+  }
+}
@@ -0,0 +1,52 @@
+package com.example.usertemplate.auth.security;
+
+import com.example.usertemplate.common.user.Role;
+import com.example.usertemplate.user.entity.User;
+
+/**
+ * Access Token에 담기는 사용자 정보 클레임임.
+ *
+ * <p>- 무상태(stateless) 주체 모드에서 JwtTokenProvider가 토큰에 기록함. - 필터는 이 값으로 DB 조회 없이 가벼운 User 주체를 만듦. - 계정
+ * 상태 플래그는 비트마스크 하나로 압축하여 토큰 크기를 줄임.
+ *
+ * @param username 사용자 이름
+ * @param role 권한
+ * @param flags 계정 상태 비트마스크(enabled, accountNonExpired, accountNonLocked, credentialsNonExpired)
+ * @param version 토큰 발급 시점의 사용자 보안 버전
+ */
+public record TokenPrincipal(String username, Role role, int flags, long version) {
+
+  private static final int ENABLED = 1;
+  private static final int ACCOUNT_NON_EXPIRED = 1 << 1;
+  private static final int ACCOUNT_NON_LOCKED = 1 << 2;
+  private static final int CREDENTIALS_NON_EXPIRED = 1 << 3;
+
+  // 엔터티에서 토큰에 담을 정보를 추출
+  public static TokenPrincipal from(User user) {
+    int flags = 0;
+    flags |= user.isEnabled() ? ENABLED : 0;
+    flags |= user.isAccountNonExpired() ? ACCOUNT_NON_EXPIRED : 0;
+    flags |= user.isAccountNonLocked() ? ACCOUNT_NON_LOCKED : 0;
+    flags |= user.isCredentialsNonExpired() ? CREDENTIALS_NON_EXPIRED : 0;
+    return new TokenPrincipal(user.getUsername(), user.getRole(), flags, user.getSecurityVersion());
+  }
+
+  /**
+   * 토큰 정보만으로 영속성 컨텍스트에 속하지 않는 가벼운 User 주체를 만듦.
+   *
+   * <p>비밀번호, 이메일, 생성/수정 시각은 토큰에 없으므로 null임. @AuthenticationPrincipal User를 받는 컨트롤러는 id, username,
+   * 권한, 상태 플래그를 그대로 사용할 수 있음.
+   */
+  public User toUser(Long userId) {
+    return User.builder()
+        .id(userId)
+        .username(username)
+        .role(role)
+        .enabled((flags & ENABLED) != 0)
+        .accountNonExpired((flags & ACCOUNT_NON_EXPIRED) != 0)
+        .accountNonLocked((flags & ACCOUNT_NON_LOCKED) != 0)
+        .credentialsNonExpired((flags & CREDENTIALS_NON_EXPIRED) != 0)
+        .securityVersion(version)
+        .build();
+  }
+}
@@ -0,0 +1,51 @@
+package com.example.usertemplate.auth.security;
+
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * 사용자별 최신 보안 버전을 기억하는 레지스트리임.
+ *
+ * <p>- 권한, 계정 상태, 비밀번호가 바뀌면 사용자의 보안 버전이 올라가고 무효화 메시지로 이 레지스트리에 기록됨. - 사용자 캐시에서 사용자를 조회할 때도 그 사용자의
+ * 현재 버전을 기록함. - 토큰의 ver 클레임이 기록된 버전이나 설정된 최소 버전(jwt.stateless-principal.min-user-version)보다 낮거나,
+ * 기록된 버전이 없으면(재시작, 새 노드, 만료) 오래된 토큰으로 보고 사용자 캐시에서 사용자를 다시 조회함. - 엔트리는 사용자 캐시의 로컬
+ * 만료시간(user.cache.local-expiration)이 지나면 제거되므로, 메시지를 놓친 노드도 그 시간 안에 최신 버전을 다시 읽음.
+ */
+@Component
+public class UserVersionRegistry {
+
+  // 삭제된 사용자는 어떤 토큰도 최신으로 인정하지 않음.
+  private static final long DELETED = Long.MAX_VALUE;
+
+  private final long minUserVersion;
+  private final Cache<Long, Long> versions;
+
+  public UserVersionRegistry(
+      @Value("${jwt.stateless-principal.min-user-version:0}") long minUserVersion,
+      @Value("${user.cache.local-expiration:30000}") long localExpiration) {
+    this.minUserVersion = minUserVersion;
+    this.versions =
+        Caffeine.newBuilder().expireAfterWrite(localExpiration, TimeUnit.MILLISECONDS).build();
+  }
+
+  // 토큰에 기록된 버전이 최신인지 확인(기록된 버전이 없으면 최신으로 보지 않음)
+  public boolean isCurrent(Long userId, long tokenVersion) {
+    Long knownVersion = versions.getIfPresent(userId);
+    return tokenVersion >= minUserVersion && knownVersion != null && tokenVersion >= knownVersion;
+  }
+
+  // 사용자의 새 보안 버전을 기록
+  public void recordVersion(Long userId, long version) {
+    versions.asMap().merge(userId, version, Math::max);
+  }
+
+  // 삭제된 사용자를 기록
+  public void markDeleted(Long userId) {
+    versions.put(userId, DELETED);
+  }
+}
@@ -0,0 +1,23 @@
+package com.example.usertemplate.auth.security;
+
+import java.util.Date;
+
+/**
+ * 서명과 만료 검증을 마친 JWT의 클레임을 담는 객체임.
+ *
+ * <p>- JwtTokenProvider.verify()가 토큰을 한 번만 파싱하여 생성함. - 필터와 컨트롤러는 토큰을 다시 파싱하지 않고 이 객체의 값을 사용함.
+ *
+ * @param tokenId 토큰 ID(jti, 도입 이전에 발급된 토큰이면 null)
+ * @param userId 토큰의 subject(사용자 ID)
+ * @param issuedAt 발급 시각(iatms, 없으면 초 단위 iat)
+ * @param expiration 만료 시각(exp)
+ * @param principal 토큰에 담긴 사용자 정보(무상태 주체 모드가 아닐 때 발급된 토큰이면 null)
+ */
+public record VerifiedToken(
+    String tokenId, Long userId, Date issuedAt, Date expiration, TokenPrincipal principal) {
+
+  // 만료까지 남은 시간(ms)
+  public long remainingMillis() {
+    return expiration.getTime() - System.currentTimeMillis();
+  }
+}
@@ -0,0 +1,102 @@
+package com.example.usertemplate.auth.security;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * 이미 검증된 Access Token을 기억하는 프로세스 내부(L1) 캐시임.
+ *
+ * <p>- 원본 토큰이 아닌 SHA-256 해시를 키로 사용하여 메모리에 토큰 문자열을 보관하지 않음. - 엔트리는 토큰의 exp 시각보다 늦게 살아남지 않음. - 최대 크기를
+ * 넘으면 Caffeine 정책에 따라 제거됨. - 적중/실패/제거 횟수는 jwt.verified 이름의 캐시 메트릭으로 노출됨.
+ *
+ * <p>블랙리스트 확인은 캐시와 별개로 매 요청마다 수행되므로, 이 캐시는 서명 검증과 클레임 파싱만 생략함.
+ */
+@Component
+public class VerifiedTokenCache {
+
+  private final boolean enabled;
+  private final Cache<TokenKey, VerifiedToken> cache;
+
+  public VerifiedTokenCache(
+      @Value("${jwt.verified-cache.enabled:true}") boolean enabled,
+      @Value("${jwt.verified-cache.max-size:10000}") long maxSize,
+      MeterRegistry meterRegistry) {
+    this.enabled = enabled;
+    this.cache =
+        Caffeine.newBuilder()
+            .maximumSize(maxSize)
+            .expireAfter(new TokenExpiry())
+            .recordStats()
+            .build();
+    CaffeineCacheMetrics.monitor(meterRegistry, cache, "jwt.verified");
+  }
+
+  // 캐시에 검증 결과가 있으면 반환
+  public Optional<VerifiedToken> get(String token) {
+    if (!enabled) {
+      return Optional.empty();
+    }
+    VerifiedToken verifiedToken = cache.getIfPresent(TokenKey.of(token));
+    if (verifiedToken == null || verifiedToken.remainingMillis() <= 0) {
+      return Optional.empty();
+    }
+    return Optional.of(verifiedToken);
+  }
+
+  // 검증에 성공한 토큰을 캐시에 저장
+  public void put(String token, VerifiedToken verifiedToken) {
+    if (enabled && verifiedToken.remainingMillis() > 0) {
+      cache.put(TokenKey.of(token), verifiedToken);
+    }
+  }
+
+  // 토큰의 SHA-256 해시 앞 128비트를 키로 사용함.
+  private record TokenKey(long high, long low) {
+
+    static TokenKey of(String token) {
+      try {
+        byte[] digest =
+            MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+        ByteBuffer buffer = ByteBuffer.wrap(digest);
+        return new TokenKey(buffer.getLong(), buffer.getLong());
+      } catch (NoSuchAlgorithmException e) {
+        throw new IllegalStateException("SHA-256 is not available", e);
+      }
+    }
+  }
+
+  // 엔트리의 만료 시각을 토큰의 exp에 맞춤.
+  private static class TokenExpiry implements Expiry<TokenKey, VerifiedToken> {
+
+    @Override
+    public long expireAfterCreate(TokenKey key, VerifiedToken value, long currentTime) {
+      return TimeUnit.MILLISECONDS.toNanos(Math.max(0, value.remainingMillis()));
+    }
+
+    @Override
+    public long expireAfterUpdate(
+        TokenKey key, VerifiedToken value, long currentTime, long currentDuration) {
+      return expireAfterCreate(key, value, currentTime);
+    }
+
+    @Override
+    public long expireAfterRead(
+        TokenKey key, VerifiedToken value, long currentTime, long currentDuration) {
+      return currentDuration;
+    }
+  }
+}
@@ -1,13 +1,18 @@
 package com.example.usertemplate.auth.service;
 
-import com.example.usertemplate.auth.dto.LoginRequest;
-import com.example.usertemplate.auth.dto.LoginResponse;
-import com.example.usertemplate.auth.dto.RegisterRequest;
-import com.example.usertemplate.user.dto.UserResponse;
+import com.example.usertemplate.common.auth.LoginRequest;
+import com.example.usertemplate.common.auth.LoginResponse;
+import com.example.usertemplate.common.auth.RegisterRequest;
+import com.example.usertemplate.common.user.UserResponse;
 
 public interface AuthService {
 
   UserResponse register(RegisterRequest request);
 
-  LoginResponse login(LoginRequest request);
+  /**
+   * 로그인하고 토큰을 발급함.
+   *
+   * @param clientIp 요청한 클라이언트 IP(로그인 시도 제한에 사용)
+   */
+  LoginResponse login(LoginRequest request, String clientIp);
 }
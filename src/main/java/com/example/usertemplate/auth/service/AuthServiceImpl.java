@@ -1,20 +1,25 @@
 package com.example.usertemplate.auth.service;
 
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import com.example.usertemplate.auth.dto.LoginRequest;
-import com.example.usertemplate.auth.dto.LoginResponse;
-import com.example.usertemplate.auth.dto.RegisterRequest;
+import com.example.usertemplate.auth.ratelimit.LoginRateLimiter;
 import com.example.usertemplate.auth.security.JwtTokenProvider;
 import com.example.usertemplate.auth.token.RefreshTokenService;
-import com.example.usertemplate.global.exception.BusinessException;
-import com.example.usertemplate.user.dto.UserResponse;
-import com.example.usertemplate.user.entity.Role;
+import com.example.usertemplate.common.auth.LoginRequest;
+import com.example.usertemplate.common.auth.LoginResponse;
+import com.example.usertemplate.common.auth.RegisterRequest;
+import com.example.usertemplate.common.exception.BusinessException;
+import com.example.usertemplate.common.user.Role;
+import com.example.usertemplate.common.user.UserResponse;
+import com.example.usertemplate.global.metrics.AuthMetrics;
+import com.example.usertemplate.user.cache.UserCacheService;
 import com.example.usertemplate.user.entity.User;
 import com.example.usertemplate.user.repository.UserRepository;
 
@@ -26,24 +31,29 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class AuthServiceImpl implements AuthService {
 
+  private static final String STAGE_LOGIN = "login.authenticate";
+
   private final UserRepository userRepository;
+  private final UserCacheService userCacheService;
   private final PasswordEncoder passwordEncoder;
   private final AuthenticationManager authenticationManager;
   private final JwtTokenProvider jwtTokenProvider;
   private final RefreshTokenService refreshTokenService;
+  private final AuthMetrics authMetrics;
+  private final LoginRateLimiter loginRateLimiter;
 
   @Override
   @Transactional
   public UserResponse register(RegisterRequest request) {
     log.info("Registering new user with username: {}", request.username());
 
-    // 이미 유저가 있는지 확인
-    if (userRepository.existsByUsername(request.username())) {
+    // 이미 유저가 있는지 확인(없는 값은 대부분 존재 인덱스에서 DB 조회 없이 확인됨)
+    if (userCacheService.existsByUsername(request.username())) {
       throw new BusinessException("Username already exists", 409, "DUPLICATE_USERNAME");
     }
 
     // 이미 있는 이메일인지 확인
-    if (userRepository.existsByEmail(request.email())) {
+    if (userCacheService.existsByEmail(request.email())) {
       throw new BusinessException("Email already exists", 409, "DUPLICATE_EMAIL");
     }
 
@@ -59,34 +69,56 @@ public class AuthServiceImpl implements AuthService {
             .credentialsNonExpired(true)
             .build();
 
-    User savedUser = userRepository.save(user);
+    // 확인과 저장 사이에 같은 값으로 가입한 요청은 DB의 unique 제약으로 걸러짐
+    User savedUser;
+    try {
+      savedUser = userRepository.saveAndFlush(user);
+    } catch (DataIntegrityViolationException e) {
+      throw new BusinessException("Username or email already exists", 409, "DUPLICATE_USER");
+    }
+    userCacheService.registered(savedUser);
     log.info("User registered successfully with ID: {}", savedUser.getId());
 
     return UserResponse.from(savedUser);
   }
 
   @Override
-  public LoginResponse login(LoginRequest request) {
+  public LoginResponse login(LoginRequest request, String clientIp) {
     log.info("Attempting login for username: {}", request.username());
 
-    // 1. AuthenticationManager를 통한 인증
-    Authentication authentication =
-        authenticationManager.authenticate(
-            new UsernamePasswordAuthenticationToken(request.username(), request.password()));
+    // 1. 잠금과 IP별 요청 한도 확인(로컬 상태만 보므로 BCrypt 해싱 전에 거절함)
+    loginRateLimiter.checkAllowed(clientIp, request.username());
+
+    // 2. AuthenticationManager를 통한 인증(사용자 조회와 BCrypt 검증, 해싱 풀 대기 시간 포함)
+    Authentication authentication;
+    try {
+      authentication =
+          authMetrics.record(
+              STAGE_LOGIN,
+              () ->
+                  authenticationManager.authenticate(
+                      new UsernamePasswordAuthenticationToken(
+                          request.username(), request.password())));
+    } catch (BadCredentialsException e) {
+      // 없는 사용자도 BadCredentialsException이므로 사용자 이름 추측 시도까지 함께 기록됨
+      loginRateLimiter.recordFailure(clientIp, request.username());
+      throw e;
+    }
+    loginRateLimiter.recordSuccess(request.username());
 
     log.debug("Authentication successful for user: {}", request.username());
 
-    // 2. 인증된 정보에서 User 객체 가져오기
+    // 3. 인증된 정보에서 User 객체 가져오기
     User user = (User) authentication.getPrincipal();
 
-    // 3. JWT 토큰 생성
+    // 4. JWT 토큰 생성
     String accessToken = jwtTokenProvider.generateAccessToken(authentication);
     String refreshToken = jwtTokenProvider.generateRefreshToken(user.getId());
 
     log.info("Tokens generated for user: {}", user.getUsername());
 
-    // 4. Refresh Token을 Redis에 저장
-    refreshTokenService.saveTokenInfo(user.getEmail(), refreshToken, accessToken);
+    // 5. Refresh Token을 Redis에 저장
+    refreshTokenService.saveTokenInfo(user.getId(), refreshToken, accessToken);
 
     return LoginResponse.of(accessToken, refreshToken);
   }
@@ -1,25 +1,55 @@
 package com.example.usertemplate.auth.service;
 
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.example.usertemplate.user.cache.UserCacheService;
+import com.example.usertemplate.user.entity.User;
 import com.example.usertemplate.user.repository.UserRepository;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
-public class CustomUserDetailsService implements UserDetailsService {
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
 
+  private final UserCacheService userCacheService;
   private final UserRepository userRepository;
 
+  // 비밀번호 해시가 필요하므로 캐시가 아닌 DB에서 읽음(없는 username은 존재 인덱스가 DB 조회 없이 거절)
   @Override
   public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-    return userRepository
-        .findByUsername(username)
+    return userCacheService
+        .findForAuthentication(username)
         .orElseThrow(
             () -> new UsernameNotFoundException("User not found with username: " + username));
   }
+
+  /**
+   * 로그인에 성공한 사용자의 비밀번호 해시를 현재 형식과 cost로 다시 저장함.
+   *
+   * <p>DaoAuthenticationProvider가 저장된 해시의 upgradeEncoding()이 true일 때 호출함. 비밀번호 자체는 바뀌지 않으므로 보안 버전을
+   * 올리거나 토큰을 폐기하지 않음.
+   */
+  @Override
+  @Transactional
+  public UserDetails updatePassword(UserDetails userDetails, String newPassword) {
+    User user =
+        userRepository
+            .findByUsername(userDetails.getUsername())
+            .orElseThrow(
+                () ->
+                    new UsernameNotFoundException(
+                        "User not found with username: " + userDetails.getUsername()));
+    user.setPassword(newPassword);
+    userCacheService.evict(user, user.getEmail());
+    log.info("Password hash upgraded for user: {}", user.getUsername());
+    return user;
+  }
 }
@@ -0,0 +1,70 @@
+package com.example.usertemplate.auth.token;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+import com.example.usertemplate.global.bloom.BloomFilter;
+
+/**
+ * 블랙리스트 키를 위한 2세대 블룸 필터임.
+ *
+ * <p>- mightContain()이 false면 해당 키는 블랙리스트에 없음(거짓 음성 없음). true면 Redis에서 실제로 확인해야 함. - 블룸 필터는 삭제를
+ * 지원하지 않으므로 current/previous 두 세대를 두고 rotationPeriod마다 previous를 버리고 새 세대를 만듦. - 블랙리스트 TTL은 Access
+ * Token 만료시간보다 길지 않으므로, rotationPeriod를 Access Token 만료시간으로 두면 키가 Redis에 살아있는 동안에는 항상 필터에 남아있음. - 각
+ * 세대는 잠금 없이 추가/조회하는 BloomFilter이며, 세대 교체에만 ReentrantLock을 사용함.
+ */
+public class BlacklistBloomFilter {
+
+  private final long expectedInsertions;
+  private final double falsePositiveRate;
+  private final long rotationPeriod;
+  private final ReentrantLock rotationLock = new ReentrantLock();
+
+  private volatile Generations generations;
+
+  public BlacklistBloomFilter(
+      long expectedInsertions, double falsePositiveRate, long rotationPeriod) {
+    this.expectedInsertions = expectedInsertions;
+    this.falsePositiveRate = falsePositiveRate;
+    this.rotationPeriod = rotationPeriod;
+    this.generations =
+        new Generations(newFilter(), newFilter(), System.currentTimeMillis() + rotationPeriod);
+  }
+
+  // 키를 현재 세대에 추가
+  public void add(String key) {
+    currentGenerations().current().add(key);
+  }
+
+  // 두 세대 중 하나라도 키를 포함할 가능성이 있으면 true
+  public boolean mightContain(String key) {
+    long hash = BloomFilter.hash(key);
+    Generations current = currentGenerations();
+    return current.current().mightContain(hash) || current.previous().mightContain(hash);
+  }
+
+  // 교체 시각이 지났으면 세대를 교체하고 현재 세대를 반환
+  private Generations currentGenerations() {
+    Generations current = generations;
+    if (System.currentTimeMillis() < current.rotateAt() || !rotationLock.tryLock()) {
+      return current;
+    }
+    try {
+      current = generations;
+      if (System.currentTimeMillis() >= current.rotateAt()) {
+        current =
+            new Generations(
+                newFilter(), current.current(), System.currentTimeMillis() + rotationPeriod);
+        generations = current;
+      }
+      return current;
+    } finally {
+      rotationLock.unlock();
+    }
+  }
+
+  private BloomFilter newFilter() {
+    return new BloomFilter(expectedInsertions, falsePositiveRate);
+  }
+
+  private record Generations(BloomFilter current, BloomFilter previous, long rotateAt) {}
+}
@@ -1,25 +1,278 @@
 package com.example.usertemplate.auth.token;
 
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
+import jakarta.annotation.PostConstruct;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.SubscriptionListener;
+import org.springframework.data.redis.core.Cursor;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import lombok.RequiredArgsConstructor;
+import com.example.usertemplate.auth.security.VerifiedToken;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
 
+/**
+ * Access Token 블랙리스트를 관리하는 서비스임.
+ *
+ * <p>- 블랙리스트는 토큰 ID(jti)로 만든 짧은 키(bl:{jti})로 Redis에 토큰 남은 만료시간만큼의 TTL로 저장됨. - jti가 없는 이전 토큰은 원본 토큰을
+ * 키로 사용함. - 전환 기간에는 jwt.blacklist.legacy-keys.enabled로 jti가 있는 토큰도 원본 토큰 키를 함께 확인함(이전 버전 노드가 원본
+ * 토큰으로 등록한 경우 대비). - 노드마다 블룸 필터를 두어, 필터에 없는 토큰(대부분의 요청)은 Redis 조회 없이 통과시킴. - 블랙리스트 등록은
+ * jwt-blacklist:added 채널로 다른 노드의 블룸 필터에 전파됨. - 기동 시와 재동기화 주기
+ * (jwt.blacklist.bloom.resync-interval)마다 Redis의 블랙리스트 키를 스캔하여 필터를 보강하므로, pub/sub 메시지를 놓쳐도 그 주기 안에
+ * 반영됨. - 필터는 구독이 확인된 뒤 시작한 스캔이 성공해야 사용하며, 그 전이나 구독이 끊기거나 다시 연결된 직후(다시 스캔하기 전)에는 모든 조회를 Redis로 보냄.
+ * 따라서 구독이 유지되는 동안 유실된 메시지만 재동기화 주기만큼 늦게 반영됨. - 구독 확인 후의 스캔은 리스너 스레드를 막지 않도록 전용 스레드에서 실행함.
+ */
+@Slf4j
 @Service
-@RequiredArgsConstructor
-public class BlacklistTokenService {
+public class BlacklistTokenService
+    implements MessageListener, SubscriptionListener, DisposableBean {
+
+  public static final String BLACKLIST_CHANNEL = "jwt-blacklist:added";
+
+  private static final String BLACKLIST_KEY_PREFIX = "bl:";
+  private static final String BLACKLIST_KEY_PATTERN = BLACKLIST_KEY_PREFIX + "*";
+  // 이전 방식의 블랙리스트 키는 원본 JWT이며 JWT 헤더는 항상 eyJ로 시작함.
+  private static final String LEGACY_KEY_PATTERN = "eyJ*";
 
   private final RedisTemplate<String, String> redisTemplate;
+  private final RedisMessageListenerContainer listenerContainer;
+  private final boolean legacyKeysEnabled;
+  private final boolean bloomEnabled;
+  private final BlacklistBloomFilter bloomFilter;
+  // 구독 확인 후의 재동기화를 실행(리스너 스레드에서 스캔하면 그동안 다른 메시지를 받지 못함)
+  private final Executor resyncExecutor;
+
+  // 구독이 (다시) 확인된 횟수와 현재 구독 상태
+  private final AtomicLong subscriptions = new AtomicLong();
+  private volatile boolean subscribed;
+  // 마지막으로 성공한 스캔이 시작될 때의 subscriptions 값(실패하면 -1)
+  private volatile long loadedSubscription = -1;
+
+  // 블룸 필터 판정 결과 카운터
+  private final Counter bloomNegatives;
+  private final Counter bloomTruePositives;
+  private final Counter bloomFalsePositives;
+
+  @Autowired
+  public BlacklistTokenService(
+      RedisTemplate<String, String> redisTemplate,
+      RedisMessageListenerContainer listenerContainer,
+      MeterRegistry meterRegistry,
+      @Value("${jwt.blacklist.legacy-keys.enabled:true}") boolean legacyKeysEnabled,
+      @Value("${jwt.blacklist.bloom.enabled:true}") boolean bloomEnabled,
+      @Value("${jwt.blacklist.bloom.expected-insertions:100000}") long expectedInsertions,
+      @Value("${jwt.blacklist.bloom.false-positive-rate:0.001}") double falsePositiveRate,
+      @Value("${jwt.expiration:86400000}") long jwtExpiration) {
+    this(
+        redisTemplate,
+        listenerContainer,
+        meterRegistry,
+        legacyKeysEnabled,
+        bloomEnabled,
+        expectedInsertions,
+        falsePositiveRate,
+        jwtExpiration,
+        Executors.newSingleThreadExecutor(
+            Thread.ofVirtual().name("blacklist-bloom-resync").factory()));
+  }
+
+  BlacklistTokenService(
+      RedisTemplate<String, String> redisTemplate,
+      RedisMessageListenerContainer listenerContainer,
+      MeterRegistry meterRegistry,
+      boolean legacyKeysEnabled,
+      boolean bloomEnabled,
+      long expectedInsertions,
+      double falsePositiveRate,
+      long jwtExpiration,
+      Executor resyncExecutor) {
+    this.redisTemplate = redisTemplate;
+    this.resyncExecutor = resyncExecutor;
+    this.listenerContainer = listenerContainer;
+    this.legacyKeysEnabled = legacyKeysEnabled;
+    this.bloomEnabled = bloomEnabled;
+    this.bloomFilter =
+        new BlacklistBloomFilter(expectedInsertions, falsePositiveRate, jwtExpiration);
+    this.bloomNegatives = bloomCounter(meterRegistry, "negative");
+    this.bloomTruePositives = bloomCounter(meterRegistry, "true_positive");
+    this.bloomFalsePositives = bloomCounter(meterRegistry, "false_positive");
+    Gauge.builder(
+            "jwt.blacklist.bloom.false.positive.rate",
+            this,
+            BlacklistTokenService::falsePositiveRate)
+        .description("Share of blacklist lookups that passed the Bloom filter but missed Redis")
+        .register(meterRegistry);
+  }
 
+  // 다른 노드의 블랙리스트 등록 메시지 구독
+  @PostConstruct
+  void subscribe() {
+    listenerContainer.addMessageListener(this, new ChannelTopic(BLACKLIST_CHANNEL));
+  }
+
+  /**
+   * 토큰을 남은 만료시간 동안 블랙리스트에 등록함.
+   *
+   * @param verifiedToken 검증된 토큰
+   * @param accessToken 원본 토큰(jti가 없는 이전 토큰의 키로 사용)
+   */
   @Transactional
-  public void addToBlacklist(String accessToken, long ttlInSeconds) {
-    redisTemplate.opsForValue().set(accessToken, "blacklisted", ttlInSeconds, TimeUnit.SECONDS);
+  public void addToBlacklist(VerifiedToken verifiedToken, String accessToken) {
+    String key = blacklistKey(verifiedToken, accessToken);
+    long ttlInSeconds = verifiedToken.remainingMillis() / 1000;
+    if (ttlInSeconds <= 0) {
+      return;
+    }
+    redisTemplate.opsForValue().set(key, "blacklisted", ttlInSeconds, TimeUnit.SECONDS);
+    bloomFilter.add(key);
+    redisTemplate.convertAndSend(BLACKLIST_CHANNEL, key);
+  }
+
+  public boolean isBlacklisted(VerifiedToken verifiedToken, String accessToken) {
+    if (isKeyBlacklisted(blacklistKey(verifiedToken, accessToken))) {
+      return true;
+    }
+    // 전환 기간에는 이전 버전 노드가 원본 토큰으로 등록한 키도 확인
+    return legacyKeysEnabled && verifiedToken.tokenId() != null && isKeyBlacklisted(accessToken);
+  }
+
+  private boolean isKeyBlacklisted(String key) {
+    // 블룸 필터에 없으면 블랙리스트에 없는 것이 확실하므로 Redis를 조회하지 않음
+    boolean bloomUsable = isBloomUsable();
+    if (bloomUsable && !bloomFilter.mightContain(key)) {
+      bloomNegatives.increment();
+      return false;
+    }
+
+    boolean blacklisted = redisTemplate.hasKey(key);
+    if (bloomUsable) {
+      (blacklisted ? bloomTruePositives : bloomFalsePositives).increment();
+    }
+    return blacklisted;
+  }
+
+  // jti가 있으면 bl:{jti}, 없으면 원본 토큰을 키로 사용
+  private static String blacklistKey(VerifiedToken verifiedToken, String accessToken) {
+    return verifiedToken.tokenId() != null
+        ? BLACKLIST_KEY_PREFIX + verifiedToken.tokenId()
+        : accessToken;
+  }
+
+  // 다른 노드(자기 자신 포함)에서 등록한 블랙리스트 키를 필터에 추가
+  @Override
+  public void onMessage(Message message, byte[] pattern) {
+    bloomFilter.add(new String(message.getBody(), StandardCharsets.UTF_8));
+  }
+
+  // 구독이 (다시) 확인되면 구독 전에 등록되어 메시지로 받지 못한 키를 다시 스캔한 뒤 필터를 사용
+  // (스캔이 끝날 때까지는 isBloomUsable()이 false이므로 모든 조회가 Redis로 감)
+  @Override
+  public void onChannelSubscribed(byte[] channel, long count) {
+    subscriptions.incrementAndGet();
+    subscribed = true;
+    try {
+      resyncExecutor.execute(this::resyncBloomFilter);
+    } catch (RejectedExecutionException e) {
+      log.warn("Skipped blacklist Bloom filter resync after subscription: {}", e.getMessage());
+    }
+  }
+
+  // 구독이 끊기면 다시 구독하고 스캔할 때까지 모든 조회를 Redis로 보냄
+  @Override
+  public void onChannelUnsubscribed(byte[] channel, long count) {
+    subscribed = false;
+  }
+
+  // 기동 시 Redis의 기존 블랙리스트 키로 필터를 채움
+  @EventListener(ApplicationReadyEvent.class)
+  public void rebuildBloomFilter() {
+    resyncBloomFilter();
+  }
+
+  // pub/sub 메시지 유실에 대비하여 주기적으로 필터를 보강(실패하면 다음 성공까지 모든 조회를 Redis로 보냄)
+  @Scheduled(
+      fixedDelayString = "${jwt.blacklist.bloom.resync-interval:60000}",
+      initialDelayString = "${jwt.blacklist.bloom.resync-interval:60000}")
+  public void resyncBloomFilter() {
+    if (bloomEnabled) {
+      long subscription = subscriptions.get();
+      loadedSubscription = loadAllBlacklistKeys() ? subscription : -1;
+    }
+  }
+
+  @Override
+  public void destroy() {
+    if (resyncExecutor instanceof ExecutorService executorService) {
+      executorService.shutdownNow();
+    }
+  }
+
+  // 블룸 필터를 통과했지만 Redis에 없었던 조회의 비율
+  public double falsePositiveRate() {
+    double falsePositives = bloomFalsePositives.count();
+    double negatives = bloomNegatives.count();
+    double total = falsePositives + negatives;
+    return total == 0 ? 0.0 : falsePositives / total;
+  }
+
+  // 구독이 확인된 뒤 시작한 스캔이 성공해야 그 전에 등록된 키와 이후의 메시지를 모두 필터에 담았다고 볼 수 있음
+  private boolean isBloomUsable() {
+    return bloomEnabled && subscribed && loadedSubscription == subscriptions.get();
+  }
+
+  // bl:* 키와(전환 기간에는) 원본 토큰 키를 모두 필터에 추가
+  private boolean loadAllBlacklistKeys() {
+    boolean loaded = loadBlacklistKeys(BLACKLIST_KEY_PATTERN);
+    if (legacyKeysEnabled) {
+      loaded &= loadBlacklistKeys(LEGACY_KEY_PATTERN);
+    }
+    return loaded;
+  }
+
+  // Redis의 블랙리스트 키를 스캔하여 필터에 추가(성공 여부 반환)
+  private boolean loadBlacklistKeys(String pattern) {
+    ScanOptions options = ScanOptions.scanOptions().match(pattern).count(1000).build();
+    long loaded = 0;
+    try (Cursor<String> cursor = redisTemplate.scan(options)) {
+      while (cursor.hasNext()) {
+        bloomFilter.add(cursor.next());
+        loaded++;
+      }
+      log.info("Blacklist Bloom filter synchronized with {} keys matching {}", loaded, pattern);
+      return true;
+    } catch (DataAccessException e) {
+      log.warn("Failed to load blacklist keys into Bloom filter: {}", e.getMessage());
+      return false;
+    }
   }
 
-  public boolean isBlacklisted(String accessToken) {
-    return redisTemplate.hasKey(accessToken);
+  private static Counter bloomCounter(MeterRegistry meterRegistry, String result) {
+    return Counter.builder("jwt.blacklist.bloom.lookups")
+        .tag("result", result)
+        .register(meterRegistry);
   }
 }
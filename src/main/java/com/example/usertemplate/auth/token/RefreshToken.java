@@ -2,25 +2,21 @@ package com.example.usertemplate.auth.token;
 
 import java.io.Serializable;
 
-import org.springframework.data.annotation.Id;
-import org.springframework.data.redis.core.RedisHash;
-import org.springframework.data.redis.core.index.Indexed;
-
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 
+/**
+ * Redis에 저장된 Refresh Token 세션 정보임.
+ *
+ * <p>- id는 로그인마다 새로 만들어지는 세션 ID임. - 저장과 조회는 RefreshTokenStore가 담당함.
+ */
 @Getter
 @AllArgsConstructor
-@RedisHash(value = "jwtToken", timeToLive = 60 * 60 * 24 * 14)
 public class RefreshToken implements Serializable {
 
-  @Id private String id;
+  private String id;
 
-  @Indexed private String accessToken;
+  private Long userId;
 
   private String refreshToken;
-
-  public void updateAccessToken(String accessToken) {
-    this.accessToken = accessToken;
-  }
 }
@@ -1,7 +1,15 @@
 package com.example.usertemplate.auth.token;
 
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+
+import com.example.usertemplate.common.auth.RefreshTokenRotation;
+import com.example.usertemplate.common.auth.SessionResponse;
+import com.example.usertemplate.common.exception.BusinessException;
+import com.example.usertemplate.global.metrics.AuthMetrics;
 
 import lombok.RequiredArgsConstructor;
 
@@ -9,20 +17,63 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class RefreshTokenService {
 
-  private final RefreshTokenRepository refreshTokenRepository;
+  private static final String STAGE_ROTATE = "refresh.rotate";
+
+  private final RefreshTokenStore refreshTokenStore;
+  private final AuthMetrics authMetrics;
+
+  // 로그인마다 새 세션을 만듦.
+  public void saveTokenInfo(Long userId, String refreshToken, String accessToken) {
+    refreshTokenStore.save(userId, refreshToken, accessToken);
+  }
+
+  // 사용자의 세션 중 accessToken에 연결된 RefreshToken을 찾아옴.
+  public Optional<RefreshToken> findByAccessToken(Long userId, String accessToken) {
+    return refreshTokenStore.findByAccessToken(userId, accessToken);
+  }
 
-  @Transactional
-  public void saveTokenInfo(String email, String refreshToken, String accessToken) {
-    refreshTokenRepository.save(new RefreshToken(email, accessToken, refreshToken));
+  // 기존 Access Token의 세션을 새 토큰 쌍으로 원자적으로 교체함(회전 결과별로 시간을 기록).
+  public RefreshTokenRotation rotate(
+      Long userId, String oldAccessToken, String newAccessToken, String newRefreshToken) {
+    return authMetrics.record(
+        STAGE_ROTATE,
+        () -> refreshTokenStore.rotate(userId, oldAccessToken, newAccessToken, newRefreshToken),
+        rotation -> rotation.status().name().toLowerCase(Locale.ROOT));
   }
 
-  @Transactional
-  public void removeRefreshToken(String accessToken) {
+  public void delete(RefreshToken refreshToken) {
+    refreshTokenStore.delete(refreshToken);
+  }
+
+  public void removeRefreshToken(Long userId, String accessToken) {
     RefreshToken refreshToken =
-        refreshTokenRepository
-            .findByAccessToken(accessToken)
+        refreshTokenStore
+            .findByAccessToken(userId, accessToken)
             .orElseThrow(IllegalArgumentException::new);
 
-    refreshTokenRepository.delete(refreshToken);
+    refreshTokenStore.delete(refreshToken);
+  }
+
+  // 사용자의 로그인 세션 목록을 최근 사용 순으로 가져옴.
+  public List<SessionResponse> getSessions(Long userId, String currentAccessToken) {
+    String currentHash =
+        currentAccessToken != null ? RefreshTokenStore.hash(currentAccessToken) : null;
+    return refreshTokenStore.findSessions(userId).stream()
+        .map(
+            session ->
+                new SessionResponse(
+                    session.id(),
+                    session.createdAt(),
+                    session.lastUsedAt(),
+                    session.expiresAt(),
+                    session.accessTokenHash().equals(currentHash)))
+        .toList();
+  }
+
+  // 사용자의 세션 하나를 종료함(해당 세션의 Refresh Token으로는 더 이상 갱신할 수 없음).
+  public void revokeSession(Long userId, String sessionId) {
+    if (!refreshTokenStore.delete(sessionId, userId)) {
+      throw new BusinessException("Session not found", 404, "SESSION_NOT_FOUND");
+    }
   }
 }
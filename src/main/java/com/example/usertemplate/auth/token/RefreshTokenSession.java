@@ -0,0 +1,15 @@
+package com.example.usertemplate.auth.token;
+
+import java.time.Instant;
+
+/**
+ * 사용자 세션 목록의 항목임.
+ *
+ * @param id 세션 ID
+ * @param accessTokenHash 세션의 현재 Access Token 해시
+ * @param createdAt 로그인 시각
+ * @param lastUsedAt 마지막 토큰 갱신 시각
+ * @param expiresAt 세션 만료 시각
+ */
+public record RefreshTokenSession(
+    String id, String accessTokenHash, Instant createdAt, Instant lastUsedAt, Instant expiresAt) {}
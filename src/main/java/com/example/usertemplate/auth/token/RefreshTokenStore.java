@@ -0,0 +1,345 @@
+package com.example.usertemplate.auth.token;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.DataType;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import com.example.usertemplate.auth.security.JwtTokenProvider;
+import com.example.usertemplate.auth.security.VerifiedToken;
+import com.example.usertemplate.common.auth.RefreshTokenRotation;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * RedisTemplate으로 Refresh Token 세션을 직접 관리하는 저장소임.
+ *
+ * <p>키 구조(사용자별 키 5개, {userId} 해시 태그로 Redis Cluster에서도 같은 슬롯에 놓임): - rt:{userId}:sessions : Sorted
+ * Set(sessionId, 점수는 세션 만료 시각) - rt:{userId}:session : Hash(sessionId → JSON(refreshToken,
+ * accessTokenHash, createdAt, lastUsedAt)) - rt:{userId}:access : Hash(accessTokenHash → sessionId)
+ * - rt:{userId}:used : Hash(교체된 accessTokenHash → 회전 시각:sessionId), 재사용 감지용 -
+ * rt:{userId}:used-expiry : Sorted Set(교체된 accessTokenHash, 점수는 재사용 감지 만료 시각)
+ *
+ * <p>- 로그인할 때마다 새 세션이 만들어지므로 한 사용자가 여러 기기에서 동시에 로그인할 수 있음. - 사용자당 세션 수가
+ * jwt.refresh-sessions.max-per-user를 넘으면 가장 오래 사용되지 않은(만료 시각이 가장 이른) 세션부터 삭제함. - Access Token은
+ * SHA-256 해시로만 저장하며, 만료된 세션과 재사용 감지 항목은 스크립트가 점수(만료 시각)로 정리함. - 저장, 회전, 조회, 삭제, 목록 조회는 각각 Lua 스크립트
+ * 하나로 원자적으로 처리되며 Redis 왕복은 한 번임. - 스크립트가 읽고 쓰는 키는 모두 KEYS로 전달되며 저장된 값으로 키를 만들지 않음. - 호출하는 쪽은 검증된
+ * 토큰의 사용자 ID를 함께 넘김. - 기동 시 이전 방식(jwtToken:*, 이메일 키 세션, rt:sess:*)의 데이터를 새 구조로 옮김.
+ */
+@Slf4j
+@Component
+public class RefreshTokenStore {
+
+  private static final String KEY_PREFIX = "rt:{";
+  private static final List<String> KEY_SUFFIXES =
+      List.of("}:sessions", "}:session", "}:access", "}:used", "}:used-expiry");
+  private static final String LEGACY_KEY_PREFIX = "jwtToken";
+  // 세션 목록 도입 전 이메일을 키로 쓰던 세션
+  private static final String LEGACY_SESSION_KEY_PREFIX = "rt:session:";
+  // 세션별 키(rt:sess:{sessionId}, rt:access:*, rt:used:*, rt:sessions:*)를 쓰던 세션, 나머지 키는 TTL로 사라짐
+  private static final String LEGACY_SESSION_ID_KEY_PREFIX = "rt:sess:";
+
+  // 세션 ID 생성용 난수 바이트 수(Base64URL로 16자)
+  private static final int SESSION_ID_BYTES = 12;
+  private static final SecureRandom SECURE_RANDOM = new SecureRandom();
+  private static final Base64.Encoder SESSION_ID_ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+  // 세션을 만들고 최대 세션 수를 넘는 오래된 세션을 삭제함(삭제된 세션 수 반환).
+  private static final RedisScript<Long> SAVE_SCRIPT = script("save", Long.class);
+
+  // Access Token 해시로 만료되지 않은 세션을 찾아 {sessionId, refreshToken}을 반환함.
+  @SuppressWarnings("rawtypes")
+  private static final RedisScript<List> FIND_SCRIPT = script("find", List.class);
+
+  // 기존 Access Token 해시가 세션의 현재 값과 같을 때만 새 토큰 쌍으로 교체함.
+  // 교체된 해시는 rt:{userId}:used에 "회전 시각:세션 ID"로 남겨 재사용을 감지하고, 유예 시간이 지난 재사용이면 세션을 삭제함.
+  // 반환값: {1, sessionId, 이전 refreshToken} | {0} | {2, sessionId} | {3, sessionId}
+  @SuppressWarnings("rawtypes")
+  private static final RedisScript<List> ROTATE_SCRIPT = script("rotate", List.class);
+
+  // 세션과 Access Token 매핑, 사용자 세션 목록의 항목을 함께 삭제함(다른 사용자의 세션은 키가 달라 삭제되지 않음).
+  private static final RedisScript<Long> DELETE_SCRIPT = script("delete", Long.class);
+
+  // 만료된 항목을 정리하고 {sessionId, accessTokenHash, createdAt, lastUsedAt, expiresAt}를 이어서 반환함.
+  @SuppressWarnings("rawtypes")
+  private static final RedisScript<List> LIST_SCRIPT = script("list", List.class);
+
+  private static final int LIST_ENTRY_SIZE = 5;
+
+  private final RedisTemplate<String, String> redisTemplate;
+  private final JwtTokenProvider jwtTokenProvider;
+  private final long refreshExpiration;
+  private final long reuseGracePeriod;
+  private final int maxSessionsPerUser;
+
+  public RefreshTokenStore(
+      RedisTemplate<String, String> redisTemplate,
+      JwtTokenProvider jwtTokenProvider,
+      @Value("${jwt.refresh-expiration:604800000}") long refreshExpiration,
+      @Value("${jwt.refresh-rotation.reuse-grace-period:10000}") long reuseGracePeriod,
+      @Value("${jwt.refresh-sessions.max-per-user:5}") int maxSessionsPerUser) {
+    this.redisTemplate = redisTemplate;
+    this.jwtTokenProvider = jwtTokenProvider;
+    this.refreshExpiration = refreshExpiration;
+    this.reuseGracePeriod = reuseGracePeriod;
+    this.maxSessionsPerUser = Math.max(1, maxSessionsPerUser);
+  }
+
+  // 새 세션을 저장(최대 세션 수를 넘으면 가장 오래 사용되지 않은 세션을 삭제)
+  public void save(Long userId, String refreshToken, String accessToken) {
+    long evicted =
+        save(newSessionId(), userId, refreshToken, hash(accessToken), refreshExpiration, "");
+    if (evicted > 0) {
+      log.info("Evicted {} least recently used sessions for user: {}", evicted, userId);
+    }
+  }
+
+  // 사용자의 세션 중 Access Token에 연결된 세션 조회
+  public Optional<RefreshToken> findByAccessToken(Long userId, String accessToken) {
+    List<?> result = redisTemplate.execute(FIND_SCRIPT, keys(userId), hash(accessToken));
+    if (result == null || result.size() < 2) {
+      return Optional.empty();
+    }
+    return Optional.of(
+        new RefreshToken(String.valueOf(result.get(0)), userId, String.valueOf(result.get(1))));
+  }
+
+  /**
+   * 기존 Access Token에 연결된 세션을 새 토큰 쌍으로 원자적으로 교체함.
+   *
+   * <p>조회, 비교, 교체, 재사용 감지가 Lua 스크립트 하나에서 처리되므로 Redis 왕복은 한 번이며, 같은 토큰으로 동시에 갱신해도 하나만 성공함. 교체된 세션은
+   * 사용자 세션 목록에서 가장 최근에 사용된 세션이 됨.
+   *
+   * @param userId 기존 Access Token의 사용자 ID(서명 검증된 값)
+   * @param oldAccessToken 교체할 Access Token
+   * @param newAccessToken 새 Access Token
+   * @param newRefreshToken 새 Refresh Token
+   * @return 회전 결과
+   */
+  public RefreshTokenRotation rotate(
+      Long userId, String oldAccessToken, String newAccessToken, String newRefreshToken) {
+    List<?> result =
+        redisTemplate.execute(
+            ROTATE_SCRIPT,
+            keys(userId),
+            hash(oldAccessToken),
+            newRefreshToken,
+            hash(newAccessToken),
+            String.valueOf(refreshExpiration),
+            String.valueOf(reuseGracePeriod));
+    if (result == null || result.isEmpty()) {
+      return new RefreshTokenRotation(RefreshTokenRotation.Status.NOT_FOUND, null, null);
+    }
+    return switch (((Number) result.get(0)).intValue()) {
+      case 1 ->
+          new RefreshTokenRotation(
+              RefreshTokenRotation.Status.ROTATED,
+              String.valueOf(result.get(1)),
+              String.valueOf(result.get(2)));
+      case 2 ->
+          new RefreshTokenRotation(
+              RefreshTokenRotation.Status.CONCURRENT, String.valueOf(result.get(1)), null);
+      case 3 ->
+          new RefreshTokenRotation(
+              RefreshTokenRotation.Status.REUSED, String.valueOf(result.get(1)), null);
+      default -> new RefreshTokenRotation(RefreshTokenRotation.Status.NOT_FOUND, null, null);
+    };
+  }
+
+  // 세션 삭제
+  public void delete(RefreshToken refreshToken) {
+    delete(refreshToken.getId(), refreshToken.getUserId());
+  }
+
+  /**
+   * 사용자의 세션 하나를 삭제함.
+   *
+   * @param sessionId 삭제할 세션 ID
+   * @param userId 세션 소유자(다른 사용자의 세션이면 삭제하지 않음)
+   * @return 삭제되었으면 true
+   */
+  public boolean delete(String sessionId, Long userId) {
+    Long deleted = redisTemplate.execute(DELETE_SCRIPT, keys(userId), sessionId);
+    return deleted != null && deleted > 0;
+  }
+
+  // 사용자의 유효한 세션 목록을 최근 사용 순으로 조회
+  public List<RefreshTokenSession> findSessions(Long userId) {
+    List<?> result = redisTemplate.execute(LIST_SCRIPT, keys(userId));
+    List<RefreshTokenSession> sessions = new ArrayList<>();
+    if (result == null) {
+      return sessions;
+    }
+    for (int i = 0; i + LIST_ENTRY_SIZE <= result.size(); i += LIST_ENTRY_SIZE) {
+      sessions.add(
+          new RefreshTokenSession(
+              String.valueOf(result.get(i)),
+              String.valueOf(result.get(i + 1)),
+              toInstant(result.get(i + 2)),
+              toInstant(result.get(i + 3)),
+              toInstant(result.get(i + 4))));
+    }
+    // 만료 시각이 늦을수록 최근에 사용된 세션임
+    sessions.sort((a, b) -> b.expiresAt().compareTo(a.expiresAt()));
+    return sessions;
+  }
+
+  /**
+   * 이전 방식의 세션 데이터를 새 구조로 옮김.
+   *
+   * <p>- @RedisHash 방식(jwtToken:*)의 Hash, 이메일을 키로 쓰던 rt:session:{email} Hash, 세션별 키를 쓰던
+   * rt:sess:{sessionId} Hash가 대상이며, 사용자 ID는 Refresh Token에서 읽음. - 원본 키를 먼저 삭제한 노드만 옮기므로 여러 노드가 동시에
+   * 실행해도 세션이 중복되지 않음.
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  public void migrateLegacyTokens() {
+    int migrated = 0;
+    List<String> legacyKeys = new ArrayList<>();
+    try {
+      for (String key : scanKeys(LEGACY_KEY_PREFIX + ":*")) {
+        if (!key.endsWith(":phantom") && redisTemplate.type(key) == DataType.HASH) {
+          Map<Object, Object> fields = redisTemplate.opsForHash().entries(key);
+          Object accessToken = fields.get("accessToken");
+          if (accessToken != null
+              && migrateLegacySession(key, fields, hash(accessToken.toString()))) {
+            migrated++;
+          }
+        }
+        legacyKeys.add(key);
+      }
+      legacyKeys.add(LEGACY_KEY_PREFIX);
+      redisTemplate.delete(legacyKeys);
+
+      for (String key : scanKeys(LEGACY_SESSION_KEY_PREFIX + "*")) {
+        Map<Object, Object> fields = redisTemplate.opsForHash().entries(key);
+        Object accessTokenHash = fields.get("accessTokenHash");
+        if (accessTokenHash != null
+            && migrateLegacySession(key, fields, accessTokenHash.toString())) {
+          migrated++;
+        }
+      }
+
+      for (String key : scanKeys(LEGACY_SESSION_ID_KEY_PREFIX + "*")) {
+        Map<Object, Object> fields = redisTemplate.opsForHash().entries(key);
+        Object accessTokenHash = fields.get("accessTokenHash");
+        if (accessTokenHash != null
+            && migrateLegacySession(key, fields, accessTokenHash.toString())) {
+          migrated++;
+        }
+      }
+      if (migrated > 0 || legacyKeys.size() > 1) {
+        log.info(
+            "Migrated {} legacy refresh tokens and removed {} legacy keys",
+            migrated,
+            legacyKeys.size());
+      }
+    } catch (DataAccessException e) {
+      log.warn("Failed to migrate legacy refresh tokens: {}", e.getMessage());
+    }
+  }
+
+  private boolean migrateLegacySession(
+      String key, Map<Object, Object> fields, String accessTokenHash) {
+    Object refreshToken = fields.get("refreshToken");
+    Long ttl = redisTemplate.getExpire(key, TimeUnit.MILLISECONDS);
+    if (refreshToken == null || ttl == null || ttl <= 0) {
+      return false;
+    }
+    Optional<VerifiedToken> verified = jwtTokenProvider.verify(refreshToken.toString());
+    // 원본 키를 삭제한 노드만 옮김
+    if (verified.isEmpty() || !Boolean.TRUE.equals(redisTemplate.delete(key))) {
+      return false;
+    }
+    Object createdAt = fields.get("createdAt");
+    save(
+        newSessionId(),
+        verified.get().userId(),
+        refreshToken.toString(),
+        accessTokenHash,
+        ttl,
+        createdAt != null
+            ? createdAt.toString()
+            : String.valueOf(verified.get().issuedAt().getTime()));
+    return true;
+  }
+
+  private List<String> scanKeys(String pattern) {
+    ScanOptions options = ScanOptions.scanOptions().match(pattern).count(1000).build();
+    List<String> keys = new ArrayList<>();
+    try (Cursor<String> cursor = redisTemplate.scan(options)) {
+      cursor.forEachRemaining(keys::add);
+    }
+    return keys;
+  }
+
+  private long save(
+      String sessionId,
+      Long userId,
+      String refreshToken,
+      String accessTokenHash,
+      long ttl,
+      String createdAt) {
+    Long evicted =
+        redisTemplate.execute(
+            SAVE_SCRIPT,
+            keys(userId),
+            sessionId,
+            refreshToken,
+            accessTokenHash,
+            String.valueOf(ttl),
+            String.valueOf(maxSessionsPerUser),
+            createdAt);
+    return evicted != null ? evicted : 0;
+  }
+
+  // 스크립트에 넘기는 사용자별 키(세션 목록, 세션, Access Token 매핑, 재사용 감지, 재사용 감지 만료 순)
+  static List<String> keys(Long userId) {
+    return KEY_SUFFIXES.stream().map(suffix -> KEY_PREFIX + userId + suffix).toList();
+  }
+
+  private static Instant toInstant(Object millis) {
+    return Instant.ofEpochMilli((long) Double.parseDouble(String.valueOf(millis)));
+  }
+
+  private static String newSessionId() {
+    byte[] bytes = new byte[SESSION_ID_BYTES];
+    SECURE_RANDOM.nextBytes(bytes);
+    return SESSION_ID_ENCODER.encodeToString(bytes);
+  }
+
+  // 리액티브 게이트웨이와 같은 스크립트를 쓰도록 클래스패스의 redis/refresh-token/*.lua를 읽음
+  private static <T> RedisScript<T> script(String name, Class<T> resultType) {
+    return RedisScript.of(
+        new ClassPathResource("redis/refresh-token/" + name + ".lua"), resultType);
+  }
+
+  // Access Token의 SHA-256 해시(Base64URL)
+  static String hash(String token) {
+    try {
+      byte[] digest =
+          MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+      return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 is not available", e);
+    }
+  }
+}
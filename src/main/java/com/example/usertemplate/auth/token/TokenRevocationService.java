@@ -0,0 +1,113 @@
+package com.example.usertemplate.auth.token;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.annotation.PostConstruct;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Service;
+
+import com.example.usertemplate.auth.security.VerifiedToken;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 사용자 단위 토큰 폐기 시각(revocation epoch)을 관리하는 서비스임.
+ *
+ * <p>- "이 시각 이전에 발급된 토큰은 모두 무효"라는 값 하나를 사용자마다 Redis(revoke:user:{id})에 저장하여, 토큰 수와 무관하게 O(1)로 전체
+ * 로그아웃을 처리함. - 값은 Refresh Token 만료시간 동안만 유지됨. 그보다 오래된 토큰은 이미 만료되었기 때문임. - 노드마다 로컬 캐시를 두고
+ * jwt-revocation:epoch 채널로 변경을 전파하므로, 요청마다 Redis를 조회하지 않음. 메시지를 놓친 노드도 로컬 만료시간
+ * (jwt.revocation.local-expiration) 안에 반영함. - 폐기 시각은 ms 단위로 저장하고 발급 시각(iatms)이 폐기 시각 이하인 토큰을 무효로
+ * 처리함. iatms가 없는 이전 토큰은 초 단위 iat로 비교하므로 폐기와 같은 초에 발급된 토큰도 거절됨(폐기 전에 발급된 토큰이 남지 않도록 거절 쪽으로 판단).
+ */
+@Slf4j
+@Service
+public class TokenRevocationService implements MessageListener {
+
+  public static final String REVOCATION_CHANNEL = "jwt-revocation:epoch";
+
+  private static final String EPOCH_KEY_PREFIX = "revoke:user:";
+  // 폐기 기록이 없는 사용자
+  private static final long NO_EPOCH = 0L;
+
+  private final RedisTemplate<String, String> redisTemplate;
+  private final RedisMessageListenerContainer listenerContainer;
+  private final long refreshExpiration;
+  private final Cache<Long, Long> epochs;
+
+  public TokenRevocationService(
+      RedisTemplate<String, String> redisTemplate,
+      RedisMessageListenerContainer listenerContainer,
+      @Value("${jwt.refresh-expiration:604800000}") long refreshExpiration,
+      @Value("${jwt.revocation.local-max-size:100000}") long localMaxSize,
+      @Value("${jwt.revocation.local-expiration:10000}") long localExpiration) {
+    this.redisTemplate = redisTemplate;
+    this.listenerContainer = listenerContainer;
+    this.refreshExpiration = refreshExpiration;
+    this.epochs =
+        Caffeine.newBuilder()
+            .maximumSize(localMaxSize)
+            .expireAfterWrite(localExpiration, TimeUnit.MILLISECONDS)
+            .build();
+  }
+
+  // 다른 노드의 폐기 메시지 구독
+  @PostConstruct
+  void subscribe() {
+    listenerContainer.addMessageListener(this, new ChannelTopic(REVOCATION_CHANNEL));
+  }
+
+  // 지금까지 발급된 사용자의 모든 토큰을 무효화
+  public void revokeAllTokens(Long userId) {
+    long epoch = System.currentTimeMillis();
+    redisTemplate
+        .opsForValue()
+        .set(
+            EPOCH_KEY_PREFIX + userId,
+            String.valueOf(epoch),
+            refreshExpiration,
+            TimeUnit.MILLISECONDS);
+    epochs.put(userId, epoch);
+    redisTemplate.convertAndSend(REVOCATION_CHANNEL, userId + ":" + epoch);
+    log.info("All tokens revoked for user: {}", userId);
+  }
+
+  // 토큰이 사용자의 폐기 시각 이전(같은 시각 포함)에 발급되었는지 확인
+  public boolean isRevoked(VerifiedToken verifiedToken) {
+    Long userId = verifiedToken.userId();
+    Long epoch = epochs.getIfPresent(userId);
+    if (epoch == null) {
+      // Cache.get(key, loader)는 잠금 안에서 loader를 실행하여 가상 스레드가 Redis 조회 동안 고정되므로 잠금 밖에서 조회함
+      epoch = epochs.asMap().merge(userId, loadEpoch(userId), Math::max);
+    }
+    return epoch != NO_EPOCH && verifiedToken.issuedAt().getTime() <= epoch;
+  }
+
+  // 다른 노드(자기 자신 포함)에서 보낸 폐기 시각을 로컬 캐시에 반영
+  @Override
+  public void onMessage(Message message, byte[] pattern) {
+    String body = new String(message.getBody(), StandardCharsets.UTF_8);
+    int separator = body.indexOf(':');
+    try {
+      Long userId = Long.valueOf(body.substring(0, separator));
+      long epoch = Long.parseLong(body.substring(separator + 1));
+      epochs.asMap().merge(userId, epoch, Math::max);
+    } catch (RuntimeException e) {
+      log.warn("Failed to handle revocation message {}: {}", body, e.getMessage());
+    }
+  }
+
+  // Redis 장애 시에는 예외가 그대로 전파되어 인증이 거부됨(블랙리스트 조회와 동일)
+  private Long loadEpoch(Long userId) {
+    String epoch = redisTemplate.opsForValue().get(EPOCH_KEY_PREFIX + userId);
+    return epoch != null ? Long.parseLong(epoch) : NO_EPOCH;
+  }
+}
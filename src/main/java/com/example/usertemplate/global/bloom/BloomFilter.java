@@ -0,0 +1,72 @@
+package com.example.usertemplate.global.bloom;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 잠금 없이 추가와 조회를 동시에 할 수 있는 블룸 필터임.
+ *
+ * <p>- mightContain()이 false면 추가된 적이 없는 것이 확실함(거짓 음성 없음). - 비트 수와 해시 수는 예상 개수와 거짓 양성 비율로 정하며, 비트
+ * 배열은 AtomicLongArray로 관리함. - 삭제를 지원하지 않으므로 사용하는 쪽에서 세대 교체나 재구성으로 오래된 값을 정리함. - 같은 키를 여러 필터에 넣거나 찾을
+ * 때는 hash()를 한 번만 계산하여 long을 받는 메서드에 넘김.
+ */
+public class BloomFilter {
+
+  private final int bitCount;
+  private final int hashCount;
+  private final AtomicLongArray bits;
+
+  public BloomFilter(long expectedInsertions, double falsePositiveRate) {
+    long bitsNeeded =
+        (long)
+            Math.ceil(
+                -expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+    this.bitCount = (int) Math.max(64, Math.min(bitsNeeded, Integer.MAX_VALUE - 63));
+    this.hashCount =
+        Math.max(1, (int) Math.round((double) bitCount / expectedInsertions * Math.log(2)));
+    this.bits = new AtomicLongArray((bitCount + 63) >>> 6);
+  }
+
+  public void add(String key) {
+    add(hash(key));
+  }
+
+  public void add(long hash) {
+    for (int i = 0; i < hashCount; i++) {
+      int index = index(hash, i);
+      bits.getAndUpdate(index >>> 6, word -> word | (1L << index));
+    }
+  }
+
+  public boolean mightContain(String key) {
+    return mightContain(hash(key));
+  }
+
+  public boolean mightContain(long hash) {
+    for (int i = 0; i < hashCount; i++) {
+      int index = index(hash, i);
+      if ((bits.get(index >>> 6) & (1L << index)) == 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  // FNV-1a 해시에 SplitMix64 최종 혼합을 적용한 64비트 해시
+  public static long hash(String key) {
+    long hash = 0xcbf29ce484222325L;
+    for (int i = 0; i < key.length(); i++) {
+      hash ^= key.charAt(i);
+      hash *= 0x100000001b3L;
+    }
+    hash = (hash ^ (hash >>> 30)) * 0xbf58476d1ce4e5b9L;
+    hash = (hash ^ (hash >>> 27)) * 0x94d049bb133111ebL;
+    return hash ^ (hash >>> 31);
+  }
+
+  // 더블 해싱(h1 + i * h2)으로 i번째 비트 위치를 계산
+  private int index(long hash, int i) {
+    int h1 = (int) hash;
+    int h2 = (int) (hash >>> 32) | 1;
+    return Math.floorMod(h1 + i * h2, bitCount);
+  }
+}
@@ -6,7 +6,7 @@ import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.repository.configuration.EnableRedisRepositories;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 
 import com.example.usertemplate.global.redis.RedisProperties;
 
@@ -15,10 +15,9 @@ import lombok.RequiredArgsConstructor;
 /**
  * Redis 관련 설정인 RedisConfig.
  *
- * <p>- Spring Data Redis Repository 활성화 (@EnableRedisRepositories) - Redis 서버 연결 및 RedisTemplate 빈
- * 등록 - RedisStandaloneConfiguration으로 단일 Redis 서버 연결 설정
+ * <p>- Redis 서버 연결 및 RedisTemplate 빈 등록 - RedisStandaloneConfiguration으로 단일 Redis 서버 연결 설정 - 노드 간
+ * 캐시 무효화를 위한 pub/sub 리스너 컨테이너 등록
  */
-@EnableRedisRepositories
 @Configuration
 @RequiredArgsConstructor
 public class RedisConfig {
@@ -41,4 +40,12 @@ public class RedisConfig {
 
     return redisTemplate;
   }
+
+  // Redis pub/sub 메시지를 구독하는 리스너 컨테이너(각 서비스가 자신의 채널을 등록함)
+  @Bean
+  public RedisMessageListenerContainer redisMessageListenerContainer() {
+    RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+    container.setConnectionFactory(redisConnectionFactory());
+    return container;
+  }
 }
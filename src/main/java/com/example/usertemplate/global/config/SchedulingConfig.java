@@ -0,0 +1,9 @@
+package com.example.usertemplate.global.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/** 주기 작업(@Scheduled)을 활성화하는 SchedulingConfig */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {}
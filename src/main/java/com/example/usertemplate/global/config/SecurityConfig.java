@@ -1,5 +1,11 @@
 package com.example.usertemplate.global.config;
 
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
+import org.springframework.boot.actuate.health.HealthEndpoint;
+import org.springframework.boot.actuate.info.InfoEndpoint;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -9,15 +15,20 @@ import org.springframework.security.config.annotation.web.configuration.EnableWe
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
 import com.example.usertemplate.auth.oauth.handler.OAuth2AuthenticationSuccessHandler;
+import com.example.usertemplate.auth.security.BCryptStrengthCalibrator;
 import com.example.usertemplate.auth.security.JwtAccessDeniedHandler;
 import com.example.usertemplate.auth.security.JwtAuthenticationEntryPoint;
 import com.example.usertemplate.auth.security.JwtAuthenticationFilter;
+import com.example.usertemplate.auth.security.OffloadingPasswordEncoder;
+import com.example.usertemplate.global.ratelimit.ApiRateLimitFilter;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 
 /** 보안을 담당하는 SecurityConfig임. */
@@ -26,15 +37,46 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class SecurityConfig {
 
+  private static final String BCRYPT_ID = "bcrypt";
+
   private final JwtAuthenticationFilter jwtAuthenticationFilter;
+  private final ApiRateLimitFilter apiRateLimitFilter;
   private final JwtAuthenticationEntryPoint jwtAuthenticationEntryPoint;
   private final JwtAccessDeniedHandler jwtAccessDeniedHandler;
   private final OAuth2AuthenticationSuccessHandler oAuth2AuthenticationSuccessHandler;
 
-  // BCrypt방식을 사용하는 PasswordEncoder 등록
+  // BCrypt방식을 사용하는 PasswordEncoder 등록(해싱은 전용 스레드 풀에서 실행)
   @Bean
-  public PasswordEncoder passwordEncoder() {
-    return new BCryptPasswordEncoder();
+  public PasswordEncoder passwordEncoder(
+      MeterRegistry meterRegistry,
+      @Value("${password.hashing.threads:0}") int threads,
+      @Value("${password.hashing.queue-capacity:64}") int queueCapacity,
+      @Value("${password.hashing.timeout:2000}") long timeout,
+      @Value("${password.bcrypt.strength:0}") int strength,
+      @Value("${password.bcrypt.target-latency:250}") long targetLatency,
+      @Value("${password.bcrypt.min-strength:10}") int minStrength,
+      @Value("${password.bcrypt.max-strength:14}") int maxStrength) {
+    // strength가 0이면 기동 시 목표 시간에 맞는 cost를 측정함
+    int bcryptStrength =
+        strength > 0
+            ? strength
+            : BCryptStrengthCalibrator.calibrate(targetLatency, minStrength, maxStrength);
+    return new OffloadingPasswordEncoder(
+        delegatingPasswordEncoder(bcryptStrength), threads, queueCapacity, timeout, meterRegistry);
+  }
+
+  /**
+   * 저장된 해시의 {id} 접두사로 검증 방식을 고르는 PasswordEncoder를 만듦.
+   *
+   * <p>- 새 해시는 {bcrypt} 접두사와 설정된 cost로 만들어짐. - 접두사가 없는 기존 해시는 BCrypt로 검증하고, 로그인에 성공하면
+   * CustomUserDetailsService.updatePassword()로 새 형식과 cost로 다시 저장됨.
+   */
+  private static PasswordEncoder delegatingPasswordEncoder(int bcryptStrength) {
+    DelegatingPasswordEncoder encoder =
+        new DelegatingPasswordEncoder(
+            BCRYPT_ID, Map.of(BCRYPT_ID, new BCryptPasswordEncoder(bcryptStrength)));
+    encoder.setDefaultPasswordEncoderForMatches(new BCryptPasswordEncoder());
+    return encoder;
   }
 
   // AuthenticationManager 등록
@@ -59,9 +101,15 @@ public class SecurityConfig {
                     .permitAll()
                     .requestMatchers("/h2-console/**")
                     .permitAll()
-                    .requestMatchers("/actuator/**")
+                    .requestMatchers("/.well-known/jwks.json")
                     .permitAll()
 
+                    // Actuator: health, info만 공개하고 metrics, prometheus 등은 관리자만 조회
+                    .requestMatchers(EndpointRequest.to(HealthEndpoint.class, InfoEndpoint.class))
+                    .permitAll()
+                    .requestMatchers(EndpointRequest.toAnyEndpoint())
+                    .hasRole("ADMIN")
+
                     // OAuth 엔드포인트
                     .requestMatchers("/oauth2/**", "/login/oauth2/**")
                     .permitAll()
@@ -88,6 +136,8 @@ public class SecurityConfig {
                     .authenticationEntryPoint(jwtAuthenticationEntryPoint)
                     .accessDeniedHandler(jwtAccessDeniedHandler))
         .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+        // 인증된 사용자를 알아야 하므로 JWT 필터 바로 뒤에서 요청 수를 제한
+        .addFilterAfter(apiRateLimitFilter, JwtAuthenticationFilter.class)
         .build();
   }
 }
@@ -0,0 +1,30 @@
+package com.example.usertemplate.global.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import com.example.usertemplate.global.timing.ServerTiming;
+import com.example.usertemplate.global.timing.ServerTiming.Stage;
+
+/** 핸들러 실행이 시작되는 시점을 Server-Timing의 controller 단계로 기록하는 설정 */
+@Configuration
+public class ServerTimingConfig implements WebMvcConfigurer {
+
+  @Override
+  public void addInterceptors(InterceptorRegistry registry) {
+    registry.addInterceptor(
+        new HandlerInterceptor() {
+          @Override
+          public boolean preHandle(
+              HttpServletRequest request, HttpServletResponse response, Object handler) {
+            ServerTiming.from(request).begin(Stage.CONTROLLER);
+            return true;
+          }
+        });
+  }
+}
@@ -3,6 +3,7 @@ package com.example.usertemplate.global.exception;
 import java.util.List;
 import java.util.stream.Collectors;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
@@ -13,6 +14,9 @@ import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
+import com.example.usertemplate.common.exception.BusinessException;
+import com.example.usertemplate.common.exception.ErrorResponse;
+
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
@@ -33,6 +37,17 @@ public class GlobalExceptionHandler {
     return new ResponseEntity<>(errorResponse, HttpStatus.valueOf(ex.getStatusCode()));
   }
 
+  // 한도 초과는 자주 발생할 수 있으므로 스택 트레이스 없이 기록함
+  @ExceptionHandler(RateLimitExceededException.class)
+  public ResponseEntity<ErrorResponse> handleRateLimitExceededException(
+      RateLimitExceededException ex) {
+    log.warn("RateLimitExceededException: {}", ex.getMessage());
+    ErrorResponse errorResponse = ErrorResponse.of(ex.getMessage(), ex.getErrorCode());
+    return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+        .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+        .body(errorResponse);
+  }
+
   @ExceptionHandler({AuthenticationException.class, BadCredentialsException.class})
   public ResponseEntity<ErrorResponse> handleAuthenticationException(Exception ex) {
     log.error("AuthenticationException: ", ex);
@@ -0,0 +1,16 @@
+package com.example.usertemplate.global.exception;
+
+import com.example.usertemplate.common.exception.BusinessException;
+
+import lombok.Getter;
+
+/** 요청 한도를 넘었을 때 429와 Retry-After(초)로 응답하기 위한 예외임. */
+@Getter
+public class RateLimitExceededException extends BusinessException {
+  private final long retryAfterSeconds;
+
+  public RateLimitExceededException(String message, String errorCode, long retryAfterSeconds) {
+    super(message, 429, errorCode);
+    this.retryAfterSeconds = retryAfterSeconds;
+  }
+}
@@ -0,0 +1,100 @@
+package com.example.usertemplate.global.metrics;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.stereotype.Component;
+
+import com.example.usertemplate.common.exception.BusinessException;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * 인증 처리 단계별 소요 시간을 기록하는 컴포넌트임.
+ *
+ * <p>- 모든 단계는 auth.stage.duration 타이머 하나에 stage, outcome 태그로 기록되며 퍼센타일 히스토그램을 함께 내보내므로 Prometheus에서
+ * 단계별 p99를 계산할 수 있음. - 타이머의 count가 곧 단계/결과별 처리 건수이므로 별도 카운터를 두지 않음. - 태그에는 고정된 문자열만 사용하여(사용자 ID, 토큰
+ * 값 등 금지) 시계열 수가 늘어나지 않도록 함.
+ */
+@Component
+public class AuthMetrics {
+
+  public static final String STAGE_TIMER = "auth.stage.duration";
+
+  public static final String SUCCESS = "success";
+  public static final String FAILURE = "failure";
+  public static final String ERROR = "error";
+
+  private final MeterRegistry meterRegistry;
+  private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+
+  public AuthMetrics(MeterRegistry meterRegistry) {
+    this.meterRegistry = meterRegistry;
+  }
+
+  public Timer.Sample start() {
+    return Timer.start(meterRegistry);
+  }
+
+  public void stop(Timer.Sample sample, String stage, String outcome) {
+    sample.stop(timer(stage, outcome));
+  }
+
+  // 작업을 실행하고 결과 값으로 outcome을 정해 기록함(예외는 종류에 따라 failure 또는 error)
+  public <T> T record(String stage, Supplier<T> action, Function<T, String> outcome) {
+    Timer.Sample sample = start();
+    T result;
+    try {
+      result = action.get();
+    } catch (RuntimeException e) {
+      stop(sample, stage, outcomeOf(e));
+      throw e;
+    }
+    stop(sample, stage, outcome.apply(result));
+    return result;
+  }
+
+  public <T> T record(String stage, Supplier<T> action) {
+    return record(stage, action, result -> SUCCESS);
+  }
+
+  public void run(String stage, Runnable action) {
+    record(
+        stage,
+        () -> {
+          action.run();
+          return null;
+        });
+  }
+
+  /**
+   * 예외를 outcome 태그 값으로 바꿈.
+   *
+   * <p>클라이언트 요청 때문에 실패한 경우(인증 실패, 4xx BusinessException, 잘못된 인자)는 failure, 그 밖의 장애는 error로 구분함.
+   */
+  public static String outcomeOf(RuntimeException e) {
+    if (e instanceof BusinessException businessException) {
+      return businessException.getStatusCode() < 500 ? FAILURE : ERROR;
+    }
+    if (e instanceof AuthenticationException || e instanceof IllegalArgumentException) {
+      return FAILURE;
+    }
+    return ERROR;
+  }
+
+  private Timer timer(String stage, String outcome) {
+    return timers.computeIfAbsent(
+        stage + ':' + outcome,
+        key ->
+            Timer.builder(STAGE_TIMER)
+                .description("Time spent in each stage of the authentication pipeline")
+                .tag("stage", stage)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry));
+  }
+}
@@ -0,0 +1,222 @@
+package com.example.usertemplate.global.ratelimit;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.example.usertemplate.common.exception.ErrorResponse;
+import com.example.usertemplate.user.entity.User;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 인증된 사용자별, 경로 그룹별로 API 요청 수를 제한하는 필터임.
+ *
+ * <p>- JwtAuthenticationFilter 바로 뒤에서 실행되며, 인증된 사용자(User id)만 제한함(로그인은 LoginRateLimiter가 따로 제한). -
+ * 경로 그룹: /api/v1/admin/**(admin)과 나머지(default)가 각자의 버킷 크기와 충전 간격을 가짐. - 요청마다 노드 로컬 토큰
+ * 버킷(TokenBucket)만 확인하므로 Redis를 거치지 않음. - api.rate-limit.sync-interval마다 노드에서 소비된 토큰 수를 Lua 스크립트
+ * 하나로 Redis(api:rate:{route}:{userId})에 더하고, 돌려받은 클러스터 전체의 소비량을 로컬 버킷에 반영함(노드 간 한도는 동기화 주기만큼 늦게
+ * 맞춰짐). - 응답에 RateLimit-Limit, RateLimit-Remaining, RateLimit-Reset(초) 헤더를 붙이고, 한도를 넘으면 429와
+ * Retry-After로 응답함. - 지표: api.rate.limit.rejected(route별)
+ */
+@Slf4j
+@Component
+public class ApiRateLimitFilter extends OncePerRequestFilter {
+
+  static final String LIMIT_HEADER = "RateLimit-Limit";
+  static final String REMAINING_HEADER = "RateLimit-Remaining";
+  static final String RESET_HEADER = "RateLimit-Reset";
+
+  private static final String KEY_PREFIX = "api:rate:";
+  private static final String ADMIN_PATH = "/api/v1/admin/";
+  private static final int SYNC_BATCH_SIZE = 500;
+
+  // 키별로 노드에서 소비된 토큰 수를 클러스터 전체의 GCRA 시각에 더함.
+  // ARGV: 키마다 (소비한 토큰 수, 토큰 간격(us)), 반환값: 키마다 버킷이 가득 찰 때까지 남은 시간(us)
+  @SuppressWarnings("rawtypes")
+  private static final RedisScript<List> SYNC_SCRIPT =
+      RedisScript.of(new ClassPathResource("redis/ratelimit/sync.lua"), List.class);
+
+  private final RedisTemplate<String, String> redisTemplate;
+  private final ObjectMapper objectMapper;
+  private final boolean enabled;
+  private final Route defaultRoute;
+  private final Route adminRoute;
+
+  // route:userId -> 로컬 버킷과 아직 Redis에 반영하지 않은 소비량
+  private final Cache<String, Quota> quotas;
+
+  public ApiRateLimitFilter(
+      RedisTemplate<String, String> redisTemplate,
+      ObjectMapper objectMapper,
+      MeterRegistry meterRegistry,
+      @Value("${api.rate-limit.enabled:true}") boolean enabled,
+      @Value("${api.rate-limit.capacity:100}") long capacity,
+      @Value("${api.rate-limit.refill-interval:50}") long refillInterval,
+      @Value("${api.rate-limit.admin.capacity:20}") long adminCapacity,
+      @Value("${api.rate-limit.admin.refill-interval:500}") long adminRefillInterval) {
+    this.redisTemplate = redisTemplate;
+    this.objectMapper = objectMapper;
+    this.enabled = enabled;
+    this.defaultRoute = new Route("default", capacity, refillInterval, meterRegistry);
+    this.adminRoute = new Route("admin", adminCapacity, adminRefillInterval, meterRegistry);
+    // 버킷이 가득 찬 뒤에는 새 버킷과 같으므로 그만큼 쓰이지 않으면 제거함
+    long idleMillis = Math.max(capacity * refillInterval, adminCapacity * adminRefillInterval);
+    this.quotas =
+        Caffeine.newBuilder()
+            .maximumSize(100_000)
+            .expireAfterAccess(idleMillis, TimeUnit.MILLISECONDS)
+            .build();
+  }
+
+  @Override
+  protected void doFilterInternal(
+      @NonNull HttpServletRequest request,
+      @NonNull HttpServletResponse response,
+      @NonNull FilterChain filterChain)
+      throws ServletException, IOException {
+    Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+    if (!enabled
+        || authentication == null
+        || !(authentication.getPrincipal() instanceof User user)) {
+      filterChain.doFilter(request, response);
+      return;
+    }
+
+    Route route = request.getRequestURI().startsWith(ADMIN_PATH) ? adminRoute : defaultRoute;
+    Quota quota = quotas.get(route.name + ":" + user.getId(), key -> new Quota(route));
+
+    long now = System.nanoTime();
+    long remaining = quota.bucket.tryAcquire(now);
+    response.setHeader(LIMIT_HEADER, String.valueOf(route.capacity));
+    response.setHeader(REMAINING_HEADER, String.valueOf(Math.max(remaining, 0L)));
+    response.setHeader(RESET_HEADER, String.valueOf(toSeconds(quota.bucket.nanosUntilFull(now))));
+
+    if (remaining < 0) {
+      route.rejected.increment();
+      log.debug("API rate limit exceeded for user {} on {}", user.getId(), route.name);
+      reject(response, toSeconds(quota.bucket.nanosUntilAvailable(now)));
+      return;
+    }
+    quota.unsynced.incrementAndGet();
+    filterChain.doFilter(request, response);
+  }
+
+  /**
+   * 노드에서 소비된 토큰 수를 Redis에 반영하고 클러스터 전체 소비량을 로컬 버킷에 맞춤.
+   *
+   * <p>Redis에 실패하면 그 주기의 소비량은 버리고 로컬 한도만으로 계속 동작함.
+   */
+  @Scheduled(
+      fixedDelayString = "${api.rate-limit.sync-interval:1000}",
+      initialDelayString = "${api.rate-limit.sync-interval:1000}")
+  public void sync() {
+    if (!enabled) {
+      return;
+    }
+    List<String> keys = new ArrayList<>();
+    List<String> args = new ArrayList<>();
+    List<Quota> batch = new ArrayList<>();
+    for (Map.Entry<String, Quota> entry : quotas.asMap().entrySet()) {
+      long consumed = entry.getValue().unsynced.getAndSet(0);
+      if (consumed == 0) {
+        continue;
+      }
+      keys.add(KEY_PREFIX + entry.getKey());
+      args.add(String.valueOf(consumed));
+      args.add(String.valueOf(entry.getValue().intervalMicros));
+      batch.add(entry.getValue());
+      if (batch.size() == SYNC_BATCH_SIZE) {
+        syncBatch(keys, args, batch);
+        keys.clear();
+        args.clear();
+        batch.clear();
+      }
+    }
+    if (!batch.isEmpty()) {
+      syncBatch(keys, args, batch);
+    }
+  }
+
+  private void syncBatch(List<String> keys, List<String> args, List<Quota> batch) {
+    try {
+      List<?> result = redisTemplate.execute(SYNC_SCRIPT, keys, args.toArray());
+      long now = System.nanoTime();
+      for (int i = 0; i < batch.size(); i++) {
+        long micros = ((Number) result.get(i)).longValue();
+        batch.get(i).bucket.advanceTo(now, TimeUnit.MICROSECONDS.toNanos(micros));
+      }
+    } catch (RuntimeException e) {
+      log.warn("Failed to sync API rate limits ({} keys): {}", keys.size(), e.getMessage());
+    }
+  }
+
+  private void reject(HttpServletResponse response, long retryAfterSeconds) throws IOException {
+    response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+    response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+    response.setContentType("application/json;charset=UTF-8");
+    ErrorResponse errorResponse =
+        ErrorResponse.of("Too many requests, please retry later", "API_RATE_LIMITED");
+    response.getWriter().write(objectMapper.writeValueAsString(errorResponse));
+  }
+
+  // 헤더는 초 단위이므로 올림(0초는 이미 가능함을 뜻함)
+  private static long toSeconds(long nanos) {
+    return (nanos + 999_999_999L) / 1_000_000_000L;
+  }
+
+  private static final class Route {
+    private final String name;
+    private final long capacity;
+    private final long refillInterval;
+    private final Counter rejected;
+
+    private Route(String name, long capacity, long refillInterval, MeterRegistry meterRegistry) {
+      this.name = name;
+      this.capacity = capacity;
+      this.refillInterval = refillInterval;
+      this.rejected =
+          Counter.builder("api.rate.limit.rejected")
+              .description("Authenticated API requests rejected by the per-user rate limit")
+              .tag("route", name)
+              .register(meterRegistry);
+    }
+  }
+
+  private static final class Quota {
+    private final TokenBucket bucket;
+    private final long intervalMicros;
+    private final AtomicLong unsynced = new AtomicLong();
+
+    private Quota(Route route) {
+      this.bucket = new TokenBucket(route.capacity, route.refillInterval, TimeUnit.MILLISECONDS);
+      this.intervalMicros = TimeUnit.MILLISECONDS.toMicros(route.refillInterval);
+    }
+  }
+}
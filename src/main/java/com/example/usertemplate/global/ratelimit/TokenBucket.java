@@ -0,0 +1,81 @@
+package com.example.usertemplate.global.ratelimit;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 잠금 없이 동작하는 토큰 버킷임.
+ *
+ * <p>- GCRA(Generic Cell Rate Algorithm) 방식으로 "다음 토큰이 생기는 이론상 시각" 하나만 AtomicLong에 저장하고 CAS로 갱신하므로,
+ * 요청마다 객체를 만들지 않고 동시 요청에서도 잠금을 잡지 않음. - 토큰은 refillInterval마다 하나씩 생기며 최대 capacity개까지 모임(capacity개 연속
+ * 요청 허용). - 시간은 System.nanoTime() 기준임.
+ */
+public final class TokenBucket {
+
+  private final long capacity;
+  // 토큰 하나가 생기는 간격(ns)
+  private final long emissionInterval;
+  // 버킷이 가득 찬 상태에서 연속으로 허용되는 시간 폭(ns)
+  private final long burstTolerance;
+  // 다음 요청이 토큰을 소비한 뒤의 이론상 도착 시각(theoretical arrival time)
+  private final AtomicLong tat = new AtomicLong(Long.MIN_VALUE);
+
+  public TokenBucket(long capacity, long refillInterval, TimeUnit unit) {
+    if (capacity <= 0 || refillInterval <= 0) {
+      throw new IllegalArgumentException("Token bucket capacity and interval must be positive");
+    }
+    this.capacity = capacity;
+    this.emissionInterval = unit.toNanos(refillInterval);
+    this.burstTolerance = emissionInterval * capacity;
+  }
+
+  public long capacity() {
+    return capacity;
+  }
+
+  /**
+   * 토큰 하나를 소비함.
+   *
+   * @param now System.nanoTime() 값
+   * @return 소비 후 남은 토큰 수, 토큰이 없으면 -1
+   */
+  public long tryAcquire(long now) {
+    while (true) {
+      long current = tat.get();
+      long next = Math.max(current, now) + emissionInterval;
+      long used = next - now;
+      if (used > burstTolerance) {
+        return -1;
+      }
+      if (tat.compareAndSet(current, next)) {
+        return (burstTolerance - used) / emissionInterval;
+      }
+    }
+  }
+
+  // 토큰 하나가 생길 때까지 남은 시간(ns, 이미 있으면 0)
+  public long nanosUntilAvailable(long now) {
+    return Math.max(0L, Math.max(tat.get(), now) + emissionInterval - now - burstTolerance);
+  }
+
+  // 버킷이 다시 가득 찰 때까지 남은 시간(ns)
+  public long nanosUntilFull(long now) {
+    return Math.max(tat.get(), now) - now;
+  }
+
+  /**
+   * 다른 곳에서 소비된 토큰을 반영하여 버킷이 가득 찰 때까지 적어도 주어진 시간이 남도록 맞춤.
+   *
+   * <p>이미 더 많이 비어 있으면 그대로 두므로, 같은 소비가 여러 번 반영되어도 중복으로 차감되지 않음.
+   *
+   * @param now System.nanoTime() 값
+   * @param nanosUntilFull 전체 소비량 기준으로 버킷이 가득 찰 때까지 남은 시간(ns)
+   */
+  public void advanceTo(long now, long nanosUntilFull) {
+    long target = now + nanosUntilFull;
+    long current = tat.get();
+    while (current < target && !tat.compareAndSet(current, target)) {
+      current = tat.get();
+    }
+  }
+}
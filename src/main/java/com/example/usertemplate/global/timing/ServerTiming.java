@@ -0,0 +1,148 @@
+package com.example.usertemplate.global.timing;
+
+import java.util.Arrays;
+
+import jakarta.servlet.ServletRequest;
+
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+/**
+ * 요청 하나의 단계별 처리 시간을 모으는 기록기임.
+ *
+ * <p>- ServerTimingFilter가 요청마다 하나를 만들어 요청 속성에 넣으며, 단계 시간은 Stage 순서의 long 배열에 나노초로 누적하므로 기록할 때 객체를
+ * 만들지 않음. - 기능이 꺼져 있거나 요청 밖에서 조회하면 아무것도 기록하지 않는 인스턴스를 반환하므로 호출하는 쪽에서 null 검사가 필요 없음. - 요청 스레드 하나에서만
+ * 사용하므로 동기화하지 않음.
+ */
+public final class ServerTiming {
+
+  /** 기록하는 단계(name은 Server-Timing 헤더의 metric 이름). */
+  public enum Stage {
+    EXTRACT("extract"),
+    VERIFY("verify"),
+    BLACKLIST("blacklist"),
+    REVOCATION("revocation"),
+    USER("user"),
+    PASSWORD("password"),
+    CONTROLLER("controller"),
+    SERIALIZE("serialize");
+
+    private final String metricName;
+
+    Stage(String metricName) {
+      this.metricName = metricName;
+    }
+  }
+
+  static final String ATTRIBUTE = ServerTiming.class.getName();
+
+  private static final Stage[] STAGES = Stage.values();
+  private static final long NOT_STARTED = Long.MIN_VALUE;
+  private static final ServerTiming DISABLED = new ServerTiming(false);
+
+  private final boolean enabled;
+  private final long startedAt;
+  private final long[] starts;
+  private final long[] durations;
+  private long total = NOT_STARTED;
+
+  private ServerTiming(boolean enabled) {
+    this.enabled = enabled;
+    this.startedAt = enabled ? System.nanoTime() : 0L;
+    this.starts = enabled ? new long[STAGES.length] : null;
+    this.durations = enabled ? new long[STAGES.length] : null;
+    if (enabled) {
+      Arrays.fill(starts, NOT_STARTED);
+      Arrays.fill(durations, NOT_STARTED);
+    }
+  }
+
+  static ServerTiming start() {
+    return new ServerTiming(true);
+  }
+
+  // 요청에 기록기가 없으면(기능 꺼짐) 아무것도 하지 않는 인스턴스를 반환
+  public static ServerTiming from(ServletRequest request) {
+    return request.getAttribute(ATTRIBUTE) instanceof ServerTiming timing ? timing : DISABLED;
+  }
+
+  // 요청 객체를 받지 않는 서비스 계층에서 현재 요청의 기록기를 찾음
+  public static ServerTiming current() {
+    RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+    return attributes instanceof ServletRequestAttributes servletAttributes
+        ? from(servletAttributes.getRequest())
+        : DISABLED;
+  }
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  public void begin(Stage stage) {
+    if (enabled) {
+      starts[stage.ordinal()] = System.nanoTime();
+    }
+  }
+
+  // 시작하지 않은 단계는 무시하므로 여러 번 호출해도 한 번만 누적됨
+  public void end(Stage stage) {
+    if (!enabled || starts[stage.ordinal()] == NOT_STARTED) {
+      return;
+    }
+    int index = stage.ordinal();
+    long elapsed = System.nanoTime() - starts[index];
+    durations[index] = durations[index] == NOT_STARTED ? elapsed : durations[index] + elapsed;
+    starts[index] = NOT_STARTED;
+  }
+
+  void finish() {
+    if (enabled) {
+      total = System.nanoTime() - startedAt;
+    }
+  }
+
+  /** Server-Timing 헤더 값을 만듦(예: verify;dur=0.312, user;dur=1.045, total;dur=2.500). */
+  public String toHeaderValue() {
+    return format(";dur=", ", ");
+  }
+
+  /** 로그에 남길 key=value 목록을 만듦(예: verify_ms=0.312 user_ms=1.045 total_ms=2.500). */
+  public String toLogFields() {
+    return format("_ms=", " ");
+  }
+
+  // 기록된 단계만 밀리초(소수점 3자리)로 출력하며 마지막에 전체 시간을 붙임
+  private String format(String separator, String delimiter) {
+    if (!enabled) {
+      return "";
+    }
+    StringBuilder builder = new StringBuilder(160);
+    for (Stage stage : STAGES) {
+      long duration = durations[stage.ordinal()];
+      if (duration != NOT_STARTED) {
+        appendMetric(builder, stage.metricName, separator, delimiter, duration);
+      }
+    }
+    long elapsed = total != NOT_STARTED ? total : System.nanoTime() - startedAt;
+    appendMetric(builder, "total", separator, delimiter, elapsed);
+    return builder.toString();
+  }
+
+  private static void appendMetric(
+      StringBuilder builder, String name, String separator, String delimiter, long nanos) {
+    if (!builder.isEmpty()) {
+      builder.append(delimiter);
+    }
+    long micros = Math.max(nanos, 0L) / 1_000;
+    long fraction = micros % 1_000;
+    builder.append(name).append(separator).append(micros / 1_000).append('.');
+    if (fraction < 100) {
+      builder.append('0');
+    }
+    if (fraction < 10) {
+      builder.append('0');
+    }
+    builder.append(fraction);
+  }
+}
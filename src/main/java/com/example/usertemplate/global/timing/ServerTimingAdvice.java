@@ -0,0 +1,47 @@
+package com.example.usertemplate.global.timing;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import com.example.usertemplate.global.timing.ServerTiming.Stage;
+
+/**
+ * 컨트롤러가 끝나고 응답 본문을 직렬화하기 직전에 단계를 전환하는 ResponseBodyAdvice임.
+ *
+ * <p>직렬화 중에 응답이 커밋되더라도 헤더가 남도록 이 시점까지의 Server-Timing 값을 먼저 씀(커밋되지 않았다면 ServerTimingFilter가 직렬화 시간을
+ * 포함한 값으로 덮어씀).
+ */
+@ControllerAdvice
+public class ServerTimingAdvice implements ResponseBodyAdvice<Object> {
+
+  @Override
+  public boolean supports(
+      MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+    return true;
+  }
+
+  @Override
+  public Object beforeBodyWrite(
+      Object body,
+      MethodParameter returnType,
+      MediaType selectedContentType,
+      Class<? extends HttpMessageConverter<?>> selectedConverterType,
+      ServerHttpRequest request,
+      ServerHttpResponse response) {
+    if (request instanceof ServletServerHttpRequest servletRequest) {
+      ServerTiming timing = ServerTiming.from(servletRequest.getServletRequest());
+      if (timing.isEnabled()) {
+        timing.end(Stage.CONTROLLER);
+        response.getHeaders().set(ServerTimingFilter.HEADER, timing.toHeaderValue());
+        timing.begin(Stage.SERIALIZE);
+      }
+    }
+    return body;
+  }
+}
@@ -0,0 +1,140 @@
+package com.example.usertemplate.global.timing;
+
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.example.usertemplate.global.timing.ServerTiming.Stage;
+
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 요청별 단계 시간을 Server-Timing 응답 헤더와 샘플링된 로그로 내보내는 필터임.
+ *
+ * <p>- server-timing.enabled=true일 때만 동작하며, 꺼져 있으면 요청 속성도 만들지 않음. - 보안 필터 체인보다 먼저 실행되어 JWT 필터,
+ * 컨트롤러, 직렬화 시간을 모두 담음. - 직렬화가 끝난 뒤에도 헤더를 쓸 수 있도록 응답 버퍼 안에서는 flush를 미룸(버퍼보다 큰 응답은
+ * ServerTimingAdvice가 직렬화 직전에 쓴 헤더가 남음). - 로그는 server-timing.log-sample-rate 비율의 요청만 남김.
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class ServerTimingFilter extends OncePerRequestFilter {
+
+  static final String HEADER = "Server-Timing";
+
+  private final boolean enabled;
+  private final double logSampleRate;
+
+  public ServerTimingFilter(
+      @Value("${server-timing.enabled:false}") boolean enabled,
+      @Value("${server-timing.log-sample-rate:0.01}") double logSampleRate) {
+    this.enabled = enabled;
+    this.logSampleRate = logSampleRate;
+  }
+
+  @Override
+  protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+    return !enabled;
+  }
+
+  @Override
+  protected void doFilterInternal(
+      @NonNull HttpServletRequest request,
+      @NonNull HttpServletResponse response,
+      @NonNull FilterChain filterChain)
+      throws ServletException, IOException {
+    ServerTiming timing = ServerTiming.start();
+    request.setAttribute(ServerTiming.ATTRIBUTE, timing);
+
+    try {
+      filterChain.doFilter(request, new DeferredFlushResponse(response));
+    } finally {
+      timing.end(Stage.CONTROLLER);
+      timing.end(Stage.SERIALIZE);
+      timing.finish();
+      if (!response.isCommitted()) {
+        response.setHeader(HEADER, timing.toHeaderValue());
+      }
+      if (logSampleRate > 0 && ThreadLocalRandom.current().nextDouble() < logSampleRate) {
+        log.info(
+            "Server timing: method={} path={} status={} {}",
+            request.getMethod(),
+            request.getRequestURI(),
+            response.getStatus(),
+            timing.toLogFields());
+      }
+    }
+  }
+
+  // flush 요청을 무시하여 버퍼가 넘치기 전까지 응답이 커밋되지 않도록 함
+  private static final class DeferredFlushResponse extends HttpServletResponseWrapper {
+
+    private ServletOutputStream outputStream;
+
+    private DeferredFlushResponse(HttpServletResponse response) {
+      super(response);
+    }
+
+    @Override
+    public ServletOutputStream getOutputStream() throws IOException {
+      if (outputStream == null) {
+        outputStream = new DeferredFlushOutputStream(super.getOutputStream());
+      }
+      return outputStream;
+    }
+
+    @Override
+    public void flushBuffer() {}
+  }
+
+  private static final class DeferredFlushOutputStream extends ServletOutputStream {
+
+    private final ServletOutputStream delegate;
+
+    private DeferredFlushOutputStream(ServletOutputStream delegate) {
+      this.delegate = delegate;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+      delegate.write(b);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+      delegate.write(b, off, len);
+    }
+
+    @Override
+    public void flush() {}
+
+    @Override
+    public void close() throws IOException {
+      delegate.close();
+    }
+
+    @Override
+    public boolean isReady() {
+      return delegate.isReady();
+    }
+
+    @Override
+    public void setWriteListener(WriteListener writeListener) {
+      delegate.setWriteListener(writeListener);
+    }
+  }
+}
@@ -0,0 +1,50 @@
+package com.example.usertemplate.user.cache;
+
+import com.example.usertemplate.common.user.Role;
+import com.example.usertemplate.user.entity.User;
+
+/**
+ * 캐시에 저장되는 User 스냅샷임.
+ *
+ * <p>- 엔터티를 그대로 직렬화하지 않고 인증에 필요한 필드만 보관함. - 생성/수정 시각은 보관하지 않으므로 toUser()로 만든 User에서는 null임. -
+ * Redis에 비밀번호 해시가 남지 않도록 password도 보관하지 않음(toUser()의 password는 null, 로그인은 DB에서 읽음).
+ */
+public record CachedUser(
+    Long id,
+    String username,
+    String email,
+    Role role,
+    boolean enabled,
+    boolean accountNonExpired,
+    boolean accountNonLocked,
+    boolean credentialsNonExpired,
+    long securityVersion) {
+
+  public static CachedUser from(User user) {
+    return new CachedUser(
+        user.getId(),
+        user.getUsername(),
+        user.getEmail(),
+        user.getRole(),
+        user.isEnabled(),
+        user.isAccountNonExpired(),
+        user.isAccountNonLocked(),
+        user.isCredentialsNonExpired(),
+        user.getSecurityVersion());
+  }
+
+  // 영속성 컨텍스트에 속하지 않는 User 사본을 만듦.
+  public User toUser() {
+    return User.builder()
+        .id(id)
+        .username(username)
+        .email(email)
+        .role(role)
+        .enabled(enabled)
+        .accountNonExpired(accountNonExpired)
+        .accountNonLocked(accountNonLocked)
+        .credentialsNonExpired(credentialsNonExpired)
+        .securityVersion(securityVersion)
+        .build();
+  }
+}
@@ -0,0 +1,13 @@
+package com.example.usertemplate.user.cache;
+
+/**
+ * 다른 노드에 사용자 캐시 무효화를 알리는 Redis pub/sub 메시지임.
+ *
+ * @param userId 추가되거나 변경되거나 삭제된 사용자 ID
+ * @param securityVersion 변경 후 보안 버전
+ * @param deleted 삭제 여부
+ * @param username 변경 후 username(존재 인덱스에 추가, 삭제 시 null)
+ * @param email 변경 후 email(존재 인덱스에 추가, 삭제 시 null)
+ */
+public record UserCacheInvalidation(
+    Long userId, long securityVersion, boolean deleted, String username, String email) {}
@@ -0,0 +1,492 @@
+package com.example.usertemplate.user.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.function.BooleanSupplier;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import jakarta.annotation.PostConstruct;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.example.usertemplate.auth.security.UserVersionRegistry;
+import com.example.usertemplate.user.cache.UserExistenceIndex.Kind;
+import com.example.usertemplate.user.entity.User;
+import com.example.usertemplate.user.repository.UserRepository;
+import com.example.usertemplate.user.repository.UserRepository.Identifiers;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * id, username, email로 조회하는 User를 2단계로 캐싱하는 서비스임.
+ *
+ * <p>- 1단계: 노드 내부의 크기 제한 Caffeine 캐시(user.cache.local-expiration 후 만료) - 2단계: Redis(user:id:{id}에
+ * JSON, user:email:{email}에 id를 저장) - 둘 다 없으면 DB에서 조회하고 두 캐시를 채움.
+ *
+ * <p>무효화: - 사용자 변경/삭제 트랜잭션이 커밋된 뒤 user:evicted:{id} 묘비 키를 user.cache.tombstone-expiration 동안 남기고 로컬
+ * 캐시와 Redis 키를 지운 다음 user-cache:invalidate 채널로 다른 노드에 알림. - 커밋 전에 DB에서 읽은 값을 늦게 저장하는 요청이 지운 키를 되살리지
+ * 않도록, 저장은 Lua 스크립트로 묘비가 없을 때만 Redis에 쓰고 Redis에 쓴 경우에만 로컬 캐시에 올림. 따라서 DB 조회부터 저장까지가 묘비 유지시간보다 짧으면
+ * 변경 전 값이 다시 캐시되지 않음. - pub/sub 메시지를 놓친 노드도 로컬 만료시간이 지나면 최신 값을 다시 읽으므로, 삭제되거나 권한이 바뀐 사용자가 제공되는 시간은
+ * 로컬 만료시간으로 제한됨.
+ *
+ * <p>비밀번호 해시는 캐시에 저장하지 않음. 로그인 인증은 findForAuthentication()으로 DB에서 읽음.
+ *
+ * <p>없는 값: - username/email 조회와 존재 확인은 UserExistenceIndex(블룸 필터와 짧은 부정 캐시)가 없다고 확답하면 DB를 조회하지 않음. -
+ * 사용자가 추가되거나 바뀌면 무효화 메시지에 새 username/email을 담아 모든 노드의 인덱스에 추가함. - 블룸 필터는 기동 시 DB에서 만들고
+ * user.existence.rebuild-interval마다 다시 만들어 삭제된 값과 유실된 메시지를 정리함. - 메시지를 놓친 노드가 새 사용자를 없다고 답하지 않도록,
+ * 사용자를 추가한 노드는 메시지를 보내기 전에 user:added:{정규화된 값} 키를 user.existence.recent-expiration 동안 남기며 다른 노드는
+ * 없다고 답하기 전에 이 키를 확인함.
+ *
+ * <p>Redis 장애 시에는 로그만 남기고 DB 조회로 대체함.
+ */
+@Slf4j
+@Service
+public class UserCacheService implements MessageListener {
+
+  public static final String INVALIDATION_CHANNEL = "user-cache:invalidate";
+
+  private static final String ID_KEY_PREFIX = "user:id:";
+  private static final String EMAIL_KEY_PREFIX = "user:email:";
+  private static final String ADDED_KEY_PREFIX = "user:added:";
+  private static final String TOMBSTONE_KEY_PREFIX = "user:evicted:";
+  private static final int REBUILD_BATCH_SIZE = 10_000;
+
+  // 묘비(user:evicted:{id})가 없을 때만 사용자 JSON과 email 인덱스를 저장함
+  // 반환값: 저장했으면 1, 최근에 무효화되어 건너뛰었으면 0
+  private static final RedisScript<Long> STORE_SCRIPT =
+      RedisScript.of(new ClassPathResource("redis/user-cache/store.lua"), Long.class);
+
+  private final UserRepository userRepository;
+  private final RedisTemplate<String, String> redisTemplate;
+  private final ObjectMapper objectMapper;
+  private final UserVersionRegistry userVersionRegistry;
+  private final RedisMessageListenerContainer listenerContainer;
+  private final long redisExpiration;
+  private final Duration tombstoneExpiration;
+  private final boolean existenceEnabled;
+  private final UserExistenceIndex existenceIndex;
+
+  // 로컬 캐시(id -> 사용자, email -> id)
+  private final Cache<Long, CachedUser> usersById;
+  private final Cache<String, Long> idsByEmail;
+
+  public UserCacheService(
+      UserRepository userRepository,
+      RedisTemplate<String, String> redisTemplate,
+      ObjectMapper objectMapper,
+      UserVersionRegistry userVersionRegistry,
+      RedisMessageListenerContainer listenerContainer,
+      MeterRegistry meterRegistry,
+      @Value("${user.cache.local-max-size:10000}") long localMaxSize,
+      @Value("${user.cache.local-expiration:30000}") long localExpiration,
+      @Value("${user.cache.redis-expiration:300000}") long redisExpiration,
+      @Value("${user.cache.tombstone-expiration:10000}") long tombstoneExpiration,
+      @Value("${user.existence.enabled:true}") boolean existenceEnabled,
+      @Value("${user.existence.expected-insertions:1000000}") long expectedInsertions,
+      @Value("${user.existence.false-positive-rate:0.01}") double falsePositiveRate,
+      @Value("${user.existence.negative-max-size:100000}") long negativeMaxSize,
+      @Value("${user.existence.negative-expiration:10000}") long negativeExpiration,
+      @Value("${user.existence.recent-expiration:1800000}") long recentExpiration,
+      @Value("${user.existence.rebuild-interval:600000}") long rebuildInterval) {
+    if (recentExpiration <= rebuildInterval) {
+      throw new IllegalArgumentException(
+          "user.existence.recent-expiration must be longer than user.existence.rebuild-interval");
+    }
+    this.userRepository = userRepository;
+    this.redisTemplate = redisTemplate;
+    this.objectMapper = objectMapper;
+    this.userVersionRegistry = userVersionRegistry;
+    this.listenerContainer = listenerContainer;
+    this.redisExpiration = redisExpiration;
+    this.tombstoneExpiration = Duration.ofMillis(tombstoneExpiration);
+    this.existenceEnabled = existenceEnabled;
+    // username과 email을 한 필터에 담으므로 예상 개수는 사용자 수의 2배
+    this.existenceIndex =
+        new UserExistenceIndex(
+            expectedInsertions * 2,
+            falsePositiveRate,
+            negativeMaxSize,
+            negativeExpiration,
+            new RedisRecentAdditions(Duration.ofMillis(recentExpiration)),
+            recentExpiration);
+    this.usersById = newLocalCache(localMaxSize, localExpiration);
+    this.idsByEmail = newLocalCache(localMaxSize, localExpiration);
+    CaffeineCacheMetrics.monitor(meterRegistry, usersById, "user.local");
+  }
+
+  // 다른 노드의 무효화 메시지 구독
+  @PostConstruct
+  void subscribe() {
+    listenerContainer.addMessageListener(this, new ChannelTopic(INVALIDATION_CHANNEL));
+  }
+
+  // id로 사용자를 조회
+  public Optional<User> findById(Long id) {
+    CachedUser cached = getCached(id);
+    if (cached != null) {
+      return Optional.of(cached.toUser());
+    }
+    Optional<User> user = userRepository.findById(id);
+    user.ifPresent(this::store);
+    return user;
+  }
+
+  /**
+   * 로그인 인증에 쓸 사용자를 비밀번호 해시와 함께 DB에서 조회함.
+   *
+   * <p>캐시에는 비밀번호 해시가 없으므로 항상 DB를 읽음. 존재 인덱스가 없다고 확답하면 DB를 조회하지 않으며, 읽은 사용자는 이후 요청을 위해 캐시에 저장함.
+   */
+  public Optional<User> findForAuthentication(String username) {
+    if (existenceEnabled && existenceIndex.isAbsent(Kind.USERNAME, username)) {
+      return Optional.empty();
+    }
+    long epoch = existenceIndex.epoch();
+    Optional<User> user = userRepository.findByUsername(username);
+    if (user.isPresent()) {
+      store(user.get());
+    } else if (existenceEnabled) {
+      existenceIndex.recordAbsent(Kind.USERNAME, username, epoch);
+    }
+    return user;
+  }
+
+  // email로 사용자를 조회
+  public Optional<User> findByEmail(String email) {
+    return findByIndex(
+        Kind.EMAIL,
+        idsByEmail,
+        EMAIL_KEY_PREFIX,
+        email,
+        cached -> email.equals(cached.email()),
+        () -> userRepository.findByEmail(email));
+  }
+
+  // username이 이미 있는지 확인(없다고 확실하면 DB를 조회하지 않음)
+  public boolean existsByUsername(String username) {
+    return exists(Kind.USERNAME, username, () -> userRepository.existsByUsername(username));
+  }
+
+  // email이 이미 있는지 확인(없다고 확실하면 DB를 조회하지 않음)
+  public boolean existsByEmail(String email) {
+    return exists(Kind.EMAIL, email, () -> userRepository.existsByEmail(email));
+  }
+
+  /**
+   * 새 사용자를 모든 노드의 존재 인덱스에 추가함.
+   *
+   * <p>트랜잭션 안에서 호출되면 커밋 후에 실행됨.
+   */
+  public void registered(User user) {
+    evict(user, user.getEmail());
+  }
+
+  /**
+   * 사용자 변경을 캐시에 반영함.
+   *
+   * <p>트랜잭션 안에서 호출되면 커밋 후에 실행되어, 커밋 전 값이 다시 캐시에 올라가지 않도록 함.
+   *
+   * @param user 변경된 사용자
+   * @param previousEmail 변경 전 email
+   */
+  public void evict(User user, String previousEmail) {
+    UserCacheInvalidation invalidation =
+        new UserCacheInvalidation(
+            user.getId(), user.getSecurityVersion(), false, user.getUsername(), user.getEmail());
+    runAfterCommit(() -> evictAndPublish(invalidation, List.of(previousEmail, user.getEmail())));
+  }
+
+  // 사용자 삭제를 캐시에 반영함.
+  public void evictDeleted(User user) {
+    UserCacheInvalidation invalidation =
+        new UserCacheInvalidation(user.getId(), user.getSecurityVersion(), true, null, null);
+    runAfterCommit(() -> evictAndPublish(invalidation, List.of(user.getEmail())));
+  }
+
+  // 다른 노드(자기 자신 포함)에서 보낸 무효화 메시지 처리
+  @Override
+  public void onMessage(Message message, byte[] pattern) {
+    try {
+      UserCacheInvalidation invalidation =
+          objectMapper.readValue(
+              new String(message.getBody(), StandardCharsets.UTF_8), UserCacheInvalidation.class);
+      evictLocal(invalidation);
+    } catch (Exception e) {
+      log.warn("Failed to handle user cache invalidation message: {}", e.getMessage());
+    }
+  }
+
+  // 기동 시 DB의 모든 username/email로 블룸 필터를 만든 뒤 사용 시작
+  @EventListener(ApplicationReadyEvent.class)
+  public void rebuildExistenceIndex() {
+    if (!existenceEnabled) {
+      return;
+    }
+    try {
+      existenceIndex.rebuild(this::loadIdentifiers);
+    } catch (DataAccessException e) {
+      log.warn("Failed to rebuild user existence index: {}", e.getMessage());
+    }
+  }
+
+  // 삭제된 값과 유실된 pub/sub 메시지를 정리하기 위해 주기적으로 다시 만듦
+  @Scheduled(
+      fixedDelayString = "${user.existence.rebuild-interval:600000}",
+      initialDelayString = "${user.existence.rebuild-interval:600000}")
+  public void scheduledRebuildExistenceIndex() {
+    rebuildExistenceIndex();
+  }
+
+  // id 순서로 나누어 읽어 큰 테이블도 메모리에 한 번에 올리지 않음
+  private void loadIdentifiers(BiConsumer<Kind, String> sink) {
+    long afterId = 0L;
+    long loaded = 0L;
+    List<Identifiers> batch;
+    do {
+      batch = userRepository.findIdentifiersAfter(afterId, PageRequest.of(0, REBUILD_BATCH_SIZE));
+      for (Identifiers identifiers : batch) {
+        sink.accept(Kind.USERNAME, identifiers.getUsername());
+        sink.accept(Kind.EMAIL, identifiers.getEmail());
+        afterId = identifiers.getId();
+      }
+      loaded += batch.size();
+    } while (batch.size() == REBUILD_BATCH_SIZE);
+    log.info("User existence index rebuilt with {} users", loaded);
+  }
+
+  private boolean exists(Kind kind, String value, BooleanSupplier query) {
+    if (existenceEnabled && existenceIndex.isAbsent(kind, value)) {
+      return false;
+    }
+    long epoch = existenceIndex.epoch();
+    boolean exists = query.getAsBoolean();
+    if (existenceEnabled && !exists) {
+      existenceIndex.recordAbsent(kind, value, epoch);
+    }
+    return exists;
+  }
+
+  private Optional<User> findByIndex(
+      Kind kind,
+      Cache<String, Long> index,
+      String keyPrefix,
+      String value,
+      Predicate<CachedUser> matches,
+      Supplier<Optional<User>> loader) {
+    if (existenceEnabled && existenceIndex.isAbsent(kind, value)) {
+      return Optional.empty();
+    }
+    Long id = index.getIfPresent(value);
+    if (id == null) {
+      id = readRedisId(keyPrefix + value);
+    }
+    if (id != null) {
+      CachedUser cached = getCached(id);
+      // 인덱스가 오래되어 다른 사용자를 가리키면 DB에서 다시 조회
+      if (cached != null && matches.test(cached)) {
+        index.put(value, id);
+        return Optional.of(cached.toUser());
+      }
+    }
+    long epoch = existenceIndex.epoch();
+    Optional<User> user = loader.get();
+    if (user.isPresent()) {
+      store(user.get());
+    } else if (existenceEnabled) {
+      existenceIndex.recordAbsent(kind, value, epoch);
+    }
+    return user;
+  }
+
+  // 로컬 캐시 -> Redis 순서로 조회(DB는 조회하지 않음)
+  private CachedUser getCached(Long id) {
+    CachedUser cached = usersById.getIfPresent(id);
+    if (cached != null) {
+      return cached;
+    }
+    try {
+      String json = redisTemplate.opsForValue().get(ID_KEY_PREFIX + id);
+      if (json == null) {
+        return null;
+      }
+      cached = objectMapper.readValue(json, CachedUser.class);
+      putLocal(cached);
+      return cached;
+    } catch (DataAccessException | JsonProcessingException e) {
+      log.warn("Failed to read user {} from Redis cache: {}", id, e.getMessage());
+      return null;
+    }
+  }
+
+  private Long readRedisId(String key) {
+    try {
+      String id = redisTemplate.opsForValue().get(key);
+      return id != null ? Long.valueOf(id) : null;
+    } catch (DataAccessException | NumberFormatException e) {
+      log.warn("Failed to read user index {} from Redis cache: {}", key, e.getMessage());
+      return null;
+    }
+  }
+
+  // DB에서 읽은 사용자를 두 캐시에 저장(최근에 무효화된 사용자이면 변경 전 값일 수 있으므로 저장하지 않음)
+  private void store(User user) {
+    CachedUser cached = CachedUser.from(user);
+    String id = String.valueOf(cached.id());
+    try {
+      Long stored =
+          redisTemplate.execute(
+              STORE_SCRIPT,
+              List.of(
+                  ID_KEY_PREFIX + id, EMAIL_KEY_PREFIX + cached.email(), TOMBSTONE_KEY_PREFIX + id),
+              objectMapper.writeValueAsString(cached),
+              id,
+              String.valueOf(redisExpiration));
+      if (stored == null || stored == 0L) {
+        return;
+      }
+    } catch (DataAccessException | JsonProcessingException e) {
+      // Redis 장애 시에는 묘비를 확인할 수 없으므로 로컬 캐시에만 저장(로컬 만료시간으로 제한됨)
+      log.warn("Failed to write user {} to Redis cache: {}", cached.id(), e.getMessage());
+    }
+    putLocal(cached);
+  }
+
+  private void putLocal(CachedUser cached) {
+    usersById.put(cached.id(), cached);
+    idsByEmail.put(cached.email(), cached.id());
+  }
+
+  private void evictAndPublish(UserCacheInvalidation invalidation, List<String> emails) {
+    evictLocal(invalidation);
+
+    List<String> keys = new ArrayList<>();
+    keys.add(ID_KEY_PREFIX + invalidation.userId());
+    emails.forEach(email -> keys.add(EMAIL_KEY_PREFIX + email));
+    emails.forEach(idsByEmail::invalidate);
+
+    try {
+      // 묘비를 먼저 남겨 삭제 이후의 늦은 저장을 막고, 묘비 이전에 끝난 저장은 삭제로 지움
+      String tombstone = TOMBSTONE_KEY_PREFIX + invalidation.userId();
+      redisTemplate.executePipelined(
+          new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+              RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+              ops.opsForValue().set(tombstone, "1", tombstoneExpiration);
+              ops.delete(keys);
+              return null;
+            }
+          });
+      if (existenceEnabled) {
+        publishPresent(invalidation);
+      }
+      redisTemplate.convertAndSend(
+          INVALIDATION_CHANNEL, objectMapper.writeValueAsString(invalidation));
+    } catch (DataAccessException | JsonProcessingException e) {
+      log.warn(
+          "Failed to invalidate user {} in Redis cache: {}", invalidation.userId(), e.getMessage());
+    }
+  }
+
+  // 메시지를 놓친 노드도 새 username/email을 알 수 있도록 메시지보다 먼저 기록
+  private void publishPresent(UserCacheInvalidation invalidation) {
+    if (invalidation.username() != null) {
+      existenceIndex.publishPresent(Kind.USERNAME, invalidation.username());
+    }
+    if (invalidation.email() != null) {
+      existenceIndex.publishPresent(Kind.EMAIL, invalidation.email());
+    }
+  }
+
+  // 로컬 캐시를 비우고 무상태 주체 모드의 보안 버전과 존재 인덱스를 갱신
+  private void evictLocal(UserCacheInvalidation invalidation) {
+    usersById.invalidate(invalidation.userId());
+    if (invalidation.username() != null) {
+      existenceIndex.markPresent(Kind.USERNAME, invalidation.username());
+    }
+    if (invalidation.email() != null) {
+      existenceIndex.markPresent(Kind.EMAIL, invalidation.email());
+    }
+    if (invalidation.deleted()) {
+      userVersionRegistry.markDeleted(invalidation.userId());
+    } else {
+      userVersionRegistry.recordVersion(invalidation.userId(), invalidation.securityVersion());
+    }
+  }
+
+  private void runAfterCommit(Runnable action) {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(
+          new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+              action.run();
+            }
+          });
+    } else {
+      action.run();
+    }
+  }
+
+  private static <K, V> Cache<K, V> newLocalCache(long maxSize, long expiration) {
+    return Caffeine.newBuilder()
+        .maximumSize(maxSize)
+        .expireAfterWrite(expiration, TimeUnit.MILLISECONDS)
+        .recordStats()
+        .build();
+  }
+
+  // 최근 추가된 username/email을 user:added:{정규화된 값} 키로 공유
+  private final class RedisRecentAdditions implements UserExistenceIndex.RecentAdditions {
+
+    private final Duration expiration;
+
+    private RedisRecentAdditions(Duration expiration) {
+      this.expiration = expiration;
+    }
+
+    @Override
+    public void add(String key) {
+      redisTemplate.opsForValue().set(ADDED_KEY_PREFIX + key, "1", expiration);
+    }
+
+    @Override
+    public boolean contains(String key) {
+      try {
+        return Boolean.TRUE.equals(redisTemplate.hasKey(ADDED_KEY_PREFIX + key));
+      } catch (DataAccessException e) {
+        log.warn("Failed to read recent user addition {}: {}", key, e.getMessage());
+        return true;
+      }
+    }
+  }
+}
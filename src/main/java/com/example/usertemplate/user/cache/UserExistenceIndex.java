@@ -0,0 +1,215 @@
+package com.example.usertemplate.user.cache;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+import com.example.usertemplate.global.bloom.BloomFilter;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * username과 email이 DB에 없다는 것을 DB 조회 없이 판단하기 위한 인덱스임.
+ *
+ * <p>- 블룸 필터: 존재하는 모든 username/email을 담으며, 필터에 없으면 DB에도 없는 것이 확실함. 삭제를 지원하지 않으므로 삭제되거나 바뀐 값은 다음
+ * 재구성(rebuild) 전까지 거짓 양성으로 남음. - 부정 캐시: DB에서 없다고 확인된 값을 짧은 시간 동안 기억하여 블룸 필터의 거짓 양성과 재구성 전 상태를 보완함.
+ * - 경합 방지: 값이 추가될 때마다 epoch를 올리고, 조회 전에 읽은 epoch가 그 사이 바뀌었으면 부정 결과를 저장하지 않음. 따라서 조회 도중 커밋된 가입이 부정
+ * 캐시에 남지 않음. - MySQL 기본 collation은 대소문자와 악센트를 구분하지 않으므로 블룸 필터와 부정 캐시의 키는 그보다 거칠게 정규화하며, 부정 캐시는 조회한
+ * 원래 값이 같을 때만 사용함. - 노드 간 일관성: 다른 노드에서 추가된 값은 pub/sub 메시지로 전달되며, 메시지가 늦거나 유실되어도 없다고 잘못 답하지 않도록 "없음"
+ * 판단은 모두 최근 추가 목록(RecentAdditions, Redis)으로 확인함. 최근 추가 목록은 recentExpiration 동안만 값을 기억하므로 마지막 재구성이
+ * 그보다 오래되었으면 블룸 필터의 부정 결과를 사용하지 않음.
+ */
+public class UserExistenceIndex {
+
+  /** 인덱스가 담는 값의 종류임. */
+  public enum Kind {
+    USERNAME("u:"),
+    EMAIL("e:");
+
+    private final String prefix;
+
+    Kind(String prefix) {
+      this.prefix = prefix;
+    }
+  }
+
+  /** 노드 간에 공유하는 최근 추가 값 목록임. */
+  public interface RecentAdditions {
+
+    // 정규화된 키를 기록(실패하면 예외를 던짐)
+    void add(String key);
+
+    // 정규화된 키가 기록되어 있는지 확인(확인할 수 없으면 true를 반환하여 DB를 조회하게 함)
+    boolean contains(String key);
+  }
+
+  private final long expectedInsertions;
+  private final double falsePositiveRate;
+  private final AtomicLong epoch = new AtomicLong();
+  // 정규화된 키 -> 없다고 확인된 원래 값과 조회 전 epoch
+  private final Cache<String, Absence> absences;
+  private final RecentAdditions recentAdditions;
+  private final long recentExpiration;
+  // 재구성 중인 필터들(재구성 도중 추가된 값을 놓치지 않기 위해 함께 기록)
+  private final Set<BloomFilter> rebuilding = ConcurrentHashMap.newKeySet();
+  // 필터 교체에만 사용(DB를 읽는 동안에는 잡지 않음)
+  private final ReentrantLock swapLock = new ReentrantLock();
+
+  private volatile BloomFilter filter;
+  // 첫 재구성이 끝나기 전에는 필터가 비어 있으므로 사용하지 않음
+  private volatile boolean ready;
+  // 마지막으로 성공한 재구성의 시작 시각(ms)
+  private volatile long rebuiltAt;
+
+  public UserExistenceIndex(
+      long expectedInsertions,
+      double falsePositiveRate,
+      long negativeMaxSize,
+      long negativeExpiration,
+      RecentAdditions recentAdditions,
+      long recentExpiration) {
+    this.expectedInsertions = expectedInsertions;
+    this.falsePositiveRate = falsePositiveRate;
+    this.filter = newFilter();
+    this.absences =
+        Caffeine.newBuilder()
+            .maximumSize(negativeMaxSize)
+            .expireAfterWrite(negativeExpiration, TimeUnit.MILLISECONDS)
+            .build();
+    this.recentAdditions = recentAdditions;
+    this.recentExpiration = recentExpiration;
+  }
+
+  // 조회 전에 읽어 recordAbsent()에 넘기는 값
+  public long epoch() {
+    return epoch.get();
+  }
+
+  /**
+   * true면 DB에 없는 것이 확실함(false는 DB 조회가 필요함을 뜻함).
+   *
+   * <p>블룸 필터나 부정 캐시가 없다고 답해도 다른 노드에서 최근 추가된 값이면 이 노드의 인덱스에 추가하고 false를 반환함.
+   */
+  public boolean isAbsent(Kind kind, String value) {
+    String key = key(kind, value);
+    boolean absent = isFilterFresh() && !filter.mightContain(key);
+    if (!absent) {
+      Absence absence = absences.getIfPresent(key);
+      absent = absence != null && absence.value().equals(value);
+    }
+    if (absent && recentAdditions.contains(key)) {
+      // 다른 노드의 추가 메시지를 아직 받지 못했거나 놓침
+      markPresent(kind, value);
+      return false;
+    }
+    return absent;
+  }
+
+  /**
+   * DB 조회 결과 값이 없었음을 기록함.
+   *
+   * @param startEpoch 조회 전에 읽은 epoch()
+   */
+  public void recordAbsent(Kind kind, String value, long startEpoch) {
+    String key = key(kind, value);
+    Absence absence = new Absence(value, startEpoch);
+    absences.put(key, absence);
+    // 조회 도중 값이 추가되었으면 방금 넣은 결과가 오래된 것일 수 있으므로 되돌림
+    if (epoch.get() != startEpoch) {
+      absences.asMap().remove(key, absence);
+    }
+  }
+
+  /**
+   * 이 노드에서 추가한 값을 최근 추가 목록에 기록함(커밋 후, 다른 노드에 메시지를 보내기 전에 호출).
+   *
+   * @throws RuntimeException 목록에 기록하지 못한 경우
+   */
+  public void publishPresent(Kind kind, String value) {
+    recentAdditions.add(key(kind, value));
+  }
+
+  /**
+   * 값이 DB에 추가되었음을 기록함(커밋 후 호출).
+   *
+   * <p>epoch를 올린 뒤 부정 캐시를 지우므로, 진행 중인 조회가 이 값을 없다고 기록해도 recordAbsent()에서 되돌려짐.
+   */
+  public void markPresent(Kind kind, String value) {
+    String key = key(kind, value);
+    long hash = BloomFilter.hash(key);
+    // 재구성 중인 필터를 먼저 읽어야 교체 직전에 추가된 값을 놓치지 않음
+    BloomFilter[] next = rebuilding.toArray(BloomFilter[]::new);
+    filter.add(hash);
+    for (BloomFilter target : next) {
+      target.add(hash);
+    }
+    epoch.incrementAndGet();
+    absences.invalidate(key);
+  }
+
+  /**
+   * 새 필터를 만들어 loader가 넘기는 모든 값을 담은 뒤 교체함.
+   *
+   * <p>삭제된 값의 거짓 양성을 없애기 위해 주기적으로 호출함. loader가 예외를 던지면 기존 필터를 그대로 사용함. DB를 읽는 동안에는 잠금을 잡지 않고(가상
+   * 스레드가 캐리어 스레드에 고정되지 않도록) 교체할 때만 ReentrantLock을 사용함. 재구성이 겹치면 더 나중에 시작한 필터가 남음.
+   *
+   * @param loader DB의 모든 username/email을 넘기는 함수
+   */
+  public void rebuild(Consumer<BiConsumer<Kind, String>> loader) {
+    long startedAt = System.currentTimeMillis();
+    BloomFilter next = newFilter();
+    rebuilding.add(next);
+    try {
+      loader.accept((kind, value) -> next.add(key(kind, value)));
+      swapLock.lock();
+      try {
+        if (!ready || startedAt >= rebuiltAt) {
+          filter = next;
+          rebuiltAt = startedAt;
+          ready = true;
+        }
+      } finally {
+        swapLock.unlock();
+      }
+    } finally {
+      rebuilding.remove(next);
+    }
+  }
+
+  public boolean isReady() {
+    return ready;
+  }
+
+  // 재구성 후에 추가된 값이 아직 최근 추가 목록에 남아 있어야 필터의 부정 결과를 믿을 수 있음
+  private boolean isFilterFresh() {
+    return ready && System.currentTimeMillis() - rebuiltAt < recentExpiration;
+  }
+
+  private BloomFilter newFilter() {
+    return new BloomFilter(expectedInsertions, falsePositiveRate);
+  }
+
+  /**
+   * 악센트 제거, 소문자, 앞뒤 공백 제거로 값을 정규화함.
+   *
+   * <p>DB collation보다 거칠어야 거짓 음성이 없으며, DB에서 같은 행을 가리키는 값을 하나의 키로 묶어야 하는 곳(로그인 실패 기록 등)에서도 사용함.
+   */
+  public static String normalize(String value) {
+    return Normalizer.normalize(value, Normalizer.Form.NFD)
+        .replaceAll("\\p{M}", "")
+        .toLowerCase(Locale.ROOT)
+        .strip();
+  }
+
+  private static String key(Kind kind, String value) {
+    return kind.prefix + normalize(value);
+  }
+
+  private record Absence(String value, long epoch) {}
+}
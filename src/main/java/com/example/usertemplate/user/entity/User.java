@@ -9,10 +9,13 @@ import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 
+import org.hibernate.annotations.ColumnDefault;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
+import com.example.usertemplate.common.user.Role;
+import com.example.usertemplate.common.user.UserAccount;
 import com.example.usertemplate.global.common.BaseEntity;
 
 import lombok.*;
@@ -26,7 +29,7 @@ import lombok.*;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-public class User extends BaseEntity implements UserDetails {
+public class User extends BaseEntity implements UserDetails, UserAccount {
 
   // PK
   @Id
@@ -64,6 +67,17 @@ public class User extends BaseEntity implements UserDetails {
 
   @Builder.Default private boolean credentialsNonExpired = true;
 
+  // 보안 버전(권한, 계정 상태, 자격 증명이 바뀔 때마다 증가하며 토큰의 ver 클레임과 비교됨)
+  @Column(nullable = false)
+  @ColumnDefault("0")
+  @Builder.Default
+  private long securityVersion = 0L;
+
+  // 토큰에 담긴 사용자 정보를 무효화해야 하는 변경이 생기면 호출
+  public void bumpSecurityVersion() {
+    this.securityVersion++;
+  }
+
   @Override
   public Collection<? extends GrantedAuthority> getAuthorities() {
     return Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + role.name()));
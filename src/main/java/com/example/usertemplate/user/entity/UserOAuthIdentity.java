@@ -0,0 +1,47 @@
+package com.example.usertemplate.user.entity;
+
+import jakarta.persistence.*;
+
+import com.example.usertemplate.global.common.BaseEntity;
+
+import lombok.*;
+
+/**
+ * OAuth 제공자의 사용자 ID(provider, oauthId)와 User를 연결하는 엔터티임.
+ *
+ * <p>- 재로그인 시 이메일 대신 제공자 ID로 사용자를 찾기 위해 사용함(이메일을 주지 않는 카카오 사용자도 같은 방식으로 찾음). - 사용자 삭제 시 함께 지우지 않으며,
+ * 연결된 사용자가 없으면 다음 로그인에서 새 사용자로 다시 연결됨.
+ */
+@Entity
+@Table(
+    name = "user_oauth_identities",
+    uniqueConstraints =
+        @UniqueConstraint(
+            name = "uk_user_oauth_identities_provider_oauth_id",
+            columnNames = {"provider", "oauth_id"}),
+    indexes = @Index(name = "idx_user_oauth_identities_user_id", columnList = "user_id"))
+@Getter
+@Setter
+@ToString(callSuper = true)
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UserOAuthIdentity extends BaseEntity {
+
+  // PK
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+
+  // OAuth 클라이언트 등록 ID(google, naver, kakao)
+  @Column(nullable = false, length = 20)
+  private String provider;
+
+  // 제공자가 발급한 사용자 ID
+  @Column(name = "oauth_id", nullable = false, length = 100)
+  private String oauthId;
+
+  // 연결된 사용자 ID
+  @Column(name = "user_id", nullable = false)
+  private Long userId;
+}
@@ -0,0 +1,15 @@
+package com.example.usertemplate.user.repository;
+
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.example.usertemplate.user.entity.UserOAuthIdentity;
+
+/** JPA를 사용하는 UserOAuthIdentityRepository임. */
+@Repository
+public interface UserOAuthIdentityRepository extends JpaRepository<UserOAuthIdentity, Long> {
+  // 제공자와 제공자의 사용자 ID로 연결 정보를 찾음.
+  Optional<UserOAuthIdentity> findByProviderAndOauthId(String provider, String oauthId);
+}
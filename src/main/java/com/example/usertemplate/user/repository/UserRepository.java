@@ -1,8 +1,12 @@
 package com.example.usertemplate.user.repository;
 
+import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.example.usertemplate.user.entity.User;
@@ -21,4 +25,27 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
   // email로 유저를 찾음.
   Optional<User> findByEmail(String email);
+
+  // pattern(LIKE, 이스케이프 문자 !)에 맞고 maxLength 이하인 username을 길이와 사전 역순으로 읽음(OAuth username 번호 초기화용).
+  @Query(
+      "select u.username from User u where u.username like :pattern escape '!'"
+          + " and length(u.username) <= :maxLength"
+          + " order by length(u.username) desc, u.username desc")
+  List<String> findUsernamesLike(
+      @Param("pattern") String pattern, @Param("maxLength") int maxLength, Pageable pageable);
+
+  // afterId 다음부터 id 순서로 username과 email만 읽음(존재 인덱스 재구성용).
+  @Query(
+      "select u.id as id, u.username as username, u.email as email from User u"
+          + " where u.id > :afterId order by u.id")
+  List<Identifiers> findIdentifiersAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+  /** 존재 인덱스 재구성에 필요한 컬럼만 읽기 위한 projection임. */
+  interface Identifiers {
+    Long getId();
+
+    String getUsername();
+
+    String getEmail();
+  }
 }
@@ -1,7 +1,7 @@
 package com.example.usertemplate.user.service;
 
-import com.example.usertemplate.user.dto.UserResponse;
-import com.example.usertemplate.user.dto.UserUpdateRequest;
+import com.example.usertemplate.common.user.UserResponse;
+import com.example.usertemplate.common.user.UserUpdateRequest;
 import com.example.usertemplate.user.entity.User;
 
 /** 유저 로직을 처리하는 UserService임. */
@@ -21,4 +21,7 @@ public interface UserService {
 
   // 이메일로 유저 엔터티를 가져옴 (내부 사용용).
   User findUserByEmail(String email);
+
+  // id로 유저 엔터티를 가져옴 (내부 사용용).
+  User findUserById(Long id);
 }
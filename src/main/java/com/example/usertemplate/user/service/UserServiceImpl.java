@@ -5,9 +5,11 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.transaction.support.TransactionTemplate;
 
-import com.example.usertemplate.global.exception.BusinessException;
-import com.example.usertemplate.user.dto.UserResponse;
-import com.example.usertemplate.user.dto.UserUpdateRequest;
+import com.example.usertemplate.auth.token.TokenRevocationService;
+import com.example.usertemplate.common.exception.BusinessException;
+import com.example.usertemplate.common.user.UserResponse;
+import com.example.usertemplate.common.user.UserUpdateRequest;
+import com.example.usertemplate.user.cache.UserCacheService;
 import com.example.usertemplate.user.entity.User;
 import com.example.usertemplate.user.repository.UserRepository;
 
@@ -22,6 +24,8 @@ public class UserServiceImpl implements UserService {
   private final UserRepository userRepository;
   private final PasswordEncoder passwordEncoder;
   private final TransactionTemplate transactionTemplate;
+  private final UserCacheService userCacheService;
+  private final TokenRevocationService tokenRevocationService;
 
   @Override
   @Transactional(readOnly = true)
@@ -54,9 +58,17 @@ public class UserServiceImpl implements UserService {
 
           if (request.password() != null) {
             user.setPassword(passwordEncoder.encode(request.password()));
+            // 자격 증명이 바뀌었으므로 보안 버전을 올림
+            user.bumpSecurityVersion();
           }
 
           User updatedUser = userRepository.save(user);
+          userCacheService.evict(updatedUser, updatedUser.getEmail());
+
+          // 비밀번호가 바뀌면 다른 기기에 발급된 토큰을 모두 폐기
+          if (request.password() != null) {
+            tokenRevocationService.revokeAllTokens(userId);
+          }
 
           log.info(
               "🎯 Optimized user self-updated profile successfully: User ID: {}",
@@ -77,6 +89,7 @@ public class UserServiceImpl implements UserService {
             .orElseThrow(() -> new BusinessException("User not found", 404, "USER_NOT_FOUND"));
 
     userRepository.delete(user);
+    userCacheService.evictDeleted(user);
 
     log.info("User deleted successfully: {}", userId);
   }
@@ -91,11 +104,19 @@ public class UserServiceImpl implements UserService {
     return UserResponse.from(user);
   }
 
+  // 토큰 재발급 시 매번 호출되므로 사용자 캐시를 통해 조회함.
   @Override
-  @Transactional(readOnly = true)
   public User findUserByEmail(String email) {
-    return userRepository
+    return userCacheService
         .findByEmail(email)
         .orElseThrow(() -> new BusinessException("User not found", 404, "USER_NOT_FOUND"));
   }
+
+  // 토큰 재발급 시 Access Token의 subject로 사용자 캐시를 통해 조회함.
+  @Override
+  public User findUserById(Long id) {
+    return userCacheService
+        .findById(id)
+        .orElseThrow(() -> new BusinessException("User not found", 404, "USER_NOT_FOUND"));
+  }
 }
@@ -0,0 +1,3 @@
+local next = redis.call('INCR', KEYS[1])
+redis.call('PEXPIRE', KEYS[1], ARGV[1])
+return next
@@ -0,0 +1,17 @@
+local time = redis.call('TIME')
+local now = time[1] * 1000000 + time[2]
+local result = {}
+
+for i, key in ipairs(KEYS) do
+  local consumed = tonumber(ARGV[i * 2 - 1])
+  local interval = tonumber(ARGV[i * 2])
+  local tat = tonumber(redis.call('GET', key) or now)
+  if tat < now then
+    tat = now
+  end
+  tat = tat + consumed * interval
+  redis.call('SET', key, string.format('%.0f', tat), 'PX', math.floor((tat - now) / 1000) + 1)
+  result[i] = tat - now
+end
+
+return result
@@ -0,0 +1,10 @@
+local time = redis.call('TIME')
+local now = time[1] * 1000 + math.floor(time[2] / 1000)
+local id = redis.call('HGET', KEYS[3], ARGV[1])
+if not id then return nil end
+local expiresAt = redis.call('ZSCORE', KEYS[1], id)
+local data = redis.call('HGET', KEYS[2], id)
+if not expiresAt or tonumber(expiresAt) <= now or not data then return nil end
+local session = cjson.decode(data)
+if session.accessTokenHash ~= ARGV[1] then return nil end
+return {id, session.refreshToken}
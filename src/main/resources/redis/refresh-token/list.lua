@@ -0,0 +1,22 @@
+local time = redis.call('TIME')
+local now = time[1] * 1000 + math.floor(time[2] / 1000)
+for _, id in ipairs(redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', now)) do
+  local data = redis.call('HGET', KEYS[2], id)
+  if data then redis.call('HDEL', KEYS[3], cjson.decode(data).accessTokenHash) end
+  redis.call('HDEL', KEYS[2], id)
+end
+redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', now)
+local entries = redis.call('ZRANGE', KEYS[1], 0, -1, 'WITHSCORES')
+local result = {}
+for i = 1, #entries, 2 do
+  local data = redis.call('HGET', KEYS[2], entries[i])
+  if data then
+    local session = cjson.decode(data)
+    table.insert(result, entries[i])
+    table.insert(result, session.accessTokenHash)
+    table.insert(result, session.createdAt)
+    table.insert(result, session.lastUsedAt)
+    table.insert(result, entries[i + 1])
+  end
+end
+return result
@@ -0,0 +1,43 @@
+local time = redis.call('TIME')
+local now = time[1] * 1000 + math.floor(time[2] / 1000)
+local ttl = tonumber(ARGV[4])
+local function remove(id)
+  local data = redis.call('HGET', KEYS[2], id)
+  if data then redis.call('HDEL', KEYS[3], cjson.decode(data).accessTokenHash) end
+  redis.call('HDEL', KEYS[2], id)
+  redis.call('ZREM', KEYS[1], id)
+end
+for _, id in ipairs(redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', now)) do remove(id) end
+for _, hash in ipairs(redis.call('ZRANGEBYSCORE', KEYS[5], '-inf', now)) do
+  redis.call('HDEL', KEYS[4], hash)
+end
+redis.call('ZREMRANGEBYSCORE', KEYS[5], '-inf', now)
+local id = redis.call('HGET', KEYS[3], ARGV[1])
+if not id then
+  local used = redis.call('HGET', KEYS[4], ARGV[1])
+  if not used then return {0} end
+  local separator = string.find(used, ':', 1, true)
+  local rotatedAt = tonumber(string.sub(used, 1, separator - 1))
+  local usedId = string.sub(used, separator + 1)
+  if now - rotatedAt <= tonumber(ARGV[5]) then return {2, usedId} end
+  remove(usedId)
+  return {3, usedId}
+end
+local data = redis.call('HGET', KEYS[2], id)
+if not data then return {0} end
+local session = cjson.decode(data)
+if session.accessTokenHash ~= ARGV[1] then return {0} end
+local previousRefreshToken = session.refreshToken
+session.refreshToken = ARGV[2]
+session.accessTokenHash = ARGV[3]
+session.lastUsedAt = string.format('%d', now)
+redis.call('HDEL', KEYS[3], ARGV[1])
+redis.call('HSET', KEYS[4], ARGV[1], string.format('%d', now) .. ':' .. id)
+redis.call('ZADD', KEYS[5], now + ttl, ARGV[1])
+redis.call('HSET', KEYS[2], id, cjson.encode(session))
+redis.call('HSET', KEYS[3], ARGV[3], id)
+redis.call('ZADD', KEYS[1], now + ttl, id)
+for i = 1, #KEYS do
+  if redis.call('PTTL', KEYS[i]) < ttl then redis.call('PEXPIRE', KEYS[i], ttl) end
+end
+return {1, id, previousRefreshToken}
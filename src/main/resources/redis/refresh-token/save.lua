@@ -0,0 +1,26 @@
+local time = redis.call('TIME')
+local now = time[1] * 1000 + math.floor(time[2] / 1000)
+local ttl = tonumber(ARGV[4])
+local function remove(id)
+  local data = redis.call('HGET', KEYS[2], id)
+  if data then redis.call('HDEL', KEYS[3], cjson.decode(data).accessTokenHash) end
+  redis.call('HDEL', KEYS[2], id)
+  redis.call('ZREM', KEYS[1], id)
+end
+for _, id in ipairs(redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', now)) do remove(id) end
+for _, hash in ipairs(redis.call('ZRANGEBYSCORE', KEYS[5], '-inf', now)) do
+  redis.call('HDEL', KEYS[4], hash)
+end
+redis.call('ZREMRANGEBYSCORE', KEYS[5], '-inf', now)
+local createdAt = ARGV[6] ~= '' and ARGV[6] or string.format('%d', now)
+redis.call('HSET', KEYS[2], ARGV[1], cjson.encode({refreshToken = ARGV[2],
+    accessTokenHash = ARGV[3], createdAt = createdAt, lastUsedAt = string.format('%d', now)}))
+redis.call('HSET', KEYS[3], ARGV[3], ARGV[1])
+redis.call('ZADD', KEYS[1], now + ttl, ARGV[1])
+for i = 1, 3 do
+  if redis.call('PTTL', KEYS[i]) < ttl then redis.call('PEXPIRE', KEYS[i], ttl) end
+end
+local excess = redis.call('ZCARD', KEYS[1]) - tonumber(ARGV[5])
+if excess <= 0 then return 0 end
+for _, id in ipairs(redis.call('ZRANGE', KEYS[1], 0, excess - 1)) do remove(id) end
+return excess
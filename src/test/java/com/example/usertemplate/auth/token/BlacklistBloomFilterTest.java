@@ -0,0 +1,48 @@
+package com.example.usertemplate.auth.token;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class BlacklistBloomFilterTest {
+
+  private static final long ROTATION_PERIOD = 100;
+
+  @Test
+  void addedKeysAreFoundAndOthersAreNot() {
+    BlacklistBloomFilter filter = new BlacklistBloomFilter(1_000, 0.001, 60_000);
+
+    filter.add("bl:a");
+
+    assertThat(filter.mightContain("bl:a")).isTrue();
+    assertThat(filter.mightContain("bl:b")).isFalse();
+  }
+
+  @Test
+  void keySurvivesOneRotationAndIsDroppedAfterTwo() throws InterruptedException {
+    BlacklistBloomFilter filter = new BlacklistBloomFilter(1_000, 0.001, ROTATION_PERIOD);
+    filter.add("bl:a");
+
+    // 첫 교체 후에는 이전 세대에 남아 있음
+    Thread.sleep(ROTATION_PERIOD + 20);
+    assertThat(filter.mightContain("bl:a")).isTrue();
+    filter.add("bl:b");
+
+    // 두 번째 교체 후에는 두 세대 모두에서 사라지고, 그 사이에 추가한 키는 이전 세대에 남음
+    Thread.sleep(ROTATION_PERIOD + 20);
+    assertThat(filter.mightContain("bl:a")).isFalse();
+    assertThat(filter.mightContain("bl:b")).isTrue();
+  }
+
+  @Test
+  void keyAddedAfterRotationGoesToNewGeneration() throws InterruptedException {
+    BlacklistBloomFilter filter = new BlacklistBloomFilter(1_000, 0.001, ROTATION_PERIOD);
+
+    Thread.sleep(ROTATION_PERIOD + 20);
+    // 교체 시각이 지난 뒤의 추가는 교체된 새 세대에 들어가므로 한 번 더 교체되어도 남음
+    filter.add("bl:a");
+    Thread.sleep(ROTATION_PERIOD + 20);
+
+    assertThat(filter.mightContain("bl:a")).isTrue();
+  }
+}
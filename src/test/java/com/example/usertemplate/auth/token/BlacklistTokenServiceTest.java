@@ -0,0 +1,154 @@
+package com.example.usertemplate.auth.token;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import com.example.usertemplate.auth.security.VerifiedToken;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import redis.embedded.RedisServer;
+
+class BlacklistTokenServiceTest {
+
+  private static final byte[] CHANNEL = BlacklistTokenService.BLACKLIST_CHANNEL.getBytes();
+
+  private static RedisServer redisServer;
+  private static LettuceConnectionFactory connectionFactory;
+  private static StringRedisTemplate redisTemplate;
+
+  // onChannelSubscribed()가 넘긴 재동기화 작업(테스트에서 직접 실행)
+  private final List<Runnable> resyncTasks = new ArrayList<>();
+  private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private BlacklistTokenService service;
+
+  @BeforeAll
+  static void startRedis() throws IOException {
+    int port;
+    try (ServerSocket socket = new ServerSocket(0)) {
+      port = socket.getLocalPort();
+    }
+    redisServer = new RedisServer(port);
+    redisServer.start();
+    connectionFactory =
+        new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", port));
+    connectionFactory.afterPropertiesSet();
+    redisTemplate = new StringRedisTemplate(connectionFactory);
+  }
+
+  @AfterAll
+  static void stopRedis() throws IOException {
+    connectionFactory.destroy();
+    redisServer.stop();
+  }
+
+  @BeforeEach
+  void setUp() {
+    redisTemplate.execute(
+        (RedisCallback<Void>)
+            connection -> {
+              connection.serverCommands().flushAll();
+              return null;
+            });
+    service =
+        new BlacklistTokenService(
+            redisTemplate,
+            null,
+            meterRegistry,
+            false,
+            true,
+            1_000,
+            0.001,
+            60_000,
+            resyncTasks::add);
+  }
+
+  @Test
+  void lookupsGoToRedisUntilSubscribedAndSynced() {
+    // 필터에 없는 키(다른 노드가 구독 전에 등록)
+    blacklistInRedis("before");
+
+    // 구독 전에는 기동 시 스캔이 성공해도 필터를 쓰지 않음
+    service.rebuildBloomFilter();
+    assertThat(isBlacklisted("before")).isTrue();
+    assertThat(isBlacklisted("unknown")).isFalse();
+
+    // 구독이 확인되어도 스캔이 끝나기 전에는 Redis로 조회함
+    service.onChannelSubscribed(CHANNEL, 1);
+    assertThat(resyncTasks).hasSize(1);
+    blacklistInRedis("pending");
+    assertThat(isBlacklisted("pending")).isTrue();
+    assertThat(bloomLookups("negative")).isZero();
+
+    resyncTasks.remove(0).run();
+
+    assertThat(isBlacklisted("before")).isTrue();
+    assertThat(isBlacklisted("pending")).isTrue();
+    assertThat(isBlacklisted("unknown")).isFalse();
+    assertThat(bloomLookups("negative")).isEqualTo(1);
+    assertThat(bloomLookups("true_positive")).isEqualTo(2);
+  }
+
+  @Test
+  void unsubscribeFallsBackToRedisUntilResynced() {
+    service.onChannelSubscribed(CHANNEL, 1);
+    resyncTasks.remove(0).run();
+
+    // 메시지를 받지 못한 키는 구독이 유지되는 동안 필터에서 걸러짐(재동기화 주기만큼 늦게 반영)
+    blacklistInRedis("missed");
+    assertThat(isBlacklisted("missed")).isFalse();
+
+    service.onChannelUnsubscribed(CHANNEL, 0);
+    assertThat(isBlacklisted("missed")).isTrue();
+
+    service.onChannelSubscribed(CHANNEL, 1);
+    assertThat(isBlacklisted("missed")).isTrue();
+
+    resyncTasks.remove(0).run();
+    assertThat(isBlacklisted("missed")).isTrue();
+    assertThat(isBlacklisted("unknown")).isFalse();
+  }
+
+  @Test
+  void addedTokensAreFoundThroughFilter() {
+    service.onChannelSubscribed(CHANNEL, 1);
+    resyncTasks.remove(0).run();
+
+    service.addToBlacklist(token("added"), "access-token");
+
+    assertThat(isBlacklisted("added")).isTrue();
+    assertThat(redisTemplate.getExpire("bl:added")).isPositive();
+  }
+
+  private boolean isBlacklisted(String tokenId) {
+    return service.isBlacklisted(token(tokenId), "access-token");
+  }
+
+  private static void blacklistInRedis(String tokenId) {
+    redisTemplate.opsForValue().set("bl:" + tokenId, "blacklisted", Duration.ofMinutes(1));
+  }
+
+  private double bloomLookups(String result) {
+    return meterRegistry.get("jwt.blacklist.bloom.lookups").tag("result", result).counter().count();
+  }
+
+  private static VerifiedToken token(String tokenId) {
+    long now = System.currentTimeMillis();
+    return new VerifiedToken(tokenId, 1L, new Date(now), new Date(now + 60_000), null);
+  }
+}
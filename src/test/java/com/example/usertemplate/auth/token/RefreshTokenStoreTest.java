@@ -0,0 +1,176 @@
+package com.example.usertemplate.auth.token;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import com.example.usertemplate.common.auth.RefreshTokenRotation;
+import com.example.usertemplate.common.auth.RefreshTokenRotation.Status;
+
+import io.lettuce.core.cluster.SlotHash;
+import redis.embedded.RedisServer;
+
+class RefreshTokenStoreTest {
+
+  private static final long USER_ID = 1L;
+  private static final long REFRESH_EXPIRATION = 60_000;
+
+  private static RedisServer redisServer;
+  private static LettuceConnectionFactory connectionFactory;
+  private static StringRedisTemplate redisTemplate;
+
+  @BeforeAll
+  static void startRedis() throws IOException {
+    int port;
+    try (ServerSocket socket = new ServerSocket(0)) {
+      port = socket.getLocalPort();
+    }
+    redisServer = new RedisServer(port);
+    redisServer.start();
+    connectionFactory =
+        new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", port));
+    connectionFactory.afterPropertiesSet();
+    redisTemplate = new StringRedisTemplate(connectionFactory);
+  }
+
+  @AfterAll
+  static void stopRedis() throws IOException {
+    connectionFactory.destroy();
+    redisServer.stop();
+  }
+
+  @BeforeEach
+  void flush() {
+    redisTemplate.execute(
+        (RedisCallback<Void>)
+            connection -> {
+              connection.serverCommands().flushAll();
+              return null;
+            });
+  }
+
+  @Test
+  void rotateReplacesTokenPair() {
+    RefreshTokenStore store = newStore(10_000);
+    store.save(USER_ID, "refresh-1", "access-1");
+
+    RefreshTokenRotation rotation = store.rotate(USER_ID, "access-1", "access-2", "refresh-2");
+
+    assertThat(rotation.status()).isEqualTo(Status.ROTATED);
+    assertThat(rotation.previousRefreshToken()).isEqualTo("refresh-1");
+    assertThat(store.findByAccessToken(USER_ID, "access-1")).isEmpty();
+    assertThat(store.findByAccessToken(USER_ID, "access-2"))
+        .hasValueSatisfying(
+            token -> {
+              assertThat(token.getId()).isEqualTo(rotation.id());
+              assertThat(token.getRefreshToken()).isEqualTo("refresh-2");
+            });
+  }
+
+  @Test
+  void rotateUnknownTokenIsNotFound() {
+    RefreshTokenStore store = newStore(10_000);
+    store.save(USER_ID, "refresh-1", "access-1");
+
+    assertThat(store.rotate(USER_ID, "unknown", "access-2", "refresh-2").status())
+        .isEqualTo(Status.NOT_FOUND);
+    // 다른 사용자의 키에서는 찾지 않음
+    assertThat(store.rotate(2L, "access-1", "access-2", "refresh-2").status())
+        .isEqualTo(Status.NOT_FOUND);
+    assertThat(store.findByAccessToken(USER_ID, "access-1")).isPresent();
+  }
+
+  @Test
+  void reuseWithinGracePeriodIsConcurrentAndKeepsSession() {
+    RefreshTokenStore store = newStore(60_000);
+    store.save(USER_ID, "refresh-1", "access-1");
+    RefreshTokenRotation rotated = store.rotate(USER_ID, "access-1", "access-2", "refresh-2");
+
+    RefreshTokenRotation concurrent = store.rotate(USER_ID, "access-1", "access-3", "refresh-3");
+
+    assertThat(concurrent.status()).isEqualTo(Status.CONCURRENT);
+    assertThat(concurrent.id()).isEqualTo(rotated.id());
+    assertThat(store.findByAccessToken(USER_ID, "access-2")).isPresent();
+    assertThat(store.findByAccessToken(USER_ID, "access-3")).isEmpty();
+  }
+
+  @Test
+  void reuseAfterGracePeriodRevokesWholeSession() throws InterruptedException {
+    RefreshTokenStore store = newStore(0);
+    store.save(USER_ID, "refresh-other", "access-other");
+    store.save(USER_ID, "refresh-1", "access-1");
+    RefreshTokenRotation rotated = store.rotate(USER_ID, "access-1", "access-2", "refresh-2");
+    Thread.sleep(5);
+
+    RefreshTokenRotation reused = store.rotate(USER_ID, "access-1", "access-3", "refresh-3");
+
+    assertThat(reused.status()).isEqualTo(Status.REUSED);
+    assertThat(reused.id()).isEqualTo(rotated.id());
+    // 세션, 현재 Access Token 매핑, 세션 목록의 항목이 모두 삭제되고 다른 세션은 남음
+    List<String> keys = RefreshTokenStore.keys(USER_ID);
+    assertThat(store.findByAccessToken(USER_ID, "access-2")).isEmpty();
+    assertThat(redisTemplate.opsForHash().hasKey(keys.get(1), rotated.id())).isFalse();
+    assertThat(redisTemplate.opsForHash().hasKey(keys.get(2), RefreshTokenStore.hash("access-2")))
+        .isFalse();
+    assertThat(store.findSessions(USER_ID))
+        .extracting(RefreshTokenSession::id)
+        .doesNotContain(rotated.id())
+        .hasSize(1);
+    assertThat(store.rotate(USER_ID, "access-2", "access-4", "refresh-4").status())
+        .isEqualTo(Status.NOT_FOUND);
+  }
+
+  @Test
+  void saveEvictsLeastRecentlyUsedSession() {
+    RefreshTokenStore store = newStore(10_000, 2);
+    store.save(USER_ID, "refresh-1", "access-1");
+    store.save(USER_ID, "refresh-2", "access-2");
+    store.rotate(USER_ID, "access-1", "access-1b", "refresh-1b");
+
+    store.save(USER_ID, "refresh-3", "access-3");
+
+    assertThat(store.findSessions(USER_ID)).hasSize(2);
+    assertThat(store.findByAccessToken(USER_ID, "access-2")).isEmpty();
+    assertThat(store.findByAccessToken(USER_ID, "access-1b")).isPresent();
+    assertThat(store.findByAccessToken(USER_ID, "access-3")).isPresent();
+  }
+
+  @Test
+  void deleteRequiresOwner() {
+    RefreshTokenStore store = newStore(10_000);
+    store.save(USER_ID, "refresh-1", "access-1");
+    String sessionId = store.findByAccessToken(USER_ID, "access-1").orElseThrow().getId();
+
+    assertThat(store.delete(sessionId, 2L)).isFalse();
+    assertThat(store.delete(sessionId, USER_ID)).isTrue();
+    assertThat(store.findByAccessToken(USER_ID, "access-1")).isEmpty();
+    assertThat(store.findSessions(USER_ID)).isEmpty();
+  }
+
+  @Test
+  void userKeysShareOneClusterSlot() {
+    List<String> keys = RefreshTokenStore.keys(USER_ID);
+
+    assertThat(keys).extracting(SlotHash::getSlot).containsOnly(SlotHash.getSlot(keys.get(0)));
+  }
+
+  private static RefreshTokenStore newStore(long reuseGracePeriod) {
+    return newStore(reuseGracePeriod, 5);
+  }
+
+  private static RefreshTokenStore newStore(long reuseGracePeriod, int maxSessionsPerUser) {
+    return new RefreshTokenStore(
+        redisTemplate, null, REFRESH_EXPIRATION, reuseGracePeriod, maxSessionsPerUser);
+  }
+}
@@ -0,0 +1,145 @@
+package com.example.usertemplate.global.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import com.example.usertemplate.user.entity.User;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class ApiRateLimitFilterTest {
+
+  private static final String USER_PATH = "/api/v1/users/me";
+  private static final String ADMIN_PATH = "/api/v1/admin/users";
+
+  private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  @AfterEach
+  void clearAuthentication() {
+    SecurityContextHolder.clearContext();
+  }
+
+  @Test
+  void setsRateLimitHeadersAndRejectsAfterBurst() throws Exception {
+    ApiRateLimitFilter filter = newFilter(true, 3, 10_000);
+    authenticate(1L);
+
+    for (int remaining = 2; remaining >= 0; remaining--) {
+      MockHttpServletResponse response = new MockHttpServletResponse();
+      MockFilterChain chain = new MockFilterChain();
+      filter.doFilter(request(USER_PATH), response, chain);
+
+      assertThat(chain.getRequest()).isNotNull();
+      assertThat(response.getStatus()).isEqualTo(200);
+      assertThat(response.getHeader(ApiRateLimitFilter.LIMIT_HEADER)).isEqualTo("3");
+      assertThat(response.getHeader(ApiRateLimitFilter.REMAINING_HEADER))
+          .isEqualTo(String.valueOf(remaining));
+      // 소비한 토큰이 모두 다시 찰 때까지의 초(올림)
+      assertThat(response.getHeader(ApiRateLimitFilter.RESET_HEADER))
+          .isEqualTo(String.valueOf((3 - remaining) * 10));
+    }
+
+    MockHttpServletResponse rejected = new MockHttpServletResponse();
+    MockFilterChain chain = new MockFilterChain();
+    filter.doFilter(request(USER_PATH), rejected, chain);
+
+    assertThat(chain.getRequest()).isNull();
+    assertThat(rejected.getStatus()).isEqualTo(429);
+    assertThat(rejected.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("10");
+    assertThat(rejected.getHeader(ApiRateLimitFilter.REMAINING_HEADER)).isEqualTo("0");
+    assertThat(rejected.getHeader(ApiRateLimitFilter.RESET_HEADER)).isEqualTo("30");
+    assertThat(rejected.getContentAsString()).contains("API_RATE_LIMITED");
+    assertThat(
+            meterRegistry.get("api.rate.limit.rejected").tag("route", "default").counter().count())
+        .isEqualTo(1);
+  }
+
+  @Test
+  void refillsAfterInterval() throws Exception {
+    ApiRateLimitFilter filter = newFilter(true, 2, 50);
+    authenticate(1L);
+    filter.doFilter(request(USER_PATH), new MockHttpServletResponse(), new MockFilterChain());
+    filter.doFilter(request(USER_PATH), new MockHttpServletResponse(), new MockFilterChain());
+    MockHttpServletResponse rejected = new MockHttpServletResponse();
+    filter.doFilter(request(USER_PATH), rejected, new MockFilterChain());
+    assertThat(rejected.getStatus()).isEqualTo(429);
+
+    Thread.sleep(60);
+
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    filter.doFilter(request(USER_PATH), response, new MockFilterChain());
+    assertThat(response.getStatus()).isEqualTo(200);
+  }
+
+  @Test
+  void usersAndRoutesHaveSeparateBuckets() throws Exception {
+    ApiRateLimitFilter filter = newFilter(true, 1, 1_000);
+    authenticate(1L);
+    filter.doFilter(request(USER_PATH), new MockHttpServletResponse(), new MockFilterChain());
+
+    // 관리자 경로는 admin 버킷(크기 2)을 씀
+    MockHttpServletResponse admin = new MockHttpServletResponse();
+    filter.doFilter(request(ADMIN_PATH), admin, new MockFilterChain());
+    assertThat(admin.getStatus()).isEqualTo(200);
+    assertThat(admin.getHeader(ApiRateLimitFilter.LIMIT_HEADER)).isEqualTo("2");
+    assertThat(admin.getHeader(ApiRateLimitFilter.REMAINING_HEADER)).isEqualTo("1");
+
+    authenticate(2L);
+    MockHttpServletResponse other = new MockHttpServletResponse();
+    filter.doFilter(request(USER_PATH), other, new MockFilterChain());
+    assertThat(other.getStatus()).isEqualTo(200);
+  }
+
+  @Test
+  void skipsUnauthenticatedAndDisabled() throws Exception {
+    MockHttpServletResponse anonymous = new MockHttpServletResponse();
+    MockFilterChain anonymousChain = new MockFilterChain();
+    newFilter(true, 1, 1_000).doFilter(request(USER_PATH), anonymous, anonymousChain);
+    assertThat(anonymousChain.getRequest()).isNotNull();
+    assertThat(anonymous.getHeader(ApiRateLimitFilter.LIMIT_HEADER)).isNull();
+
+    ApiRateLimitFilter disabled = newFilter(false, 1, 1_000);
+    authenticate(1L);
+    for (int i = 0; i < 3; i++) {
+      MockHttpServletResponse response = new MockHttpServletResponse();
+      disabled.doFilter(request(USER_PATH), response, new MockFilterChain());
+      assertThat(response.getStatus()).isEqualTo(200);
+      assertThat(response.getHeader(ApiRateLimitFilter.LIMIT_HEADER)).isNull();
+    }
+  }
+
+  private ApiRateLimitFilter newFilter(boolean enabled, long capacity, long refillInterval) {
+    return new ApiRateLimitFilter(
+        null,
+        new ObjectMapper().findAndRegisterModules(),
+        meterRegistry,
+        enabled,
+        capacity,
+        refillInterval,
+        2,
+        1_000);
+  }
+
+  private static MockHttpServletRequest request(String path) {
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", path);
+    request.setRequestURI(path);
+    return request;
+  }
+
+  private static void authenticate(Long userId) {
+    User user = User.builder().id(userId).username("user" + userId).build();
+    SecurityContextHolder.getContext()
+        .setAuthentication(
+            new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities()));
+  }
+}
@@ -0,0 +1,79 @@
+package com.example.usertemplate.global.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+class TokenBucketTest {
+
+  private static final long INTERVAL = TimeUnit.MILLISECONDS.toNanos(100);
+  private static final long START = 1_000_000_000L;
+
+  private final TokenBucket bucket = new TokenBucket(3, 100, TimeUnit.MILLISECONDS);
+
+  @Test
+  void fullBucketAllowsBurstOfCapacity() {
+    assertThat(bucket.tryAcquire(START)).isEqualTo(2);
+    assertThat(bucket.tryAcquire(START)).isEqualTo(1);
+    assertThat(bucket.tryAcquire(START)).isZero();
+    assertThat(bucket.tryAcquire(START)).isEqualTo(-1);
+    // 거절된 요청은 토큰을 소비하지 않음
+    assertThat(bucket.nanosUntilFull(START)).isEqualTo(3 * INTERVAL);
+  }
+
+  @Test
+  void tokensRefillOnePerInterval() {
+    drain(START);
+
+    assertThat(bucket.tryAcquire(START + INTERVAL - 1)).isEqualTo(-1);
+    assertThat(bucket.tryAcquire(START + INTERVAL)).isZero();
+    assertThat(bucket.tryAcquire(START + INTERVAL)).isEqualTo(-1);
+
+    // 비어 있던 버킷도 capacity개까지만 다시 모임
+    long later = START + 10 * INTERVAL;
+    assertThat(bucket.nanosUntilFull(later)).isZero();
+    drain(later);
+  }
+
+  @Test
+  void retryAfterIsTimeUntilNextToken() {
+    assertThat(bucket.nanosUntilAvailable(START)).isZero();
+
+    drain(START);
+
+    assertThat(bucket.nanosUntilAvailable(START)).isEqualTo(INTERVAL);
+    assertThat(bucket.nanosUntilAvailable(START + INTERVAL / 4)).isEqualTo(INTERVAL * 3 / 4);
+    assertThat(bucket.nanosUntilAvailable(START + INTERVAL)).isZero();
+    assertThat(bucket.nanosUntilFull(START + INTERVAL)).isEqualTo(2 * INTERVAL);
+  }
+
+  @Test
+  void advanceToAppliesRemoteConsumptionOnce() {
+    bucket.advanceTo(START, 2 * INTERVAL);
+    // 같은 소비량을 다시 반영하거나 더 작은 값을 반영해도 더 차감되지 않음
+    bucket.advanceTo(START, 2 * INTERVAL);
+    bucket.advanceTo(START, INTERVAL);
+
+    assertThat(bucket.nanosUntilFull(START)).isEqualTo(2 * INTERVAL);
+    assertThat(bucket.tryAcquire(START)).isZero();
+    assertThat(bucket.tryAcquire(START)).isEqualTo(-1);
+  }
+
+  @Test
+  void rejectsNonPositiveSettings() {
+    assertThatThrownBy(() -> new TokenBucket(0, 100, TimeUnit.MILLISECONDS))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> new TokenBucket(3, 0, TimeUnit.MILLISECONDS))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  private void drain(long now) {
+    for (long i = bucket.capacity() - 1; i >= 0; i--) {
+      assertThat(bucket.tryAcquire(now)).isEqualTo(i);
+    }
+    assertThat(bucket.tryAcquire(now)).isEqualTo(-1);
+  }
+}
@@ -0,0 +1,247 @@
+package com.example.usertemplate.user.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.usertemplate.user.cache.UserExistenceIndex.Kind;
+
+class UserExistenceIndexTest {
+
+  // 노드 간에 공유하는 Redis 역할
+  private final InMemoryRecentAdditions recentAdditions = new InMemoryRecentAdditions();
+  private final UserExistenceIndex index = newIndex(60_000);
+
+  @Test
+  void unknownValuesAreAbsentOnlyAfterRebuild() {
+    assertThat(index.isAbsent(Kind.USERNAME, "alice")).isFalse();
+
+    index.rebuild(sink -> sink.accept(Kind.USERNAME, "bob"));
+
+    assertThat(index.isAbsent(Kind.USERNAME, "alice")).isTrue();
+    assertThat(index.isAbsent(Kind.USERNAME, "bob")).isFalse();
+    assertThat(index.isAbsent(Kind.EMAIL, "bob")).isTrue();
+  }
+
+  @Test
+  void filterIsCoarserThanCaseAndAccentInsensitiveCollation() {
+    index.rebuild(sink -> sink.accept(Kind.USERNAME, "José"));
+
+    assertThat(index.isAbsent(Kind.USERNAME, "JOSE")).isFalse();
+    assertThat(index.isAbsent(Kind.USERNAME, "jose ")).isFalse();
+  }
+
+  @Test
+  void negativeResultIsDroppedWhenRegistrationCommitsDuringLookup() {
+    long epoch = index.epoch();
+    // 조회가 DB를 읽은 뒤, 결과를 기록하기 전에 다른 요청의 가입이 커밋됨
+    index.markPresent(Kind.USERNAME, "alice");
+    index.recordAbsent(Kind.USERNAME, "alice", epoch);
+
+    assertThat(index.isAbsent(Kind.USERNAME, "alice")).isFalse();
+  }
+
+  @Test
+  void registrationInvalidatesEarlierNegativeResultForAnyCaseVariant() {
+    index.recordAbsent(Kind.USERNAME, "Alice", index.epoch());
+    assertThat(index.isAbsent(Kind.USERNAME, "Alice")).isTrue();
+
+    index.markPresent(Kind.USERNAME, "alice");
+
+    assertThat(index.isAbsent(Kind.USERNAME, "Alice")).isFalse();
+  }
+
+  @Test
+  void negativeResultIsOnlyUsedForTheExactValue() {
+    index.recordAbsent(Kind.EMAIL, "Alice@example.com", index.epoch());
+
+    assertThat(index.isAbsent(Kind.EMAIL, "alice@example.com")).isFalse();
+  }
+
+  @Test
+  void registrationDuringRebuildIsKept() {
+    index.rebuild(
+        sink -> {
+          sink.accept(Kind.USERNAME, "bob");
+          // DB를 읽는 도중 커밋된 가입은 새 필터에도 기록되어야 함
+          index.markPresent(Kind.USERNAME, "carol");
+        });
+
+    assertThat(index.isAbsent(Kind.USERNAME, "carol")).isFalse();
+  }
+
+  @Test
+  void slowRebuildDoesNotBlockAnotherRebuild() throws Exception {
+    CountDownLatch loading = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      // DB를 오래 읽는 재구성이 진행 중이어도 다른 재구성과 가입 기록은 기다리지 않아야 함
+      Future<?> slow =
+          executor.submit(
+              () ->
+                  index.rebuild(
+                      sink -> {
+                        sink.accept(Kind.USERNAME, "bob");
+                        loading.countDown();
+                        try {
+                          release.await();
+                        } catch (InterruptedException e) {
+                          Thread.currentThread().interrupt();
+                        }
+                      }));
+      assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+
+      assertTimeoutPreemptively(
+          Duration.ofSeconds(5),
+          () -> {
+            index.rebuild(sink -> sink.accept(Kind.USERNAME, "bob"));
+            index.markPresent(Kind.USERNAME, "carol");
+          });
+      assertThat(index.isAbsent(Kind.USERNAME, "dave")).isTrue();
+
+      release.countDown();
+      slow.get(5, TimeUnit.SECONDS);
+    } finally {
+      executor.shutdownNow();
+    }
+
+    assertThat(index.isAbsent(Kind.USERNAME, "bob")).isFalse();
+    assertThat(index.isAbsent(Kind.USERNAME, "carol")).isFalse();
+  }
+
+  @Test
+  void failedRebuildKeepsPreviousFilter() {
+    index.rebuild(sink -> sink.accept(Kind.USERNAME, "bob"));
+
+    try {
+      index.rebuild(
+          sink -> {
+            throw new IllegalStateException("database unavailable");
+          });
+    } catch (IllegalStateException expected) {
+      // 기존 필터를 계속 사용해야 함
+    }
+
+    assertThat(index.isReady()).isTrue();
+    assertThat(index.isAbsent(Kind.USERNAME, "bob")).isFalse();
+  }
+
+  @Test
+  void registeredValuesAreNeverReportedAbsentUnderConcurrentLookups() throws Exception {
+    index.rebuild(sink -> {});
+    // DB 역할(가입은 커밋 후 markPresent, 조회는 UserCacheService와 같은 순서로 실행)
+    Set<String> database = ConcurrentHashMap.newKeySet();
+    int users = 2_000;
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+    CountDownLatch start = new CountDownLatch(1);
+    List<Future<?>> futures = new ArrayList<>();
+    try {
+      futures.add(
+          executor.submit(
+              () -> {
+                start.await();
+                for (int i = 0; i < users; i++) {
+                  String username = "user" + i;
+                  database.add(username);
+                  index.markPresent(Kind.USERNAME, username);
+                }
+                return null;
+              }));
+      for (int worker = 0; worker < 7; worker++) {
+        futures.add(
+            executor.submit(
+                () -> {
+                  start.await();
+                  for (int i = 0; i < users * 5; i++) {
+                    String username = "user" + ThreadLocalRandom.current().nextInt(users);
+                    if (index.isAbsent(Kind.USERNAME, username)) {
+                      continue;
+                    }
+                    long epoch = index.epoch();
+                    if (!database.contains(username)) {
+                      index.recordAbsent(Kind.USERNAME, username, epoch);
+                    }
+                  }
+                  return null;
+                }));
+      }
+      start.countDown();
+      for (Future<?> future : futures) {
+        future.get();
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+
+    for (int i = 0; i < users; i++) {
+      assertThat(index.isAbsent(Kind.USERNAME, "user" + i)).as("user%d", i).isFalse();
+    }
+  }
+
+  @Test
+  void valueAddedOnAnotherNodeIsNotAbsentWhenInvalidationMessageIsLost() {
+    UserExistenceIndex other = newIndex(60_000);
+    index.rebuild(sink -> {});
+    other.rebuild(sink -> {});
+    other.recordAbsent(Kind.USERNAME, "alice", other.epoch());
+
+    // 다른 노드에서 가입이 커밋되었지만 이 노드는 무효화 메시지를 받지 못함
+    other.publishPresent(Kind.USERNAME, "alice");
+    other.markPresent(Kind.USERNAME, "alice");
+
+    assertThat(index.isAbsent(Kind.USERNAME, "Alice")).isFalse();
+    assertThat(index.isAbsent(Kind.USERNAME, "alice")).isFalse();
+    assertThat(other.isAbsent(Kind.USERNAME, "alice")).isFalse();
+  }
+
+  @Test
+  void filterNegativesAreNotUsedWhenRebuildIsOlderThanRecentAdditions() {
+    UserExistenceIndex stale = newIndex(0);
+    stale.rebuild(sink -> sink.accept(Kind.USERNAME, "bob"));
+
+    assertThat(stale.isReady()).isTrue();
+    assertThat(stale.isAbsent(Kind.USERNAME, "alice")).isFalse();
+  }
+
+  @Test
+  void unavailableRecentAdditionsFallBackToDatabase() {
+    recentAdditions.available = false;
+    index.rebuild(sink -> {});
+
+    assertThat(index.isAbsent(Kind.USERNAME, "alice")).isFalse();
+  }
+
+  private UserExistenceIndex newIndex(long recentExpiration) {
+    return new UserExistenceIndex(10_000, 0.01, 10_000, 60_000, recentAdditions, recentExpiration);
+  }
+
+  private static class InMemoryRecentAdditions implements UserExistenceIndex.RecentAdditions {
+
+    private final Set<String> keys = ConcurrentHashMap.newKeySet();
+    private volatile boolean available = true;
+
+    @Override
+    public void add(String key) {
+      keys.add(key);
+    }
+
+    @Override
+    public boolean contains(String key) {
+      return !available || keys.contains(key);
+    }
+  }
+}